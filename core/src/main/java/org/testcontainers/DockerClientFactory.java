@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
+import org.jetbrains.annotations.Nullable;
 import org.rnorth.visibleassertions.VisibleAssertions;
 import org.testcontainers.dockerclient.*;
 import org.testcontainers.utility.ComparableVersion;
@@ -26,9 +27,11 @@ import java.io.InputStream;
 import java.net.Socket;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -41,13 +44,22 @@ import java.util.function.Consumer;
 public class DockerClientFactory {
 
     private static final String TINY_IMAGE = TestcontainersConfiguration.getInstance().getTinyImage();
-    private static DockerClientFactory instance;
+    private static final DockerClientFactory INSTANCE = new DockerClientFactory();
 
-    // Cached client configuration
-    private DockerClientProviderStrategy strategy;
-    private boolean preconditionsChecked = false;
+    private static final PreflightCheckCache CHECKS_CACHE = new PreflightCheckCache(
+            TestcontainersConfiguration.getInstance().getChecksCacheFile(),
+            TestcontainersConfiguration.getInstance().getChecksCacheTtl());
+
+    // Cached client configuration; the volatile client is written last, once initialization has completed
+    private volatile DockerClientProviderStrategy strategy;
+    private volatile boolean preconditionsChecked = false;
     private String activeApiVersion;
     private String activeExecutionDriver;
+    private volatile DockerClient client;
+
+    // Daemons which containers may be placed on, primary first
+    private volatile List<DockerDaemon> daemons;
+    private volatile PlacementPolicy placementPolicy;
 
     static {
         System.setProperty("org.testcontainers.shaded.io.netty.packagePrefix", "org.testcontainers.shaded.");
@@ -65,23 +77,34 @@ public class DockerClientFactory {
      *
      * @return the singleton instance of DockerClientFactory
      */
-    public synchronized static DockerClientFactory instance() {
-        if (instance == null) {
-            instance = new DockerClientFactory();
-        }
-
-        return instance;
+    public static DockerClientFactory instance() {
+        return INSTANCE;
     }
 
     /**
+     * Once initialized, the same thread-safe client is returned to all callers without locking.
      *
-     * @return a new initialized Docker client
+     * @return an initialized Docker client
      */
-    @Synchronized
     public DockerClient client() {
+        final DockerClient initializedClient = client;
+        if (initializedClient != null) {
+            return initializedClient;
+        }
+
+        return initializeClient();
+    }
+
+    @Synchronized
+    private DockerClient initializeClient() {
+        if (client != null) {
+            return client;
+        }
 
         if (strategy != null) {
-            return strategy.getClient();
+            // a strategy was found, but the checks failed; as before, don't repeat them
+            client = strategy.getClient();
+            return client;
         }
 
         List<DockerClientProviderStrategy> configurationStrategies = new ArrayList<DockerClientProviderStrategy>();
@@ -105,32 +128,191 @@ public class DockerClientFactory {
                     "  Total Memory: " + dockerInfo.getMemTotal() / (1024 * 1024) + " MB");
 
             if (!TestcontainersConfiguration.getInstance().isDisableChecks()) {
-                VisibleAssertions.info("Checking the system...");
+                final String checksCacheKey = PreflightCheckCache.key(
+                        dockerInfo.getId(), dockerInfo.getServerVersion(), hostIpAddress, TINY_IMAGE);
+
+                // environments which are not remembered across JVMs, such as a fake engine, are checked every time
+                final boolean cacheChecks = strategy.isPersistable();
+
+                if (cacheChecks && CHECKS_CACHE.isFresh(checksCacheKey)) {
+                    VisibleAssertions.info("Docker environment passed the system checks recently; skipping them");
+                    if (TestcontainersConfiguration.getInstance().isChecksCacheRevalidationEnabled()) {
+                        revalidateInBackground(client, hostIpAddress, version, checksCacheKey);
+                    }
+                } else {
+                    runChecks(client, hostIpAddress, version);
+                    if (cacheChecks) {
+                        CHECKS_CACHE.recordSuccess(checksCacheKey);
+                    }
+                }
+            }
+            preconditionsChecked = true;
+        }
 
-                checkDockerVersion(version.getVersion());
+        this.client = client;
+        return client;
+    }
 
-                MountableFile mountableFile = MountableFile.forClasspathResource(this.getClass().getName().replace(".", "/") + ".class");
+    /**
+     * @return the daemons which containers may be placed on; the first is the primary daemon, as used by
+     * {@link #client()}, followed by any configured with the <code>docker.daemons</code> property or added with
+     * {@link #addDaemon(DockerClientProviderStrategy)}
+     */
+    public List<DockerDaemon> getDaemons() {
+        return Collections.unmodifiableList(daemonPool());
+    }
 
-                runInsideDocker(
-                        client,
-                        cmd -> cmd
-                                .withCmd("/bin/sh", "-c", "while true; do printf 'hello' | nc -l -p 80; done")
-                                .withBinds(new Bind(mountableFile.getResolvedPath(), new Volume("/dummy"), AccessMode.ro))
-                                .withExposedPorts(new ExposedPort(80))
-                                .withPublishAllPorts(true),
-                        (dockerClient, id) -> {
+    private List<DockerDaemon> daemonPool() {
+        final List<DockerDaemon> initializedDaemons = daemons;
+        if (initializedDaemons != null) {
+            return initializedDaemons;
+        }
+
+        return initializeDaemons();
+    }
+
+    /**
+     * @return the daemon found by the usual Docker environment discovery
+     */
+    public DockerDaemon primaryDaemon() {
+        return daemonPool().get(0);
+    }
+
+    @Synchronized
+    private List<DockerDaemon> initializeDaemons() {
+        if (daemons != null) {
+            return daemons;
+        }
 
-                            checkDiskSpace(dockerClient, id);
-                            checkMountableFile(dockerClient, id);
-                            checkExposedPort(hostIpAddress, dockerClient, id);
+        client();
+        final List<DockerDaemon> pool = new CopyOnWriteArrayList<>();
+        pool.add(new DockerDaemon("primary Docker daemon", strategy, true));
 
-                            return null;
-                        });
+        for (String dockerHost : TestcontainersConfiguration.getInstance().getDockerDaemons()) {
+            final DockerClientProviderStrategy hostStrategy = new DockerHostClientProviderStrategy(dockerHost);
+            try {
+                hostStrategy.test();
+                pool.add(new DockerDaemon(dockerHost, hostStrategy, false));
+                log.info("Added Docker daemon at {} to the pool", dockerHost);
+            } catch (InvalidConfigurationException e) {
+                log.warn("Could not connect to Docker daemon at {}; containers will not be placed on it", dockerHost, e);
             }
-            preconditionsChecked = true;
         }
 
-        return client;
+        if (placementPolicy == null) {
+            placementPolicy = PlacementPolicy.forName(TestcontainersConfiguration.getInstance().getDockerDaemonPlacementPolicy());
+        }
+
+        daemons = pool;
+        return pool;
+    }
+
+    /**
+     * Add a Docker daemon which containers may be placed on.
+     *
+     * @param daemonStrategy a strategy connecting to the daemon, which is tested before it is added
+     * @return the added daemon
+     * @throws InvalidConfigurationException if the strategy's test fails
+     */
+    public DockerDaemon addDaemon(DockerClientProviderStrategy daemonStrategy) {
+        daemonStrategy.test();
+        final DockerDaemon daemon = new DockerDaemon(daemonStrategy.getDescription(), daemonStrategy, false);
+        daemonPool().add(daemon);
+        return daemon;
+    }
+
+    /**
+     * @param placementPolicy the policy choosing the daemon for each new container
+     */
+    public void setPlacementPolicy(PlacementPolicy placementPolicy) {
+        daemonPool();
+        this.placementPolicy = placementPolicy;
+    }
+
+    /**
+     * Choose the daemon for a new container. With a single daemon, this is always the primary daemon. The container
+     * should be counted with {@link DockerDaemon#containerPlaced()} at once, so that containers placed after it see
+     * it, and released if it cannot be created.
+     *
+     * @return the daemon to create the container with
+     */
+    public DockerDaemon placeContainer() {
+        return placeContainer(findTestClass());
+    }
+
+    /**
+     * Choose the daemon for a new container, as {@link #placeContainer()}.
+     *
+     * @param testClass the test class the container belongs to, as found by {@link #findTestClass()} when the
+     *                  container was built, or null if unknown
+     * @return the daemon to create the container with
+     */
+    public DockerDaemon placeContainer(@Nullable String testClass) {
+        final List<DockerDaemon> pool = getDaemons();
+        return pool.size() == 1 ? pool.get(0) : placementPolicy.place(pool, testClass);
+    }
+
+    /**
+     * @return the name of the outermost class on the stack before entering Testcontainers, i.e. usually the test
+     * class creating a container
+     */
+    public static String findTestClass() {
+        for (StackTraceElement element : new Throwable().getStackTrace()) {
+            final String className = element.getClassName();
+            if (className.startsWith("org.testcontainers.containers.")
+                    || className.startsWith("org.testcontainers.dockerclient.")
+                    || className.startsWith(DockerClientFactory.class.getName())
+                    || className.startsWith("java.")
+                    || className.startsWith("sun.")) {
+                continue;
+            }
+
+            final int nested = className.indexOf('$');
+            return nested > 0 ? className.substring(0, nested) : className;
+        }
+        return null;
+    }
+
+    private void runChecks(DockerClient client, String hostIpAddress, Version version) {
+        VisibleAssertions.info("Checking the system...");
+
+        checkDockerVersion(version.getVersion());
+
+        MountableFile mountableFile = MountableFile.forClasspathResource(this.getClass().getName().replace(".", "/") + ".class");
+
+        runInsideDocker(
+                client,
+                cmd -> cmd
+                        .withCmd("/bin/sh", "-c", "while true; do printf 'hello' | nc -l -p 80; done")
+                        .withBinds(new Bind(mountableFile.getResolvedPath(), new Volume("/dummy"), AccessMode.ro))
+                        .withExposedPorts(new ExposedPort(80))
+                        .withPublishAllPorts(true),
+                (dockerClient, id) -> {
+
+                    checkDiskSpace(dockerClient, id);
+                    checkMountableFile(dockerClient, id);
+                    checkExposedPort(hostIpAddress, dockerClient, id);
+
+                    return null;
+                });
+    }
+
+    /**
+     * Confirm cached check results without delaying the caller. If the checks now fail, the cached result is dropped,
+     * so that the next JVM runs the checks and reports the failure.
+     */
+    private void revalidateInBackground(DockerClient client, String hostIpAddress, Version version, String checksCacheKey) {
+        final Thread thread = new Thread(() -> {
+            try {
+                runChecks(client, hostIpAddress, version);
+                CHECKS_CACHE.recordSuccess(checksCacheKey);
+            } catch (Throwable e) {
+                log.warn("Docker environment no longer passes the system checks", e);
+                CHECKS_CACHE.invalidate(checksCacheKey);
+            }
+        }, "testcontainers-checks-revalidation");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     private void checkDockerVersion(String dockerVersion) {
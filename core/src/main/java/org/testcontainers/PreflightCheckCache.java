@@ -0,0 +1,95 @@
+package org.testcontainers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.utility.PropertiesFileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Properties;
+
+/**
+ * Remembers, across JVMs, which Docker environments have recently passed the startup checks, so that the checks need
+ * not be repeated by every JVM that connects to the same daemon.
+ * <p>
+ * Entries are keyed by the daemon's ID and server version, the address by which it is reached and the image used for
+ * the checks, so that a different or upgraded daemon is checked again, and expire after a configurable time.
+ */
+@Slf4j
+class PreflightCheckCache {
+
+    private final File file;
+    private final Duration ttl;
+    private final Clock clock;
+
+    PreflightCheckCache(File file, Duration ttl) {
+        this(file, ttl, Clock.systemUTC());
+    }
+
+    PreflightCheckCache(File file, Duration ttl, Clock clock) {
+        this.file = file;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    static String key(String daemonId, String serverVersion, String dockerHostIpAddress, String checkImage) {
+        return daemonId + "/" + serverVersion + "/" + dockerHostIpAddress + "/" + checkImage;
+    }
+
+    /**
+     * @return whether the environment identified by the key passed the checks within the TTL
+     */
+    synchronized boolean isFresh(String key) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return false;
+        }
+
+        final String checkedAt = load().getProperty(key);
+        if (checkedAt == null) {
+            return false;
+        }
+
+        try {
+            final Instant expiry = Instant.ofEpochMilli(Long.parseLong(checkedAt)).plus(ttl);
+            return clock.instant().isBefore(expiry);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    synchronized void recordSuccess(String key) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+
+        final Properties properties = load();
+        properties.setProperty(key, Long.toString(clock.millis()));
+        store(properties);
+    }
+
+    synchronized void invalidate(String key) {
+        final Properties properties = load();
+        if (properties.remove(key) != null) {
+            store(properties);
+        }
+    }
+
+    private Properties load() {
+        try {
+            return PropertiesFileUtils.load(file);
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("Could not read cached startup check results from {}", file, e);
+            return new Properties();
+        }
+    }
+
+    private void store(Properties properties) {
+        try {
+            PropertiesFileUtils.store(file, properties, "Docker environments which passed the Testcontainers startup checks");
+        } catch (IOException e) {
+            log.debug("Could not cache startup check results in {}", file, e);
+        }
+    }
+}
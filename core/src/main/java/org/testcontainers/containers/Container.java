@@ -5,6 +5,7 @@ import com.github.dockerjava.api.command.InspectContainerResponse;
 import com.github.dockerjava.api.model.Bind;
 import com.github.dockerjava.api.model.Info;
 import lombok.NonNull;
+import org.testcontainers.containers.exec.ExecCommand;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.startupcheck.StartupCheckStrategy;
 import org.testcontainers.containers.traits.LinkableContainer;
@@ -17,6 +18,7 @@ import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
@@ -31,18 +33,30 @@ public interface Container<SELF extends Container<SELF>> extends LinkableContain
     }
 
     /**
-     * Class to hold results from a "docker exec" command. Note that, due to the limitations of the
-     * docker API, there's no easy way to get the result code from the process we ran.
+     * Class to hold results from a "docker exec" command.
      */
     class ExecResult {
+        private final Integer exitCode;
         private final String stdout;
         private final String stderr;
 
         public ExecResult(String stdout, String stderr) {
+            this(null, stdout, stderr);
+        }
+
+        public ExecResult(Integer exitCode, String stdout, String stderr) {
+            this.exitCode = exitCode;
             this.stdout = stdout;
             this.stderr = stderr;
         }
 
+        /**
+         * @return the exit code of the command, or null if it is not known
+         */
+        public Integer getExitCode() {
+            return exitCode;
+        }
+
         public String getStdout() {
             return stdout;
         }
@@ -409,6 +423,24 @@ public interface Container<SELF extends Container<SELF>> extends LinkableContain
     ExecResult execInContainer(Charset outputCharset, String... command)
                     throws UnsupportedOperationException, IOException, InterruptedException;
 
+    /**
+     * Run a command inside a running container, as though using "docker exec", without waiting for it to finish.
+     * <p>
+     * Output is streamed to the destinations given in the {@link ExecCommand} as it is produced, and is never
+     * buffered in full, so this is suitable for commands with large output. Standard input may also be piped to the
+     * command.
+     * <p>
+     * This functionality is not available on a docker daemon running the older "lxc" execution driver.
+     * @param command the command to run, and where its input and output should go
+     * @return a future which completes with the command's exit code once it has finished and all of its output has
+     * been delivered
+     * @throws UnsupportedOperationException if the docker daemon you're connecting to doesn't support "exec", or this
+     * kind of container does not support streaming exec
+     */
+    default CompletableFuture<Integer> execInContainerAsync(ExecCommand command) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support execInContainerAsync");
+    }
+
     /**
      *
      * Copies a file which resides inside the classpath to the container.
@@ -20,6 +20,7 @@ import org.slf4j.profiler.Profiler;
 import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.output.Slf4jLogConsumer;
+import org.testcontainers.containers.startupcheck.ContainerExitResultCallback;
 import org.testcontainers.containers.startupcheck.IndefiniteWaitOneShotStartupCheckStrategy;
 import org.testcontainers.utility.*;
 import org.zeroturnaround.exec.InvalidExitValueException;
@@ -28,6 +29,7 @@ import org.zeroturnaround.exec.stream.slf4j.Slf4jStream;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -132,7 +134,7 @@ public class DockerComposeContainer<SELF extends DockerComposeContainer<SELF>> e
         listChildContainers().forEach(container ->
                 LogUtils.followOutput(dockerClient,
                         container.getId(),
-                        new Slf4jLogConsumer(logger()).withPrefix(container.getNames()[0]),
+                        new Slf4jLogConsumer(logger()).withPrefix(container.getNames()[0]).withAsync(),
                         OutputFrame.OutputType.STDOUT,
                         OutputFrame.OutputType.STDERR)
         );
@@ -445,19 +447,11 @@ class ContainerisedDockerCompose extends GenericContainer<ContainerisedDockerCom
 
         // wait for the compose container to stop, which should only happen after it has spawned all the service containers
         logger().info("Docker Compose container is running for command: {}", Joiner.on(" ").join(this.getCommandParts()));
-        while (this.isRunning()) {
-            logger().trace("Compose container is still running");
-            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
-        }
+        final Integer exitCode = waitForExit();
         logger().info("Docker Compose has finished running");
 
         AuditLogger.doComposeLog(this.getCommandParts(), this.getEnv());
 
-        final Integer exitCode = this.dockerClient.inspectContainerCmd(containerId)
-                .exec()
-                .getState()
-                .getExitCode();
-
         if (exitCode == null || exitCode != 0) {
             throw new ContainerLaunchException(
                     "Containerised Docker Compose exited abnormally with code " +
@@ -466,6 +460,24 @@ class ContainerisedDockerCompose extends GenericContainer<ContainerisedDockerCom
                             StringUtils.join(this.getCommandParts(), ' '));
         }
     }
+
+    private Integer waitForExit() {
+        try {
+            return Uninterruptibles.getUninterruptibly(ContainerExitResultCallback.waitForExit(this.dockerClient, containerId));
+        } catch (ExecutionException e) {
+            logger().debug("Could not wait for compose container to exit; polling its state instead", e.getCause());
+        }
+
+        while (this.isRunning()) {
+            logger().trace("Compose container is still running");
+            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+        }
+
+        return this.dockerClient.inspectContainerCmd(containerId)
+                .exec()
+                .getState()
+                .getExitCode();
+    }
 }
 
 /**
@@ -2,12 +2,15 @@ package org.testcontainers.containers;
 
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.CreateContainerCmd;
-import com.github.dockerjava.api.command.ExecCreateCmdResponse;
+import com.github.dockerjava.api.command.ExecCreateCmd;
+import com.github.dockerjava.api.command.ExecStartCmd;
 import com.github.dockerjava.api.command.InspectContainerResponse;
 import com.github.dockerjava.api.exception.DockerException;
 import com.github.dockerjava.api.model.*;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.*;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.utils.IOUtils;
@@ -20,7 +23,10 @@ import org.rnorth.ducttape.unreliables.Unreliables;
 import org.slf4j.Logger;
 import org.slf4j.profiler.Profiler;
 import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.exec.ExecCommand;
+import org.testcontainers.containers.output.FileCaptureConsumer;
 import org.testcontainers.containers.output.FrameConsumerResultCallback;
+import org.testcontainers.containers.output.LogStreamMultiplexer;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.output.Slf4jLogConsumer;
 import org.testcontainers.containers.output.ToStringConsumer;
@@ -28,8 +34,12 @@ import org.testcontainers.containers.startupcheck.IsRunningStartupCheckStrategy;
 import org.testcontainers.containers.startupcheck.MinimumDurationRunningStartupCheckStrategy;
 import org.testcontainers.containers.startupcheck.StartupCheckStrategy;
 import org.testcontainers.containers.traits.LinkableContainer;
+import org.testcontainers.containers.wait.ProbeScheduler;
+import org.testcontainers.containers.wait.StartupTimeProfile;
+import org.testcontainers.containers.wait.StartupTimeStats;
 import org.testcontainers.containers.wait.Wait;
 import org.testcontainers.containers.wait.WaitStrategy;
+import org.testcontainers.dockerclient.DockerDaemon;
 import org.testcontainers.images.RemoteDockerImage;
 import org.testcontainers.utility.*;
 
@@ -37,9 +47,14 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -51,6 +66,17 @@ import static com.google.common.collect.Lists.newArrayList;
 import static org.testcontainers.containers.output.OutputFrame.OutputType.STDERR;
 import static org.testcontainers.containers.output.OutputFrame.OutputType.STDOUT;
 import static org.testcontainers.utility.CommandLine.runShellCommand;
+import static org.testcontainers.utility.FlightRecorderEventType.CONTAINER_CREATE;
+import static org.testcontainers.utility.FlightRecorderEventType.CONTAINER_READY;
+import static org.testcontainers.utility.FlightRecorderEventType.CONTAINER_START;
+import static org.testcontainers.utility.FlightRecorderEventType.CONTAINER_STOP;
+import static org.testcontainers.utility.FlightRecorderEventType.EXEC;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.COMMAND;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.CONTAINER_ID;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.EXIT_CODE;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.IMAGE;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.WAIT_STRATEGY;
+import static org.testcontainers.utility.FlightRecorderEventType.WAIT_STRATEGY_ATTEMPT;
 
 /**
  * Base class for that allows a container to be launched and controlled.
@@ -117,11 +143,34 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     @Nullable
     private String workingDirectory = null;
 
+    /*
+     * The Docker daemon this container is placed on. It is chosen when the container is started, so that containers
+     * built together are spread by the containers started before them, and then moved to the daemon of its network or
+     * linked containers; until then, it is the primary daemon.
+     */
+    @Setter(AccessLevel.NONE)
+    private DockerDaemon dockerDaemon = DockerClientFactory.instance().primaryDaemon();
+
+    /*
+     * The test class building this container, by which the sticky placement policy places it.
+     */
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.NONE)
+    private final String placementTestClass = DockerClientFactory.findTestClass();
+
+    /*
+     * The daemon which counts this container as placed on it, from when the container is placed until it is stopped,
+     * or until it fails to be created.
+     */
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.NONE)
+    private DockerDaemon countedOnDaemon;
+
     /*
      * Unique instance of DockerClient for use by this container object.
      */
     @Setter(AccessLevel.NONE)
-    protected DockerClient dockerClient = DockerClientFactory.instance().client();
+    protected DockerClient dockerClient = dockerDaemon.getClient();
 
     /*
      * Info about the Docker server; lazily fetched.
@@ -150,6 +199,22 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
 
     private List<Consumer<OutputFrame>> logConsumers = new ArrayList<>();
 
+    /*
+     * Shared log stream for the current container; lazily opened on first use.
+     */
+    @Nullable
+    @Setter(AccessLevel.NONE)
+    private LogStreamMultiplexer logStream;
+
+    private boolean logCaptureEnabled = false;
+
+    @Nullable
+    private Path logCaptureDirectory;
+
+    @Nullable
+    @Setter(AccessLevel.NONE)
+    private FileCaptureConsumer logCapture;
+
     private final Set<Consumer<CreateContainerCmd>> createContainerCmdModifiers = new LinkedHashSet<>();
 
     private static final Set<String> AVAILABLE_IMAGE_NAME_CACHE = new HashSet<>();
@@ -159,6 +224,11 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             .withConstantThroughput()
             .build();
 
+    private static final int EXEC_EXIT_CODE_TIMEOUT_SECONDS = 5;
+    private static final ExecutorService EXEC_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("testcontainers-exec-%d")
+            .setDaemon(true)
+            .build());
 
     public GenericContainer() {
         this(TestcontainersConfiguration.getInstance().getTinyImage());
@@ -184,11 +254,11 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             configure();
 
             logger().debug("Starting container: {}", getDockerImageName());
-            logger().debug("Trying to start container: {}", image.get());
+            logger().debug("Trying to start container: {}", getDockerImageName());
 
             AtomicInteger attempt = new AtomicInteger(0);
             Unreliables.retryUntilSuccess(startupAttempts, () -> {
-                logger().debug("Trying to start container: {} (attempt {}/{})", image.get(), attempt.incrementAndGet(), startupAttempts);
+                logger().debug("Trying to start container: {} (attempt {}/{})", getDockerImageName(), attempt.incrementAndGet(), startupAttempts);
                 tryStart(profiler.startNested("Container startup attempt"));
                 return true;
             });
@@ -201,22 +271,60 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     }
 
     private void tryStart(Profiler profiler) {
+        // output captured by a previous attempt belongs to a container that no longer exists
+        if (logCapture != null) {
+            logCapture.close();
+            logCapture = null;
+        }
+
         try {
-            String dockerImageName = image.get();
-            logger().debug("Starting container: {}", dockerImageName);
+            final String dockerImageName;
+            place();
+            try {
+                if (!dockerDaemon.isPrimary() && !(image instanceof RemoteDockerImage)) {
+                    throw new IllegalStateException("Images built by Testcontainers are only available on the primary Docker daemon, but the container is placed on " + dockerDaemon);
+                }
 
-            logger().info("Creating container for image: {}", dockerImageName);
-            profiler.start("Create container");
-            CreateContainerCmd createCommand = dockerClient.createContainerCmd(dockerImageName);
-            applyConfiguration(createCommand);
-            createContainerCmdModifiers.forEach(hook -> hook.accept(createCommand));
+                // resolved against the daemon the container is placed on
+                dockerImageName = getDockerImageName();
+                logger().debug("Starting container: {}", dockerImageName);
 
-            containerId = createCommand.exec().getId();
-            ResourceReaper.instance().registerContainerForCleanup(containerId, dockerImageName);
+                if (!dockerDaemon.isPrimary()) {
+                    profiler.start("Pull image on " + dockerDaemon);
+                    dockerDaemon.ensureImageAvailable(dockerImageName);
+                }
+
+                logger().info("Creating container for image: {}", dockerImageName);
+                profiler.start("Create container");
+                CreateContainerCmd createCommand = dockerClient.createContainerCmd(dockerImageName);
+                applyConfiguration(createCommand);
+                createContainerCmdModifiers.forEach(hook -> hook.accept(createCommand));
+
+                closeLogStream();
+                final FlightRecorderEvent createEvent = FlightRecorderEvent.begin(CONTAINER_CREATE).with(IMAGE, dockerImageName);
+                containerId = createEvent.record(() -> {
+                    final String id = createCommand.exec().getId();
+                    createEvent.with(CONTAINER_ID, id);
+                    return id;
+                });
+            } catch (RuntimeException e) {
+                // nothing was created on the daemon, so stop counting the container there
+                releaseFromDaemon();
+                throw e;
+            }
+            ResourceReaper.instance().registerContainerForCleanup(containerId, dockerImageName, dockerClient);
 
             logger().info("Starting container with ID: {}", containerId);
             profiler.start("Start container");
-            dockerClient.startContainerCmd(containerId).exec();
+            FlightRecorderEvent.begin(CONTAINER_START)
+                    .with(IMAGE, dockerImageName)
+                    .with(CONTAINER_ID, containerId)
+                    .record(() -> dockerClient.startContainerCmd(containerId).exec());
+
+            if (logCaptureEnabled) {
+                logCapture = createLogCapture();
+                followOutput(logCapture);
+            }
 
             // For all registered output consumers, start following as close to container startup as possible
             this.logConsumers.forEach(this::followOutput);
@@ -230,17 +338,22 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             profiler.start("Call containerIsStarting on subclasses");
             containerIsStarting(containerInfo);
 
-            // Wait until the container is running (may not be fully started)
-            profiler.start("Wait until container has started properly, or there's evidence it failed to start.");
+            FlightRecorderEvent.begin(CONTAINER_READY)
+                    .with(IMAGE, dockerImageName)
+                    .with(CONTAINER_ID, containerId)
+                    .record(() -> {
+                        // Wait until the container is running (may not be fully started)
+                        profiler.start("Wait until container has started properly, or there's evidence it failed to start.");
 
-            if (!this.startupCheckStrategy.waitUntilStartupSuccessful(dockerClient, containerId)) {
-                // Bail out, don't wait for the port to start listening.
-                // (Exception thrown here will be caught below and wrapped)
-                throw new IllegalStateException("Container did not start correctly.");
-            }
+                        if (!this.startupCheckStrategy.waitUntilStartupSuccessful(dockerClient, containerId)) {
+                            // Bail out, don't wait for the port to start listening.
+                            // (Exception thrown here will be caught below and wrapped)
+                            throw new IllegalStateException("Container did not start correctly.");
+                        }
 
-            profiler.start("Wait until container started properly");
-            waitUntilContainerStarted();
+                        profiler.start("Wait until container started properly");
+                        waitUntilContainerStarted();
+                    });
 
             logger().info("Container {} started", dockerImageName);
             containerIsStarted(containerInfo);
@@ -248,17 +361,21 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             logger().error("Could not start container", e);
 
             // Log output if startup failed, either due to a container failure or exception (including timeout)
-            logger().error("Container log output (if any) will follow:");
-            FrameConsumerResultCallback resultCallback = new FrameConsumerResultCallback();
-            resultCallback.addConsumer(STDOUT, new Slf4jLogConsumer(logger()));
-            resultCallback.addConsumer(STDERR, new Slf4jLogConsumer(logger()));
-            dockerClient.logContainerCmd(containerId).withStdOut(true).withStdErr(true).exec(resultCallback);
-
-            // Try to ensure that container log output is shown before proceeding
-            try {
-                resultCallback.getCompletionLatch().await(1, TimeUnit.MINUTES);
-            } catch (InterruptedException ignored) {
-                // Cannot do anything at this point
+            if (logCapture != null) {
+                logCapturedOutput();
+            } else {
+                logger().error("Container log output (if any) will follow:");
+                FrameConsumerResultCallback resultCallback = new FrameConsumerResultCallback();
+                resultCallback.addConsumer(STDOUT, new Slf4jLogConsumer(logger()));
+                resultCallback.addConsumer(STDERR, new Slf4jLogConsumer(logger()));
+                dockerClient.logContainerCmd(containerId).withStdOut(true).withStdErr(true).exec(resultCallback);
+
+                // Try to ensure that container log output is shown before proceeding
+                try {
+                    resultCallback.getCompletionLatch().await(1, TimeUnit.MINUTES);
+                } catch (InterruptedException ignored) {
+                    // Cannot do anything at this point
+                }
             }
 
             throw new ContainerLaunchException("Could not create/start container", e);
@@ -279,12 +396,103 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         String imageName;
 
         try {
-            imageName = image.get();
+            imageName = getDockerImageName();
         } catch (Exception e) {
             imageName = "<unknown>";
         }
 
-        ResourceReaper.instance().stopAndRemoveContainer(containerId, imageName);
+        final String stoppedImageName = imageName;
+        try {
+            FlightRecorderEvent.begin(CONTAINER_STOP)
+                    .with(IMAGE, imageName)
+                    .with(CONTAINER_ID, containerId)
+                    .record(() -> ResourceReaper.instance().stopAndRemoveContainer(containerId, stoppedImageName));
+        } finally {
+            releaseFromDaemon();
+        }
+        closeLogStream();
+
+        if (logCapture != null) {
+            // keep the captured tail available for failure reporting, but stop writing to disk
+            logCapture.close();
+        }
+    }
+
+    /**
+     * Choose the daemon to create the container on, unless an earlier start attempt created it already, move it to the
+     * daemon of its network or linked containers, and count it there at once, so that containers placed while it is
+     * being created see it.
+     */
+    private void place() {
+        if (countedOnDaemon == null) {
+            moveTo(DockerClientFactory.instance().placeContainer(placementTestClass));
+        }
+        colocate();
+        countOnDaemon();
+    }
+
+    /**
+     * Move the container to the daemon of its network or linked containers, which must all be on the same daemon.
+     */
+    private void colocate() {
+        DockerDaemon target = null;
+        String reason = null;
+
+        if (network instanceof Network.NetworkImpl) {
+            target = ((Network.NetworkImpl) network).colocate(dockerDaemon);
+            reason = "its network";
+        }
+
+        for (LinkableContainer linkedContainer : linkedContainers.values()) {
+            // other linkable containers, such as Docker Compose services, are on the primary daemon
+            final DockerDaemon linkedDaemon = linkedContainer instanceof GenericContainer
+                    ? ((GenericContainer<?>) linkedContainer).dockerDaemon
+                    : DockerClientFactory.instance().primaryDaemon();
+            if (target != null && target != linkedDaemon) {
+                throw new IllegalStateException("The container must be placed on the Docker daemon of " + reason +
+                        " (" + target + "), but linked container " + linkedContainer.getContainerName() + " is on " + linkedDaemon);
+            }
+            target = linkedDaemon;
+            reason = "linked container " + linkedContainer.getContainerName();
+        }
+
+        if (target != null && target != dockerDaemon) {
+            logger().debug("Placing container on {}, the Docker daemon of {}", target, reason);
+            moveTo(target);
+        }
+    }
+
+    private void moveTo(DockerDaemon daemon) {
+        if (daemon != dockerDaemon) {
+            dockerDaemon = daemon;
+            dockerClient = daemon.getClient();
+            dockerDaemonInfo = null;
+        }
+    }
+
+    /**
+     * @return whether the daemon the container is created on is yet to be chosen from several
+     */
+    private boolean isPlacementPending() {
+        return countedOnDaemon == null && DockerClientFactory.instance().getDaemons().size() > 1;
+    }
+
+    /**
+     * Count the container on the daemon it is placed on; containers from earlier start attempts are only counted once.
+     */
+    private void countOnDaemon() {
+        if (countedOnDaemon != dockerDaemon) {
+            releaseFromDaemon();
+            dockerDaemon.containerPlaced();
+            countedOnDaemon = dockerDaemon;
+        }
+    }
+
+    private void releaseFromDaemon() {
+        if (countedOnDaemon != null) {
+            countedOnDaemon.containerRemoved();
+            countedOnDaemon = null;
+        }
     }
 
     /**
@@ -597,6 +805,14 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         this.start();
     }
 
+    @Override
+    protected void failed(Throwable e, Description description) {
+        // output of containers that failed to start will already have been logged
+        if (logCapture != null && !(e instanceof ContainerLaunchException)) {
+            logCapturedOutput();
+        }
+    }
+
     @Override
     protected void finished(Description description) {
         this.stop();
@@ -729,7 +945,7 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
      */
     @Override
     public String getContainerIpAddress() {
-        return DockerClientFactory.instance().dockerHostIpAddress();
+        return dockerDaemon.getDockerHostIpAddress();
     }
 
     /**
@@ -819,6 +1035,11 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     @Override
     @NonNull
     public String getDockerImageName() {
+        if (image instanceof RemoteDockerImage && (!dockerDaemon.isPrimary() || isPlacementPending())) {
+            // the image is pulled on the daemon the container is placed on when the container is started
+            return ((RemoteDockerImage) image).getDockerImageName();
+        }
+
         try {
             return image.get();
         } catch (Exception e) {
@@ -871,7 +1092,78 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
      */
     @Override
     public void followOutput(Consumer<OutputFrame> consumer, OutputFrame.OutputType... types) {
-        LogUtils.followOutput(dockerClient, containerId, consumer, types);
+        getLogStream().attach(consumer, types);
+    }
+
+    /**
+     * Get the log stream shared by all consumers of this container's output. Only one stream is opened against the
+     * Docker daemon per container, regardless of how many consumers follow its output.
+     *
+     * @return the shared log stream
+     */
+    public synchronized LogStreamMultiplexer getLogStream() {
+        Preconditions.checkState(containerId != null, "Container output can only be followed after the container is started");
+
+        if (logStream == null) {
+            logStream = new LogStreamMultiplexer(dockerClient, containerId);
+        }
+        return logStream;
+    }
+
+    /**
+     * Continuously capture all output of the container to a temporary file, which is deleted when the JVM exits.
+     * The most recent output is also kept in memory, and is logged if the container fails to start or if a test
+     * using this container as a rule fails.
+     *
+     * @return this
+     * @see FileCaptureConsumer
+     */
+    public SELF withLogCapture() {
+        this.logCaptureEnabled = true;
+        return self();
+    }
+
+    /**
+     * Continuously capture all output of the container to a file in the given directory, named after the container
+     * ID. The file is retained after the JVM exits.
+     *
+     * @param directory directory in which to create the capture file
+     * @return this
+     * @see #withLogCapture()
+     */
+    public SELF withLogCapture(@NonNull Path directory) {
+        this.logCaptureEnabled = true;
+        this.logCaptureDirectory = directory;
+        return self();
+    }
+
+    private FileCaptureConsumer createLogCapture() throws IOException {
+        final FileCaptureConsumer capture;
+        if (logCaptureDirectory != null) {
+            PathUtils.mkdirp(logCaptureDirectory);
+            capture = new FileCaptureConsumer(logCaptureDirectory.resolve(containerId + ".log"));
+        } else {
+            capture = new FileCaptureConsumer(Files.createTempFile("testcontainers-" + containerId.substring(0, 12) + "-", ".log"));
+            capture.getFile().toFile().deleteOnExit();
+            capture.getRotatedFile().toFile().deleteOnExit();
+        }
+
+        logger().debug("Capturing container output to {}", capture.getFile());
+        return capture;
+    }
+
+    private void logCapturedOutput() {
+        logger().error("Most recent container log output will follow (all output was captured to {}):", logCapture.getFile());
+        Slf4jLogConsumer consumer = new Slf4jLogConsumer(logger());
+        logCapture.getTail().forEach(consumer);
+        consumer.accept(OutputFrame.END);
+    }
+
+    private synchronized void closeLogStream() {
+        if (logStream != null) {
+            logStream.close();
+            logStream = null;
+        }
     }
 
     /**
@@ -945,6 +1237,38 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     public ExecResult execInContainer(Charset outputCharset, String... command)
             throws UnsupportedOperationException, IOException, InterruptedException {
 
+        final ToStringConsumer stdoutConsumer = new ToStringConsumer();
+        final ToStringConsumer stderrConsumer = new ToStringConsumer();
+
+        final Integer exitCode;
+        try {
+            exitCode = execInContainerAsync(new ExecCommand(command)
+                    .withStdout(stdoutConsumer)
+                    .withStderr(stderrConsumer))
+                    .get();
+        } catch (ExecutionException e) {
+            Throwables.propagateIfPossible(e.getCause(), IOException.class);
+            throw new IOException(e.getCause());
+        }
+
+        final ExecResult result = new ExecResult(
+                exitCode,
+                stdoutConsumer.toString(outputCharset),
+                stderrConsumer.toString(outputCharset));
+
+        logger().trace("exit code: " + result.getExitCode());
+        logger().trace("stdout: " + result.getStdout());
+        logger().trace("stderr: " + result.getStderr());
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Integer> execInContainerAsync(ExecCommand execCommand)
+            throws UnsupportedOperationException {
+
         if (!TestEnvironment.dockerExecutionDriverSupportsExec()) {
             // at time of writing, this is the expected result in CircleCI.
             throw new UnsupportedOperationException(
@@ -956,30 +1280,66 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             throw new IllegalStateException("execInContainer can only be used while the Container is running");
         }
 
-        this.dockerClient
-                .execCreateCmd(this.containerId)
-                .withCmd(command);
+        final String[] command = execCommand.getCommand();
+        final boolean attachStdin = execCommand.getStdin() != null;
 
         logger().debug("Running \"exec\" command: " + String.join(" ", command));
-        final ExecCreateCmdResponse execCreateCmdResponse = dockerClient.execCreateCmd(this.containerId)
-                .withAttachStdout(true).withAttachStderr(true).withCmd(command).exec();
-
-        final ToStringConsumer stdoutConsumer = new ToStringConsumer();
-        final ToStringConsumer stderrConsumer = new ToStringConsumer();
-
-        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
-        callback.addConsumer(OutputFrame.OutputType.STDOUT, stdoutConsumer);
-        callback.addConsumer(OutputFrame.OutputType.STDERR, stderrConsumer);
-
-        dockerClient.execStartCmd(execCreateCmdResponse.getId()).exec(callback).awaitCompletion();
+        final FlightRecorderEvent execEvent = FlightRecorderEvent.begin(EXEC)
+                .with(IMAGE, getDockerImageName())
+                .with(CONTAINER_ID, containerId)
+                .with(COMMAND, String.join(" ", command));
+        return execEvent.recordAsync(() -> {
+            final ExecCreateCmd execCreateCmd = dockerClient.execCreateCmd(this.containerId)
+                    .withAttachStdout(true)
+                    .withAttachStderr(true)
+                    .withAttachStdin(attachStdin)
+                    .withCmd(command);
+            if (execCommand.getUser() != null) {
+                execCreateCmd.withUser(execCommand.getUser());
+            }
+            final String execId = execCreateCmd.exec().getId();
 
-        final ExecResult result = new ExecResult(
-                stdoutConsumer.toString(outputCharset),
-                stderrConsumer.toString(outputCharset));
+            FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+            callback.addConsumer(STDOUT, execCommand.getStdoutConsumer());
+            callback.addConsumer(STDERR, execCommand.getStderrConsumer());
 
-        logger().trace("stdout: " + result.getStdout());
-        logger().trace("stderr: " + result.getStderr());
-        return result;
+            final ExecStartCmd execStartCmd = dockerClient.execStartCmd(execId);
+            if (attachStdin) {
+                execStartCmd.withStdIn(execCommand.getStdin());
+            }
+            execStartCmd.exec(callback);
+
+            // the exit code is fetched away from the Docker client's I/O thread, which delivers stream completion
+            return callback.getCompletionFuture().thenApplyAsync(ignored -> {
+                final Integer exitCode = getExecExitCode(execId);
+                execEvent.with(EXIT_CODE, exitCode);
+                return exitCode;
+            }, EXEC_EXECUTOR);
+        });
+    }
+
+    private Integer getExecExitCode(String execId) {
+        // the daemon may still report the exec as running for a moment after its output stream has closed, so poll with
+        // a short, growing pause rather than flooding it with inspections
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(EXEC_EXIT_CODE_TIMEOUT_SECONDS);
+        long pauseMillis = 10;
+        while (true) {
+            final Integer exitCode = dockerClient.inspectExecCmd(execId).exec().getExitCode();
+            if (exitCode != null) {
+                return exitCode;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw new IllegalStateException("Exec " + execId + " did not report an exit code within "
+                        + EXEC_EXIT_CODE_TIMEOUT_SECONDS + " seconds");
+            }
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for exec " + execId + " to finish", e);
+            }
+            pauseMillis = Math.min(pauseMillis * 2, 100);
+        }
     }
 
     /**
@@ -1020,15 +1380,47 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         @NonNull
         protected Duration startupTimeout = Duration.ofSeconds(60);
 
+        private StartupTimeProfile startupTimeProfile;
+
         /**
-         * Wait until the container has started.
+         * Wait until the container has started. How long the wait takes is recorded per daemon, image and strategy, and a wait
+         * which takes longer than usual is logged.
          *
          * @param container the container for which to wait
          */
         @Override
         public void waitUntilReady(GenericContainer container) {
             this.container = container;
-            waitUntilReady();
+
+            final String statsKey = getStartupStatsKey();
+            startupTimeProfile = statsKey == null ? null : StartupTimeStats.getInstance().getProfile(statsKey).orElse(null);
+
+            final long start = System.nanoTime();
+            FlightRecorderEvent.begin(WAIT_STRATEGY_ATTEMPT)
+                    .with(IMAGE, container.getDockerImageName())
+                    .with(CONTAINER_ID, container.getContainerId())
+                    .with(WAIT_STRATEGY, getClass().getName())
+                    .record(() -> waitUntilReady());
+
+            if (statsKey != null) {
+                final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+                if (startupTimeProfile != null && startupTimeProfile.isUnusuallySlow(duration)) {
+                    logger().warn("Container took {}ms to become ready, longer than the 99th percentile of {}ms over {} previous startups",
+                            duration.toMillis(), startupTimeProfile.getP99().toMillis(), startupTimeProfile.getSampleCount());
+                }
+                StartupTimeStats.getInstance().record(statsKey, duration);
+            }
+        }
+
+        private String getStartupStatsKey() {
+            final String dockerImageName = container.getDockerImageName();
+            final DockerDaemon dockerDaemon = container.getDockerDaemon();
+            // startups on a fake engine, or another daemon which is not remembered across JVMs, are not recorded
+            if (dockerImageName == null || dockerDaemon == null || !dockerDaemon.isPersistable()
+                    || TestcontainersConfiguration.getInstance().isStartupStatsDisabled()) {
+                return null;
+            }
+            return dockerDaemon.getId() + "/" + dockerImageName + "/" + getClass().getName();
         }
 
         /**
@@ -1077,5 +1469,18 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         protected RateLimiter getRateLimiter() {
             return DOCKER_CLIENT_RATE_LIMITER;
         }
+
+        /**
+         * @param initialInterval interval to use when polling most densely
+         * @param maxInterval     longest interval between attempts
+         * @return a schedule for polling this container: shaped by its previous startup times if there are enough of
+         * them, otherwise backing off from {@code initialInterval} to {@code maxInterval}
+         */
+        protected ProbeScheduler.PollingSchedule getPollingSchedule(Duration initialInterval, Duration maxInterval) {
+            if (startupTimeProfile != null) {
+                return startupTimeProfile.pollingSchedule(initialInterval, maxInterval);
+            }
+            return ProbeScheduler.backoff(initialInterval, maxInterval);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package org.testcontainers.containers;
 
+import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.CreateNetworkCmd;
 import lombok.Builder;
 import lombok.Getter;
@@ -7,11 +8,13 @@ import lombok.Singular;
 import org.junit.rules.ExternalResource;
 import org.junit.rules.TestRule;
 import org.testcontainers.DockerClientFactory;
+import org.testcontainers.dockerclient.DockerDaemon;
 import org.testcontainers.utility.ResourceReaper;
 
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 public interface Network extends AutoCloseable, TestRule {
@@ -43,6 +46,9 @@ public interface Network extends AutoCloseable, TestRule {
 
         private final AtomicBoolean initialized = new AtomicBoolean();
 
+        // the daemon the network is created on, chosen by the first container to join it
+        private final AtomicReference<DockerDaemon> daemon = new AtomicReference<>();
+
         @Override
         public String getId() {
             if (initialized.compareAndSet(false, true)) {
@@ -52,8 +58,29 @@ public interface Network extends AutoCloseable, TestRule {
             return id;
         }
 
+        /**
+         * @return the daemon the network is created on; unless a container has joined the network, the primary
+         * daemon
+         */
+        public DockerDaemon getDaemon() {
+            return colocate(DockerClientFactory.instance().primaryDaemon());
+        }
+
+        /**
+         * Choose the daemon for the network unless it has already been chosen, so that the network is created on
+         * the same daemon as its containers.
+         *
+         * @param preferred the daemon of a container joining the network
+         * @return the daemon the network is created on, which the container must be moved to
+         */
+        DockerDaemon colocate(DockerDaemon preferred) {
+            daemon.compareAndSet(null, preferred);
+            return daemon.get();
+        }
+
         private String create() {
-            CreateNetworkCmd createNetworkCmd = DockerClientFactory.instance().client().createNetworkCmd();
+            DockerClient dockerClient = getDaemon().getClient();
+            CreateNetworkCmd createNetworkCmd = dockerClient.createNetworkCmd();
 
             createNetworkCmd.withName(name);
             createNetworkCmd.withCheckDuplicate(true);
@@ -71,7 +98,7 @@ public interface Network extends AutoCloseable, TestRule {
             }
 
             String id = createNetworkCmd.exec().getId();
-            ResourceReaper.instance().registerNetworkIdForCleanup(id);
+            ResourceReaper.instance().registerNetworkIdForCleanup(id, dockerClient);
             return id;
         }
 
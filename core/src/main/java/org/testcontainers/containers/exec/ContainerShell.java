@@ -0,0 +1,303 @@
+package org.testcontainers.containers.exec;
+
+import com.google.common.base.Charsets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+
+/**
+ * A long-lived shell running inside a container, which can run many commands one after another without the cost of
+ * setting up a separate "docker exec" for each of them.
+ * <p>
+ * A single <code>sh</code> exec is started, with its standard input attached, when the first command is run. Each
+ * command is then written to the shell's input, followed by a unique marker which the shell echoes, together with the
+ * command's exit status, once the command has finished. Output up to the marker is the command's output.
+ * <p>
+ * Commands run one at a time, with standard input redirected from <code>/dev/null</code>. A command which exits the
+ * shell (or a command which times out) ends the session; the next command starts a new shell.
+ * <p>
+ * Example:
+ * <pre>
+ * try (ContainerShell shell = new ContainerShell(container)) {
+ *     for (String key : keys) {
+ *         shell.execute("redis-cli", "set", key, "value");
+ *     }
+ *     ExecResult result = shell.run("redis-cli dbsize");
+ * }
+ * </pre>
+ */
+public class ContainerShell implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContainerShell.class);
+
+    /**
+     * Default time that a single command may take to finish.
+     */
+    public static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(60);
+
+    private final Container<?> container;
+    private final String shell;
+    private Duration commandTimeout = DEFAULT_COMMAND_TIMEOUT;
+
+    private final String markerPrefix = "__TESTCONTAINERS_" + UUID.randomUUID().toString().replace("-", "") + "_";
+    private long commandCount = 0;
+
+    private final Object lock = new Object();
+    private Session session;
+
+    public ContainerShell(Container<?> container) {
+        this(container, "/bin/sh");
+    }
+
+    /**
+     * @param container the running container to run commands in
+     * @param shell     path to a POSIX shell inside the container
+     */
+    public ContainerShell(Container<?> container, String shell) {
+        this.container = container;
+        this.shell = shell;
+    }
+
+    /**
+     * @param commandTimeout the time that a single command may take to finish
+     * @return this
+     */
+    public ContainerShell withCommandTimeout(Duration commandTimeout) {
+        this.commandTimeout = commandTimeout;
+        return this;
+    }
+
+    /**
+     * Run a command, passing each of its parts to the shell as a separate (quoted) word.
+     *
+     * @param command the parts of the command to run
+     * @return the result of execution
+     * @throws IOException          if the shell ended, or the command did not finish in time
+     * @throws InterruptedException if the thread waiting for the command is interrupted
+     */
+    public Container.ExecResult execute(String... command) throws IOException, InterruptedException {
+        return run(Arrays.stream(command).map(ContainerShell::quote).collect(Collectors.joining(" ")));
+    }
+
+    /**
+     * Run a command line, which is interpreted by the shell.
+     *
+     * @param commandLine the command line to run
+     * @return the result of execution
+     * @throws IOException          if the shell ended, or the command did not finish in time
+     * @throws InterruptedException if the thread waiting for the command is interrupted
+     */
+    public Container.ExecResult run(String commandLine) throws IOException, InterruptedException {
+        synchronized (lock) {
+            if (session == null || session.ended) {
+                session = new Session();
+            }
+            Session current = session;
+
+            final String marker = markerPrefix + (commandCount++);
+            final byte[] stdoutMarker = (marker + " ").getBytes(Charsets.UTF_8);
+            final byte[] stderrMarker = (marker + "\n").getBytes(Charsets.UTF_8);
+
+            LOGGER.debug("Running shell command: {}", commandLine);
+            current.input.write((
+                    "{ " + commandLine + "\n" +
+                    "} </dev/null; " +
+                    "printf '%s %d\\n' '" + marker + "' \"$?\"; " +
+                    "printf '%s\\n' '" + marker + "' >&2\n"
+            ).getBytes(Charsets.UTF_8));
+
+            final long deadline = System.nanoTime() + commandTimeout.toNanos();
+            int stdoutMarkerIndex;
+            int stderrMarkerIndex;
+            int exitCodeEnd;
+            while (true) {
+                stdoutMarkerIndex = current.stdout.indexOf(stdoutMarker);
+                exitCodeEnd = stdoutMarkerIndex < 0 ? -1 : current.stdout.indexOf((byte) '\n', stdoutMarkerIndex + stdoutMarker.length);
+                stderrMarkerIndex = current.stderr.indexOf(stderrMarker);
+
+                if (exitCodeEnd >= 0 && stderrMarkerIndex >= 0) {
+                    break;
+                }
+
+                if (current.ended) {
+                    throw new IOException("Shell ended while running command: " + commandLine);
+                }
+
+                long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMillis <= 0) {
+                    current.close();
+                    throw new IOException("Timed out after " + commandTimeout + " waiting for command: " + commandLine);
+                }
+                lock.wait(remainingMillis);
+            }
+
+            int exitCode = Integer.parseInt(current.stdout.substring(stdoutMarkerIndex + stdoutMarker.length, exitCodeEnd).trim());
+            String stdout = current.stdout.substring(0, stdoutMarkerIndex);
+            String stderr = current.stderr.substring(0, stderrMarkerIndex);
+            current.stdout.discard(exitCodeEnd + 1);
+            current.stderr.discard(stderrMarkerIndex + stderrMarker.length);
+
+            return new Container.ExecResult(exitCode, stdout, stderr);
+        }
+    }
+
+    /**
+     * End the shell session, if one is running.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (session != null) {
+                session.close();
+                session = null;
+            }
+        }
+    }
+
+    static String quote(String word) {
+        return "'" + word.replace("'", "'\\''") + "'";
+    }
+
+    /**
+     * A single running shell, with the output it has produced which has not yet been claimed by a command.
+     */
+    private class Session {
+        private final CommandInput input = new CommandInput();
+        private final Buffer stdout = new Buffer();
+        private final Buffer stderr = new Buffer();
+        private boolean ended = false;
+
+        Session() {
+            container.execInContainerAsync(new ExecCommand(shell)
+                    .withStdin(input)
+                    .withStdout(frame -> receive(stdout, frame))
+                    .withStderr(frame -> receive(stderr, frame)))
+                    .whenComplete((exitCode, throwable) -> end());
+        }
+
+        private void receive(Buffer buffer, OutputFrame frame) {
+            synchronized (lock) {
+                if (frame == OutputFrame.END) {
+                    ended = true;
+                } else if (frame.getBytes() != null) {
+                    buffer.write(frame.getBytes(), 0, frame.getBytes().length);
+                }
+                lock.notifyAll();
+            }
+        }
+
+        private void end() {
+            synchronized (lock) {
+                ended = true;
+                lock.notifyAll();
+            }
+        }
+
+        private void close() {
+            ended = true;
+            input.close();
+        }
+    }
+
+    /**
+     * An output buffer which can be searched, and from which claimed output can be discarded.
+     */
+    private static class Buffer extends ByteArrayOutputStream {
+
+        int indexOf(byte[] sequence) {
+            outer:
+            for (int i = 0; i <= count - sequence.length; i++) {
+                for (int j = 0; j < sequence.length; j++) {
+                    if (buf[i + j] != sequence[j]) {
+                        continue outer;
+                    }
+                }
+                return i;
+            }
+            return -1;
+        }
+
+        int indexOf(byte b, int from) {
+            for (int i = from; i < count; i++) {
+                if (buf[i] == b) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        String substring(int from, int to) {
+            return new String(buf, from, to - from, Charsets.UTF_8);
+        }
+
+        void discard(int length) {
+            System.arraycopy(buf, length, buf, 0, count - length);
+            count -= length;
+        }
+    }
+
+    /**
+     * The shell's standard input: an input stream which blocks until commands are written to it.
+     */
+    private static class CommandInput extends InputStream {
+
+        private static final byte[] EOF = new byte[0];
+
+        private final BlockingQueue<byte[]> chunks = new LinkedBlockingQueue<>();
+        private byte[] current;
+        private int position;
+
+        void write(byte[] chunk) {
+            chunks.add(chunk);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            if (current == null || (current != EOF && position == current.length)) {
+                try {
+                    current = chunks.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+                position = 0;
+            }
+
+            if (current == EOF) {
+                return -1;
+            }
+
+            int read = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, read);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public void close() {
+            chunks.add(EOF);
+        }
+    }
+}
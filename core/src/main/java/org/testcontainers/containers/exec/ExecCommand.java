@@ -0,0 +1,109 @@
+package org.testcontainers.containers.exec;
+
+import org.testcontainers.containers.output.ChannelWritingConsumer;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Consumer;
+
+/**
+ * Describes a command to be run inside a running container, as though using "docker exec", and where its input and
+ * output should go. Output is streamed to the given destinations as it is produced, rather than being collected in
+ * memory, so that commands with very large output can be run safely.
+ * <p>
+ * Output which has no destination is discarded.
+ *
+ * @see org.testcontainers.containers.Container#execInContainerAsync(ExecCommand)
+ */
+public class ExecCommand {
+
+    private static final Consumer<OutputFrame> DISCARD = frame -> { };
+
+    private final String[] command;
+
+    private Consumer<OutputFrame> stdoutConsumer = DISCARD;
+    private Consumer<OutputFrame> stderrConsumer = DISCARD;
+    private InputStream stdin;
+    private String user;
+
+    public ExecCommand(String... command) {
+        if (command == null || command.length == 0) {
+            throw new IllegalArgumentException("A command must be provided");
+        }
+        this.command = command;
+    }
+
+    /**
+     * @param consumer consumer that stdout frames should be sent to
+     * @return this
+     */
+    public ExecCommand withStdout(Consumer<OutputFrame> consumer) {
+        this.stdoutConsumer = consumer;
+        return this;
+    }
+
+    /**
+     * @param channel channel that stdout should be written to. The channel is not closed when the command ends.
+     * @return this
+     */
+    public ExecCommand withStdout(WritableByteChannel channel) {
+        return withStdout(new ChannelWritingConsumer(channel));
+    }
+
+    /**
+     * @param consumer consumer that stderr frames should be sent to
+     * @return this
+     */
+    public ExecCommand withStderr(Consumer<OutputFrame> consumer) {
+        this.stderrConsumer = consumer;
+        return this;
+    }
+
+    /**
+     * @param channel channel that stderr should be written to. The channel is not closed when the command ends.
+     * @return this
+     */
+    public ExecCommand withStderr(WritableByteChannel channel) {
+        return withStderr(new ChannelWritingConsumer(channel));
+    }
+
+    /**
+     * @param stdin stream to be piped to the command's standard input. The command sees end of input once the stream
+     *              is exhausted.
+     * @return this
+     */
+    public ExecCommand withStdin(InputStream stdin) {
+        this.stdin = stdin;
+        return this;
+    }
+
+    /**
+     * @param user the user (name or uid, optionally with a group) to run the command as
+     * @return this
+     */
+    public ExecCommand withUser(String user) {
+        this.user = user;
+        return this;
+    }
+
+    public String[] getCommand() {
+        return command;
+    }
+
+    public Consumer<OutputFrame> getStdoutConsumer() {
+        return stdoutConsumer;
+    }
+
+    public Consumer<OutputFrame> getStderrConsumer() {
+        return stderrConsumer;
+    }
+
+    public InputStream getStdin() {
+        return stdin;
+    }
+
+    public String getUser() {
+        return user;
+    }
+}
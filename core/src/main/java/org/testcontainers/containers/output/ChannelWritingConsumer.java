@@ -0,0 +1,38 @@
+package org.testcontainers.containers.output;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Consumer;
+
+/**
+ * A consumer for container output that writes each frame straight to a {@link WritableByteChannel}, so that
+ * arbitrarily large output can be handled without holding it in memory.
+ * <p>
+ * The channel is not closed when the output ends; it remains owned by the caller.
+ */
+public class ChannelWritingConsumer implements Consumer<OutputFrame> {
+
+    private final WritableByteChannel channel;
+
+    public ChannelWritingConsumer(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public synchronized void accept(OutputFrame outputFrame) {
+        if (outputFrame == null || outputFrame.getBytes() == null) {
+            return;
+        }
+
+        ByteBuffer buffer = outputFrame.getByteBuffer();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.testcontainers.containers.output;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A consumer for container output that continuously appends output to a file, so that it remains available after
+ * the container has gone, and keeps the most recent frames in memory for quick failure reporting.
+ * <p>
+ * When the file reaches its size limit it is rotated: the current file is renamed with a <code>.1</code> suffix
+ * (replacing any previous rotated file) and a new file is started. At most twice the size limit is therefore kept on
+ * disk for any one container.
+ */
+public class FileCaptureConsumer implements Consumer<OutputFrame>, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileCaptureConsumer.class);
+
+    /**
+     * Default size at which the capture file is rotated.
+     */
+    public static final long DEFAULT_MAX_FILE_BYTES = 16 * 1024 * 1024;
+
+    /**
+     * Default maximum number of payload bytes kept in memory for {@link #getTail()}.
+     */
+    public static final long DEFAULT_TAIL_BYTES = 64 * 1024;
+
+    private final Path file;
+    private final long maxFileBytes;
+    private final long maxTailBytes;
+
+    private final Deque<OutputFrame> tail = new ArrayDeque<>();
+    private long tailBytes = 0;
+
+    private FileChannel channel;
+    private long fileBytes = 0;
+    private boolean stopped = false;
+
+    public FileCaptureConsumer(Path file) {
+        this(file, DEFAULT_MAX_FILE_BYTES, DEFAULT_TAIL_BYTES);
+    }
+
+    public FileCaptureConsumer(Path file, long maxFileBytes, long maxTailBytes) {
+        this.file = file;
+        this.maxFileBytes = maxFileBytes;
+        this.maxTailBytes = maxTailBytes;
+    }
+
+    @Override
+    public synchronized void accept(OutputFrame outputFrame) {
+        if (outputFrame == null || outputFrame == OutputFrame.END || outputFrame.getBytes() == null) {
+            return;
+        }
+
+        byte[] bytes = outputFrame.getBytes();
+
+        tail.addLast(outputFrame);
+        tailBytes += bytes.length;
+        while (tailBytes > maxTailBytes && tail.size() > 1) {
+            tailBytes -= tail.removeFirst().getBytes().length;
+        }
+
+        if (stopped) {
+            return;
+        }
+
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(file, CREATE, WRITE, TRUNCATE_EXISTING);
+            } else if (fileBytes + bytes.length > maxFileBytes && fileBytes > 0) {
+                rotate();
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                fileBytes += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            // never let capture problems interfere with the container; just stop capturing to disk
+            LOGGER.warn("Could not write container output to {}; output will no longer be captured to disk", file, e);
+            stopped = true;
+            closeQuietly();
+        }
+    }
+
+    private void rotate() throws IOException {
+        channel.close();
+        Files.move(file, getRotatedFile(), StandardCopyOption.REPLACE_EXISTING);
+        channel = FileChannel.open(file, CREATE, WRITE, TRUNCATE_EXISTING);
+        fileBytes = 0;
+    }
+
+    /**
+     * @return the file that output is currently being written to
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return the file holding output from before the last rotation (which may not exist)
+     */
+    public Path getRotatedFile() {
+        return file.resolveSibling(file.getFileName() + ".1");
+    }
+
+    /**
+     * @return the most recent frames of output, oldest first
+     */
+    public synchronized List<OutputFrame> getTail() {
+        return new ArrayList<>(tail);
+    }
+
+    /**
+     * Stop writing output to disk. Output that is received afterwards is still kept in memory for {@link #getTail()}.
+     */
+    @Override
+    public synchronized void close() {
+        stopped = true;
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.debug("Error closing {}", file, e);
+            }
+            channel = null;
+        }
+    }
+}
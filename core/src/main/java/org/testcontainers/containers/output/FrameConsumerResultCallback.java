@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.Consumer;
 
@@ -24,6 +25,8 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
 
     private CountDownLatch completionLatch = new CountDownLatch(1);
 
+    private final CompletableFuture<Void> completionFuture = new CompletableFuture<>();
+
     public FrameConsumerResultCallback() {
         consumers = new HashMap<>();
     }
@@ -55,7 +58,8 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
 
     @Override
     public void onError(Throwable throwable) {
-        // Sink any errors
+        // Sink any errors, other than reporting them to anyone using the completion future
+        completionFuture.completeExceptionally(throwable);
         try {
             close();
         } catch (IOException ignored) { }
@@ -70,6 +74,7 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
         super.close();
 
         completionLatch.countDown();
+        completionFuture.complete(null);
     }
 
     /**
@@ -78,4 +83,12 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
     public CountDownLatch getCompletionLatch() {
         return completionLatch;
     }
+
+    /**
+     * @return a future that completes when {@link #close()} has been called, or completes exceptionally if the
+     * stream failed
+     */
+    public CompletableFuture<Void> getCompletionFuture() {
+        return completionFuture;
+    }
 }
@@ -0,0 +1,226 @@
+package org.testcontainers.containers.output;
+
+import com.github.dockerjava.api.DockerClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDERR;
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDOUT;
+
+/**
+ * Shares a single Docker log stream for a container between any number of consumers.
+ * <p>
+ * The underlying follow stream is opened on first use, and a bounded buffer of recent frames is kept so that
+ * consumers attaching later can have the container's output replayed to them from a given offset, without a new
+ * request being made to the Docker daemon. Offsets count frames received since the stream was opened; once the
+ * buffer limit is reached the oldest frames are discarded and can no longer be replayed.
+ */
+public class LogStreamMultiplexer implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogStreamMultiplexer.class);
+
+    /**
+     * Default maximum number of payload bytes retained for replay to late consumers.
+     */
+    public static final int DEFAULT_REPLAY_BUFFER_BYTES = 4 * 1024 * 1024;
+
+    private final DockerClient dockerClient;
+    private final String containerId;
+    private final long replayBufferBytes;
+
+    private final Deque<OutputFrame> replayBuffer = new ArrayDeque<>();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Consumer<OutputFrame> publisher = this::publish;
+
+    private FrameConsumerResultCallback callback;
+    private long bufferedBytes = 0;
+    private long firstBufferedOffset = 0;
+    private long nextOffset = 0;
+    private boolean ended = false;
+
+    public LogStreamMultiplexer(DockerClient dockerClient, String containerId) {
+        this(dockerClient, containerId, DEFAULT_REPLAY_BUFFER_BYTES);
+    }
+
+    public LogStreamMultiplexer(DockerClient dockerClient, String containerId, long replayBufferBytes) {
+        this.dockerClient = dockerClient;
+        this.containerId = containerId;
+        this.replayBufferBytes = replayBufferBytes;
+    }
+
+    /**
+     * Attach a consumer, replaying all output that is still buffered before following new output.
+     *
+     * @param consumer consumer that the frames should be sent to
+     * @param types    types that should be followed (one or both of STDOUT, STDERR)
+     * @return a subscription which may be closed to stop following
+     */
+    public Subscription attach(Consumer<OutputFrame> consumer, OutputFrame.OutputType... types) {
+        return attach(consumer, 0, types);
+    }
+
+    /**
+     * Attach a consumer, replaying buffered output starting at the given offset before following new output.
+     * <p>
+     * Use {@link #getOffset()} to obtain an offset that only includes output produced from now on.
+     *
+     * @param consumer   consumer that the frames should be sent to
+     * @param fromOffset offset of the first frame to deliver
+     * @param types      types that should be followed (one or both of STDOUT, STDERR)
+     * @return a subscription which may be closed to stop following
+     */
+    public synchronized Subscription attach(Consumer<OutputFrame> consumer, long fromOffset, OutputFrame.OutputType... types) {
+        final Subscription subscription = new Subscription(consumer, types);
+
+        long offset = firstBufferedOffset;
+        for (OutputFrame frame : replayBuffer) {
+            if (offset++ >= fromOffset) {
+                subscription.deliver(frame);
+            }
+        }
+
+        if (ended) {
+            subscription.deliver(OutputFrame.END);
+        } else {
+            subscriptions.add(subscription);
+            startIfNecessary();
+        }
+
+        return subscription;
+    }
+
+    /**
+     * @return the offset that the next frame received from the container will have
+     */
+    public synchronized long getOffset() {
+        return nextOffset;
+    }
+
+    /**
+     * @return whether Docker has closed the stream of output
+     */
+    public synchronized boolean isEnded() {
+        return ended;
+    }
+
+    /**
+     * Stop following the container's output. All attached consumers will receive an {@link OutputFrame#END} frame.
+     */
+    @Override
+    public void close() {
+        final FrameConsumerResultCallback callbackToClose;
+        synchronized (this) {
+            callbackToClose = callback;
+            if (callbackToClose == null) {
+                publish(OutputFrame.END);
+                return;
+            }
+        }
+
+        try {
+            // closing the callback sends END through publish(), outside of our own lock
+            callbackToClose.close();
+        } catch (IOException e) {
+            LOGGER.debug("Error closing log stream for container {}", containerId, e);
+        }
+    }
+
+    private void startIfNecessary() {
+        if (callback != null) {
+            return;
+        }
+
+        callback = new FrameConsumerResultCallback();
+        callback.addConsumer(STDOUT, publisher);
+        callback.addConsumer(STDERR, publisher);
+
+        dockerClient.logContainerCmd(containerId)
+                .withFollowStream(true)
+                .withSince(0)
+                .withStdOut(true)
+                .withStdErr(true)
+                .exec(callback);
+    }
+
+    private synchronized void publish(OutputFrame frame) {
+        if (ended) {
+            return;
+        }
+
+        if (frame == OutputFrame.END) {
+            ended = true;
+            for (Subscription subscription : subscriptions) {
+                subscription.deliver(frame);
+            }
+            subscriptions.clear();
+            return;
+        }
+
+        replayBuffer.addLast(frame);
+        bufferedBytes += sizeOf(frame);
+        nextOffset++;
+
+        while (bufferedBytes > replayBufferBytes && replayBuffer.size() > 1) {
+            bufferedBytes -= sizeOf(replayBuffer.removeFirst());
+            firstBufferedOffset++;
+        }
+
+        for (Subscription subscription : subscriptions) {
+            subscription.deliver(frame);
+        }
+    }
+
+    private synchronized void detach(Subscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    private static int sizeOf(OutputFrame frame) {
+        return frame.getBytes() == null ? 0 : frame.getBytes().length;
+    }
+
+    /**
+     * Handle for a consumer attached to a {@link LogStreamMultiplexer}.
+     */
+    public final class Subscription implements AutoCloseable {
+
+        private final Consumer<OutputFrame> consumer;
+        private final Set<OutputFrame.OutputType> types;
+
+        private Subscription(Consumer<OutputFrame> consumer, OutputFrame.OutputType... types) {
+            this.consumer = consumer;
+            this.types = types.length == 0 ? Collections.emptySet() : EnumSet.copyOf(Arrays.asList(types));
+        }
+
+        private void deliver(OutputFrame frame) {
+            if (frame != OutputFrame.END && !types.contains(frame.getType())) {
+                return;
+            }
+
+            try {
+                consumer.accept(frame);
+            } catch (RuntimeException e) {
+                // one misbehaving consumer should not stop output reaching the others
+                LOGGER.warn("Log consumer {} failed for container {}", consumer, containerId, e);
+            }
+        }
+
+        /**
+         * Stop sending frames to this consumer. No {@link OutputFrame#END} frame is sent.
+         */
+        @Override
+        public void close() {
+            detach(this);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.github.dockerjava.api.model.Frame;
 import com.github.dockerjava.api.model.StreamType;
 import com.google.common.base.Charsets;
 
+import java.nio.ByteBuffer;
+
 /**
  * Holds a frame of container output (usually one line, possibly more)
  */
@@ -11,9 +13,17 @@ public class OutputFrame {
 
     public static final OutputFrame END = new OutputFrame(OutputType.END, null);
 
+    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0).asReadOnlyBuffer();
+
     private final OutputType type;
     private final byte[] bytes;
 
+    /*
+     * Decoded lazily, and shared by every consumer of this frame. Racing threads may each decode the frame, but will
+     * always produce an equal value.
+     */
+    private String utf8String;
+
     public OutputFrame(OutputType type, byte[] bytes) {
         this.type = type;
         this.bytes = bytes;
@@ -27,13 +37,61 @@ public class OutputFrame {
         return bytes;
     }
 
+    /**
+     * @return a read-only view of the frame's payload, which does not copy it
+     */
+    public ByteBuffer getByteBuffer() {
+        if (bytes == null) {
+            return EMPTY_BUFFER;
+        }
+
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return the frame's payload decoded as UTF-8. The decoded value is cached, so repeated calls (including from
+     * different consumers of the same frame) do not decode the payload again.
+     */
     public String getUtf8String() {
 
         if (bytes == null) {
             return "";
         }
 
-        return new String(bytes, Charsets.UTF_8);
+        String result = utf8String;
+        if (result == null) {
+            result = new String(bytes, Charsets.UTF_8);
+            utf8String = result;
+        }
+        return result;
+    }
+
+    /**
+     * Test whether the frame's payload contains a given sequence of bytes, without decoding it. This is intended for
+     * use in predicates that are evaluated against every frame, e.g. with {@link WaitingConsumer#waitUntil}:
+     * <pre>
+     * byte[] marker = "STARTED".getBytes(StandardCharsets.UTF_8);
+     * consumer.waitUntil(frame -&gt; frame.contains(marker));
+     * </pre>
+     *
+     * @param sequence the bytes to look for
+     * @return true if the payload contains the sequence
+     */
+    public boolean contains(byte[] sequence) {
+        if (bytes == null) {
+            return sequence.length == 0;
+        }
+
+        outer:
+        for (int i = 0; i <= bytes.length - sequence.length; i++) {
+            for (int j = 0; j < sequence.length; j++) {
+                if (bytes[i + j] != sequence[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
     }
 
     public enum OutputType {
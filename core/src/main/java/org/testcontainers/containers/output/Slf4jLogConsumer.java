@@ -1,19 +1,54 @@
 package org.testcontainers.containers.output;
 
+import com.google.common.base.Charsets;
 import org.slf4j.Logger;
 
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 /**
  * A consumer for container output that logs output to an SLF4J logger.
+ * <p>
+ * Each line of output is logged as a separate message; partial lines are held back until they are completed by a
+ * later frame, or until the end of the output is reached.
+ * <p>
+ * By default output is logged on the thread that delivers it, which for followed container output is the Docker
+ * client's I/O thread. {@link #withAsync()} can be used to hand frames over to a dedicated background thread instead,
+ * so that slow log appenders cannot hold up the Docker client. In this mode frames are dropped, and counted, if the
+ * queue of frames waiting to be logged is full.
  */
 public class Slf4jLogConsumer implements Consumer<OutputFrame> {
+
+    /**
+     * Default number of frames that may be waiting to be logged in asynchronous mode.
+     */
+    public static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 10_000;
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long DRAIN_THREAD_IDLE_MILLIS = 1_000;
+
     private final Logger logger;
     private String prefix = "";
 
     private static final Pattern ANSI_CODE_PATTERN = Pattern.compile("\\[\\d[ABCD]");
 
+    private final Map<OutputFrame.OutputType, ByteArrayOutputStream> partialLines = new EnumMap<>(OutputFrame.OutputType.class);
+
+    private BlockingQueue<OutputFrame> queue;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicLong droppedFrames = new AtomicLong(0);
+    private long reportedDroppedFrames = 0;
+
     public Slf4jLogConsumer(Logger logger) {
         this.logger = logger;
     }
@@ -23,30 +58,148 @@ public class Slf4jLogConsumer implements Consumer<OutputFrame> {
         return this;
     }
 
+    /**
+     * Log output from a background thread, using a queue of {@link #DEFAULT_ASYNC_QUEUE_CAPACITY} frames.
+     *
+     * @return this
+     */
+    public Slf4jLogConsumer withAsync() {
+        return withAsync(DEFAULT_ASYNC_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Log output from a background thread, using a queue of the given capacity. Frames which arrive while the queue
+     * is full are dropped.
+     *
+     * @param queueCapacity maximum number of frames waiting to be logged
+     * @return this
+     */
+    public Slf4jLogConsumer withAsync(int queueCapacity) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        return this;
+    }
+
+    /**
+     * @return the number of frames that have been dropped because the asynchronous queue was full
+     */
+    public long getDroppedFrameCount() {
+        return droppedFrames.get();
+    }
+
     @Override
     public void accept(OutputFrame outputFrame) {
-        if (outputFrame != null) {
-            String utf8String = outputFrame.getUtf8String();
+        if (outputFrame == null) {
+            return;
+        }
 
-            if (utf8String != null) {
-                OutputFrame.OutputType outputType = outputFrame.getType();
-                String message = utf8String.trim();
+        if (queue == null) {
+            log(outputFrame);
+            return;
+        }
 
-                if (ANSI_CODE_PATTERN.matcher(message).matches()) {
-                    return;
-                }
+        if (!queue.offer(outputFrame)) {
+            droppedFrames.incrementAndGet();
+        }
 
-                switch (outputType) {
-                    case END:
-                        break;
-                    case STDOUT:
-                    case STDERR:
-                        logger.info("{}{}: {}", prefix, outputType, message);
-                        break;
-                    default:
-                        throw new IllegalArgumentException("Unexpected outputType " + outputType);
+        if (draining.compareAndSet(false, true)) {
+            Thread drainThread = new Thread(this::drain, "testcontainers-log-consumer-" + logger.getName());
+            drainThread.setDaemon(true);
+            drainThread.start();
+        }
+    }
+
+    private void drain() {
+        final List<OutputFrame> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        do {
+            try {
+                OutputFrame frame;
+                while ((frame = queue.poll(DRAIN_THREAD_IDLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    batch.add(frame);
+                    queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+                    for (OutputFrame batchedFrame : batch) {
+                        log(batchedFrame);
+                    }
+                    batch.clear();
+
+                    reportDroppedFrames();
                 }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                draining.set(false);
+                return;
             }
+
+            draining.set(false);
+            // a frame may have been queued after our last poll but before the flag was cleared
+        } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    private void reportDroppedFrames() {
+        long dropped = droppedFrames.get();
+        if (dropped > reportedDroppedFrames) {
+            logger.warn("{}{} frame(s) of container output were not logged because the log queue was full",
+                    prefix, dropped - reportedDroppedFrames);
+            reportedDroppedFrames = dropped;
+        }
+    }
+
+    private synchronized void log(OutputFrame outputFrame) {
+        OutputFrame.OutputType outputType = outputFrame.getType();
+
+        switch (outputType) {
+            case END:
+                partialLines.forEach((type, partialLine) -> {
+                    if (partialLine.size() > 0) {
+                        logLine(type, new String(partialLine.toByteArray(), Charsets.UTF_8));
+                        partialLine.reset();
+                    }
+                });
+                break;
+            case STDOUT:
+            case STDERR:
+                logLines(outputType, outputFrame.getBytes());
+                break;
+            default:
+                throw new IllegalArgumentException("Unexpected outputType " + outputType);
         }
     }
+
+    private void logLines(OutputFrame.OutputType outputType, byte[] bytes) {
+        if (bytes == null) {
+            return;
+        }
+
+        ByteArrayOutputStream partialLine = partialLines.get(outputType);
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+
+            if (partialLine != null && partialLine.size() > 0) {
+                partialLine.write(bytes, lineStart, i - lineStart);
+                logLine(outputType, new String(partialLine.toByteArray(), Charsets.UTF_8));
+                partialLine.reset();
+            } else {
+                logLine(outputType, new String(bytes, lineStart, i - lineStart, Charsets.UTF_8));
+            }
+            lineStart = i + 1;
+        }
+
+        if (lineStart < bytes.length) {
+            partialLines.computeIfAbsent(outputType, it -> new ByteArrayOutputStream())
+                    .write(bytes, lineStart, bytes.length - lineStart);
+        }
+    }
+
+    private void logLine(OutputFrame.OutputType outputType, String line) {
+        String message = line.trim();
+
+        if (ANSI_CODE_PATTERN.matcher(message).matches()) {
+            return;
+        }
+
+        logger.info("{}{}: {}", prefix, outputType, message);
+    }
 }
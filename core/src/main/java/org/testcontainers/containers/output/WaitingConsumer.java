@@ -86,8 +86,10 @@ public class WaitingConsumer implements Consumer<OutputFrame> {
                 OutputFrame frame = frames.pollLast(100, TimeUnit.MILLISECONDS);
 
                 if (frame != null) {
-                    final String trimmedFrameText = frame.getUtf8String().replaceFirst("\n$", "");
-                    LOGGER.debug("{}: {}", frame.getType(), trimmedFrameText);
+                    if (LOGGER.isDebugEnabled()) {
+                        final String trimmedFrameText = frame.getUtf8String().replaceFirst("\n$", "");
+                        LOGGER.debug("{}: {}", frame.getType(), trimmedFrameText);
+                    }
 
                     if (predicate.test(frame)) {
                         numberOfMatches++;
@@ -103,6 +105,7 @@ public class WaitingConsumer implements Consumer<OutputFrame> {
                     Thread.sleep(10L);
                 }
             } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 throw new RuntimeException(e);
             }
         }
@@ -144,6 +147,7 @@ public class WaitingConsumer implements Consumer<OutputFrame> {
                     Thread.sleep(10L);
                 }
             } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 throw new RuntimeException(e);
             }
         }
@@ -0,0 +1,73 @@
+package org.testcontainers.containers.startupcheck;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.model.WaitResponse;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Callback for Docker's wait command, which responds once a container has exited, with its exit code.
+ * <p>
+ * Unlike polling the container's state, no thread is occupied while waiting; the response arrives on docker-java's
+ * I/O thread and completes {@link #getExitCode()}. Cancelling that future closes the underlying request.
+ */
+@Slf4j
+public class ContainerExitResultCallback extends ResultCallbackTemplate<ContainerExitResultCallback, WaitResponse> {
+
+    private final CompletableFuture<Integer> exitCode = new CompletableFuture<>();
+
+    public ContainerExitResultCallback() {
+        exitCode.whenComplete((code, throwable) -> {
+            if (exitCode.isCancelled()) {
+                try {
+                    close();
+                } catch (IOException e) {
+                    log.debug("Failed to close wait request", e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Start waiting for a container to exit.
+     *
+     * @param dockerClient the client to use
+     * @param containerId  the container to wait for
+     * @return a future which completes with the container's exit code once it has exited
+     */
+    public static CompletableFuture<Integer> waitForExit(DockerClient dockerClient, String containerId) {
+        return dockerClient.waitContainerCmd(containerId)
+                .exec(new ContainerExitResultCallback())
+                .getExitCode();
+    }
+
+    @Override
+    public void onNext(WaitResponse waitResponse) {
+        exitCode.complete(waitResponse.getStatusCode());
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        exitCode.completeExceptionally(throwable);
+        super.onError(throwable);
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+
+        // has no effect if an exit code or error was received
+        exitCode.completeExceptionally(new IllegalStateException("Wait for container to exit ended without an exit code"));
+    }
+
+    /**
+     * @return a future which completes with the container's exit code once it has exited, or completes exceptionally
+     * if the wait fails
+     */
+    public CompletableFuture<Integer> getExitCode() {
+        return exitCode;
+    }
+}
@@ -1,9 +1,6 @@
 package org.testcontainers.containers.startupcheck;
 
 import com.github.dockerjava.api.DockerClient;
-import com.google.common.util.concurrent.Uninterruptibles;
-
-import java.util.concurrent.TimeUnit;
 
 /**
  * Variant of {@link OneShotStartupCheckStrategy} that does not impose a timeout.
@@ -14,10 +11,6 @@ import java.util.concurrent.TimeUnit;
 public class IndefiniteWaitOneShotStartupCheckStrategy extends OneShotStartupCheckStrategy {
     @Override
     public boolean waitUntilStartupSuccessful(DockerClient dockerClient, String containerId) {
-        while (checkStartupState(dockerClient, containerId) == StartupStatus.NOT_YET_KNOWN) {
-            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
-        }
-
-        return checkStartupState(dockerClient, containerId) == StartupStatus.SUCCESSFUL;
+        return waitForSuccessfulExit(dockerClient, containerId, null);
     }
 }
@@ -2,14 +2,34 @@ package org.testcontainers.containers.startupcheck;
 
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.google.common.util.concurrent.Uninterruptibles;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.rnorth.ducttape.TimeoutException;
+import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.utility.DockerStatus;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testcontainers.containers.GenericContainer.CONTAINER_RUNNING_TIMEOUT_SEC;
+
 /**
  * Implementation of {@link StartupCheckStrategy} intended for use with containers that only run briefly and
  * exit of their own accord. As such, success is deemed to be when the container has stopped with exit code 0.
+ * <p>
+ * The exit is awaited with Docker's wait command rather than by polling the container's state.
  */
+@Slf4j
 public class OneShotStartupCheckStrategy extends StartupCheckStrategy {
 
+    @Override
+    public boolean waitUntilStartupSuccessful(DockerClient dockerClient, String containerId) {
+        return waitForSuccessfulExit(dockerClient, containerId, Duration.ofSeconds(CONTAINER_RUNNING_TIMEOUT_SEC));
+    }
+
     @Override
     public StartupStatus checkStartupState(DockerClient dockerClient, String containerId) {
         InspectContainerResponse.ContainerState state = getCurrentState(dockerClient, containerId);
@@ -24,4 +44,36 @@ public class OneShotStartupCheckStrategy extends StartupCheckStrategy {
             return StartupStatus.FAILED;
         }
     }
+
+    /**
+     * Wait for the container to exit.
+     *
+     * @param timeout how long to wait, or null to wait indefinitely
+     * @return true if the container exited with exit code 0
+     */
+    protected boolean waitForSuccessfulExit(DockerClient dockerClient, String containerId, @Nullable Duration timeout) {
+        final CompletableFuture<Integer> exitCode = ContainerExitResultCallback.waitForExit(dockerClient, containerId);
+        try {
+            final Integer code = timeout == null ? exitCode.get() : exitCode.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return code != null && code == 0;
+        } catch (java.util.concurrent.TimeoutException e) {
+            exitCode.cancel(false);
+            throw new TimeoutException("Timed out waiting for container " + containerId + " to exit", e);
+        } catch (ExecutionException e) {
+            log.debug("Could not wait for container {} to exit; polling its state instead", containerId, e.getCause());
+            return timeout == null ? pollUntilStopped(dockerClient, containerId) : super.waitUntilStartupSuccessful(dockerClient, containerId);
+        } catch (InterruptedException e) {
+            exitCode.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for container " + containerId + " to exit", e);
+        }
+    }
+
+    private boolean pollUntilStopped(DockerClient dockerClient, String containerId) {
+        while (checkStartupState(dockerClient, containerId) == StartupStatus.NOT_YET_KNOWN) {
+            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+        }
+
+        return checkStartupState(dockerClient, containerId) == StartupStatus.SUCCESSFUL;
+    }
 }
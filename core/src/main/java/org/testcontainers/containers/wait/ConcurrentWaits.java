@@ -0,0 +1,99 @@
+package org.testcontainers.containers.wait;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.experimental.UtilityClass;
+import org.rnorth.ducttape.TimeoutException;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a number of wait strategies concurrently, for {@link WaitAllStrategy} and {@link WaitAnyStrategy}.
+ */
+@UtilityClass
+class ConcurrentWaits {
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("testcontainers-wait-%d")
+            .setDaemon(true)
+            .build());
+
+    /**
+     * Strategies which are running concurrently, and whose outcomes can be taken in order of completion.
+     */
+    static class Running implements AutoCloseable {
+
+        private final CompletionService<Void> completionService = new ExecutorCompletionService<>(EXECUTOR);
+        private final List<Future<Void>> futures = new ArrayList<>();
+        private final long deadline;
+
+        Running(List<WaitStrategy> strategies, GenericContainer container, Duration timeout) {
+            this.deadline = System.nanoTime() + timeout.toNanos();
+            for (WaitStrategy strategy : strategies) {
+                futures.add(completionService.submit(() -> {
+                    strategy.waitUntilReady(container);
+                    return null;
+                }));
+            }
+        }
+
+        int size() {
+            return futures.size();
+        }
+
+        /**
+         * Wait for the next strategy to finish.
+         *
+         * @return null if the strategy succeeded, or the exception with which it failed
+         * @throws TimeoutException if the overall timeout is reached first
+         */
+        RuntimeException awaitNext() {
+            final Future<Void> next;
+            try {
+                next = completionService.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+
+            if (next == null) {
+                throw new TimeoutException(new java.util.concurrent.TimeoutException());
+            }
+
+            try {
+                next.get();
+                return null;
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    return (RuntimeException) cause;
+                }
+                return new RuntimeException(cause);
+            } catch (InterruptedException e) {
+                // cannot happen, as the future has completed
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Cancel any strategies which are still running. Their threads are interrupted, which causes strategies
+         * waiting on container output to close their log streams.
+         */
+        @Override
+        public void close() {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.testcontainers.containers.wait;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.HealthState;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.core.command.EventsResultCallback;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.GenericContainer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Waits until the container's Docker <code>HEALTHCHECK</code> reports that it is healthy.
+ * <p>
+ * Rather than probing the container itself, this strategy listens for the daemon's <code>health_status</code> events
+ * for the container, so readiness is detected as soon as the daemon knows about it. The container's health state is
+ * also inspected when the wait starts, and occasionally afterwards, in case an event is missed.
+ * <p>
+ * The image (or container) must define a <code>HEALTHCHECK</code>.
+ */
+@Slf4j
+public class HealthcheckWaitStrategy extends GenericContainer.AbstractWaitStrategy {
+
+    private static final String HEALTHY = "healthy";
+    private static final String HEALTH_STATUS_EVENT_PREFIX = "health_status: ";
+    private static final String DIE_EVENT = "die";
+
+    /**
+     * Interval at which the health state is inspected directly, in case an event has been missed.
+     */
+    private static final Duration RECHECK_INTERVAL = Duration.ofSeconds(5);
+
+    @Override
+    protected void waitUntilReady() {
+        final DockerClient dockerClient = container.getDockerClient();
+        final String containerId = container.getContainerId();
+
+        final CountDownLatch finished = new CountDownLatch(1);
+        final AtomicReference<String> failure = new AtomicReference<>();
+
+        // subscribe before inspecting the current state, so that no change of state can be missed in between
+        final EventsResultCallback callback = dockerClient.eventsCmd()
+                .withContainerFilter(containerId)
+                .exec(new EventsResultCallback() {
+                    @Override
+                    public void onNext(Event event) {
+                        final String status = event.getStatus();
+                        if (status == null) {
+                            return;
+                        }
+
+                        if (status.equals(HEALTH_STATUS_EVENT_PREFIX + HEALTHY)) {
+                            finished.countDown();
+                        } else if (status.equals(DIE_EVENT)) {
+                            failure.set("Container exited before becoming healthy");
+                            finished.countDown();
+                        }
+                    }
+                });
+
+        try {
+            final long deadline = System.nanoTime() + startupTimeout.toNanos();
+            while (!isHealthy(dockerClient, containerId)) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new ContainerLaunchException("Timed out waiting for container to become healthy");
+                }
+
+                if (finished.await(Math.min(remaining, RECHECK_INTERVAL.toNanos()), TimeUnit.NANOSECONDS)) {
+                    if (failure.get() != null) {
+                        throw new ContainerLaunchException(failure.get());
+                    }
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for container to become healthy");
+        } finally {
+            try {
+                callback.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private boolean isHealthy(DockerClient dockerClient, String containerId) {
+        final InspectContainerResponse.ContainerState state = dockerClient.inspectContainerCmd(containerId).exec().getState();
+
+        final HealthState health = state.getHealth();
+        if (health == null) {
+            throw new ContainerLaunchException("Container has no HEALTHCHECK defined, so cannot wait for it to become healthy");
+        }
+        if (!Boolean.TRUE.equals(state.getRunning())) {
+            throw new ContainerLaunchException("Container exited before becoming healthy");
+        }
+
+        log.debug("Health status of {}: {}", containerId, health.getStatus());
+        return HEALTHY.equals(health.getStatus());
+    }
+}
@@ -1,17 +1,17 @@
 package org.testcontainers.containers.wait;
 
 import lombok.extern.slf4j.Slf4j;
-import org.rnorth.ducttape.TimeoutException;
-import org.rnorth.ducttape.unreliables.Unreliables;
 import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.internal.ExternalPortListeningCheck;
 import org.testcontainers.containers.wait.internal.InternalCommandPortListeningCheck;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -22,6 +22,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class HostPortWaitStrategy extends GenericContainer.AbstractWaitStrategy {
 
+    private static final Duration PROBE_INTERVAL = Duration.ofSeconds(1);
+
     @Override
     protected void waitUntilReady() {
         final Set<Integer> externalLivenessCheckPorts = getLivenessCheckPorts();
@@ -39,17 +41,21 @@ public class HostPortWaitStrategy extends GenericContainer.AbstractWaitStrategy
 
         Callable<Boolean> externalCheck = new ExternalPortListeningCheck(container, externalLivenessCheckPorts);
 
+        final CompletableFuture<Void> probe = ProbeScheduler.getInstance()
+                .schedule(() -> internalCheck.call() && externalCheck.call(), startupTimeout,
+                        getPollingSchedule(PROBE_INTERVAL, PROBE_INTERVAL));
         try {
-            Unreliables.retryUntilTrue((int) startupTimeout.getSeconds(), TimeUnit.SECONDS, () -> {
-                return getRateLimiter().getWhenReady(() -> internalCheck.call() && externalCheck.call());
-            });
-
-        } catch (TimeoutException e) {
+            probe.get();
+        } catch (ExecutionException e) {
             throw new ContainerLaunchException("Timed out waiting for container port to open (" +
                     container.getContainerIpAddress() +
                     " ports: " +
                     externalLivenessCheckPorts +
                     " should be listening)");
+        } catch (InterruptedException e) {
+            probe.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for container port to open");
         }
     }
 
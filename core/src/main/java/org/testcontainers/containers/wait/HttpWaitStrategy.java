@@ -1,24 +1,27 @@
 package org.testcontainers.containers.wait;
 
+import com.google.common.base.Charsets;
 import com.google.common.base.Strings;
 import com.google.common.io.BaseEncoding;
-import org.rnorth.ducttape.TimeoutException;
 import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.GenericContainer;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URL;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Predicate;
 
-import static org.rnorth.ducttape.unreliables.Unreliables.retryUntilSuccess;
-
 /**
  * Waits until an HTTP(S) endpoint returns a given status code.
+ * <p>
+ * The endpoint is polled every few tens of milliseconds at first, backing off to once a second. Each response is
+ * read (up to a limit) and closed, so that the connection can be kept alive and reused by the next attempt.
  *
  * @author Pete Cornish {@literal <outofcoffee@gmail.com>}
  */
@@ -33,12 +36,25 @@ public class HttpWaitStrategy extends GenericContainer.AbstractWaitStrategy {
      */
     private static final String AUTH_BASIC = "Basic ";
 
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final Duration INITIAL_PROBE_INTERVAL = Duration.ofMillis(25);
+    private static final Duration MAX_PROBE_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * Maximum amount of a response body which is read for {@link #forResponsePredicate(Predicate)}.
+     */
+    private static final int MAX_RESPONSE_BODY_BYTES = 64 * 1024;
+
     private String path = "/";
     private int statusCode = HttpURLConnection.HTTP_OK;
     private boolean tlsEnabled;
     private String username;
     private String password;
     private Predicate<String> responsePredicate;
+    private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private Duration readTimeout = DEFAULT_READ_TIMEOUT;
 
     /**
      * Waits for the given status code.
@@ -95,6 +111,28 @@ public class HttpWaitStrategy extends GenericContainer.AbstractWaitStrategy {
         return this;
     }
 
+    /**
+     * Set the timeout for establishing each connection.
+     *
+     * @param connectTimeout the connect timeout
+     * @return this
+     */
+    public HttpWaitStrategy withConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    /**
+     * Set the timeout for reading each response.
+     *
+     * @param readTimeout the read timeout
+     * @return this
+     */
+    public HttpWaitStrategy withReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+        return this;
+    }
+
     @Override
     protected void waitUntilReady() {
         final Integer livenessCheckPort = getLivenessCheckPort();
@@ -106,46 +144,50 @@ public class HttpWaitStrategy extends GenericContainer.AbstractWaitStrategy {
         final String uri = buildLivenessUri(livenessCheckPort).toString();
         logger().info("Waiting for {} seconds for URL: {}", startupTimeout.getSeconds(), uri);
 
-        // try to connect to the URL
+        // poll quickly at first (or around when this image has previously become ready), then back off; each request
+        // blocks one of the probe threads, rather than the scheduler, and the startup timeout applies even mid-request
+        final CompletableFuture<Void> probe = ProbeScheduler.getInstance()
+                .schedule(() -> checkOnce(uri), startupTimeout, getPollingSchedule(INITIAL_PROBE_INTERVAL, MAX_PROBE_INTERVAL));
         try {
-            retryUntilSuccess((int) startupTimeout.getSeconds(), TimeUnit.SECONDS, () -> {
-                getRateLimiter().doWhenReady(() -> {
-                    try {
-                        final HttpURLConnection connection = (HttpURLConnection) new URL(uri).openConnection();
-
-                        // authenticate
-                        if (!Strings.isNullOrEmpty(username)) {
-                            connection.setRequestProperty(HEADER_AUTHORIZATION, buildAuthString(username, password));
-                            connection.setUseCaches(false);
-                        }
-
-                        connection.setRequestMethod("GET");
-                        connection.connect();
-
-                        if (statusCode != connection.getResponseCode()) {
-                            throw new RuntimeException(String.format("HTTP response code was: %s",
-                                    connection.getResponseCode()));
-                        }
-
-                        if(responsePredicate != null) {
-                            String responseBody = getResponseBody(connection);
-                            if(!responsePredicate.test(responseBody)) {
-                                throw new RuntimeException(String.format("Response: %s did not match predicate",
-                                        responseBody));
-                            }
-                        }
-
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                });
-                return true;
-            });
-
-        } catch (TimeoutException e) {
+            probe.get();
+        } catch (ExecutionException e) {
             throw new ContainerLaunchException(String.format(
                     "Timed out waiting for URL to be accessible (%s should return HTTP %s)", uri, statusCode));
+        } catch (InterruptedException e) {
+            probe.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for URL to be accessible: " + uri);
+        }
+    }
+
+    private boolean checkOnce(String uri) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(uri).openConnection();
+        connection.setConnectTimeout((int) connectTimeout.toMillis());
+        connection.setReadTimeout((int) readTimeout.toMillis());
+
+        // authenticate
+        if (!Strings.isNullOrEmpty(username)) {
+            connection.setRequestProperty(HEADER_AUTHORIZATION, buildAuthString(username, password));
+            connection.setUseCaches(false);
+        }
+
+        connection.setRequestMethod("GET");
+        connection.connect();
+
+        final int responseCode = connection.getResponseCode();
+
+        // always consume and close the response, so that the connection can be kept alive for the next attempt
+        final String responseBody = getResponseBody(connection);
+
+        if (statusCode != responseCode) {
+            throw new RuntimeException(String.format("HTTP response code was: %s", responseCode));
         }
+
+        if (responsePredicate != null && !responsePredicate.test(responseBody)) {
+            throw new RuntimeException(String.format("Response: %s did not match predicate", responseBody));
+        }
+
+        return true;
     }
 
     /**
@@ -177,19 +219,26 @@ public class HttpWaitStrategy extends GenericContainer.AbstractWaitStrategy {
         return AUTH_BASIC + BaseEncoding.base64().encode((username + ":" + password).getBytes());
     }
 
+    /**
+     * Read at most {@link #MAX_RESPONSE_BODY_BYTES} of the response body. Line breaks are removed.
+     */
     private String getResponseBody(HttpURLConnection connection) throws IOException {
-        BufferedReader reader;
-        if (200 <= connection.getResponseCode() && connection.getResponseCode() <= 299) {
-            reader = new BufferedReader(new InputStreamReader((connection.getInputStream())));
-        } else {
-            reader = new BufferedReader(new InputStreamReader((connection.getErrorStream())));
+        final InputStream stream = connection.getResponseCode() < HttpURLConnection.HTTP_BAD_REQUEST
+                ? connection.getInputStream()
+                : connection.getErrorStream();
+        if (stream == null) {
+            return "";
         }
 
-        StringBuilder builder = new StringBuilder();
-        String line;
-        while ((line = reader.readLine()) != null) {
-            builder.append(line);
+        try (InputStream body = stream) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while (bytes.size() < MAX_RESPONSE_BODY_BYTES && (read = body.read(buffer, 0, Math.min(buffer.length, MAX_RESPONSE_BODY_BYTES - bytes.size()))) >= 0) {
+                bytes.write(buffer, 0, read);
+            }
+
+            return new String(bytes.toByteArray(), Charsets.UTF_8).replace("\r", "").replace("\n", "");
         }
-        return builder.toString();
     }
 }
@@ -2,12 +2,17 @@ package org.testcontainers.containers.wait;
 
 import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.output.LogStreamMultiplexer;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.output.WaitingConsumer;
 
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDERR;
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDOUT;
 
 /**
  * Waits until containers logs expected content.
@@ -20,12 +25,13 @@ public class LogMessageWaitStrategy extends GenericContainer.AbstractWaitStrateg
     @Override
     protected void waitUntilReady() {
         WaitingConsumer waitingConsumer = new WaitingConsumer();
-        container.followOutput(waitingConsumer);
 
+        // compile once, rather than on every frame as String.matches would
+        Pattern pattern = Pattern.compile(regEx);
         Predicate<OutputFrame> waitPredicate = outputFrame ->
-                outputFrame.getUtf8String().matches(regEx);
+                pattern.matcher(outputFrame.getUtf8String()).matches();
 
-        try {
+        try (LogStreamMultiplexer.Subscription ignored = container.getLogStream().attach(waitingConsumer, STDOUT, STDERR)) {
             waitingConsumer.waitUntil(waitPredicate, startupTimeout.getSeconds(), TimeUnit.SECONDS, times);
         } catch (TimeoutException e) {
             throw new ContainerLaunchException("Timed out waiting for log output matching '" + regEx + "'");
@@ -0,0 +1,197 @@
+package org.testcontainers.containers.wait;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.rnorth.ducttape.TimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs readiness probes for wait strategies on shared threads.
+ * <p>
+ * Each probe is a check that is run repeatedly until it passes or its deadline is reached. Between attempts no
+ * thread is occupied by the probe, so many containers can be waited for at once without a thread (or several) per
+ * container sitting mostly asleep. Attempts are timed by a single scheduler thread, but run on a separate pool which
+ * grows as needed, because checks such as exec commands and socket reads may block for a while.
+ * <p>
+ * Probes are tracked by {@link CompletableFuture}s; cancelling a future stops its probe.
+ */
+@Slf4j
+public final class ProbeScheduler {
+
+    private static final ProbeScheduler INSTANCE = new ProbeScheduler();
+
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    private final ExecutorService executor;
+
+    ProbeScheduler() {
+        scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setNameFormat("testcontainers-probe-scheduler")
+                .setDaemon(true)
+                .build());
+        scheduler.setRemoveOnCancelPolicy(true);
+
+        executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("testcontainers-probe-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * @return the shared scheduler
+     */
+    public static ProbeScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * A single readiness check, which is considered to have failed if it returns false or throws an exception. A check
+     * may block, but should give up after a timeout of its own.
+     */
+    @FunctionalInterface
+    public interface Probe {
+        boolean isReady() throws Exception;
+    }
+
+    /**
+     * Run a probe at a fixed interval until it passes.
+     *
+     * @param probe    the check to run
+     * @param timeout  time after which to give up
+     * @param interval time between the end of one attempt and the start of the next
+     * @return a future which completes when the probe passes, or completes exceptionally with a
+     * {@link TimeoutException} if it does not pass in time
+     */
+    public CompletableFuture<Void> schedule(Probe probe, Duration timeout, Duration interval) {
+        return schedule(probe, timeout, interval, interval);
+    }
+
+    /**
+     * Run a probe until it passes, starting with a short interval between attempts which doubles after each failed
+     * attempt, up to a maximum.
+     *
+     * @param probe           the check to run
+     * @param timeout         time after which to give up
+     * @param initialInterval time between the first and second attempts
+     * @param maxInterval     longest time between attempts
+     * @return a future which completes when the probe passes, or completes exceptionally with a
+     * {@link TimeoutException} if it does not pass in time
+     */
+    public CompletableFuture<Void> schedule(Probe probe, Duration timeout, Duration initialInterval, Duration maxInterval) {
+        return schedule(probe, timeout, backoff(initialInterval, maxInterval));
+    }
+
+    /**
+     * Run a probe until it passes, with the time between attempts chosen by a {@link PollingSchedule}.
+     *
+     * @param probe    the check to run
+     * @param timeout  time after which to give up
+     * @param schedule chooses the time between attempts
+     * @return a future which completes when the probe passes, or completes exceptionally with a
+     * {@link TimeoutException} if it does not pass in time
+     */
+    public CompletableFuture<Void> schedule(Probe probe, Duration timeout, PollingSchedule schedule) {
+        final ScheduledProbe scheduledProbe = new ScheduledProbe(probe, timeout.toNanos(), schedule);
+        executor.execute(scheduledProbe);
+        return scheduledProbe.result;
+    }
+
+    /**
+     * Chooses how long to wait after a failed attempt before the next one.
+     */
+    @FunctionalInterface
+    public interface PollingSchedule {
+        /**
+         * @param elapsed          time since the probe was scheduled
+         * @param previousInterval the interval chosen after the previous attempt, or null after the first attempt
+         * @return time to wait before the next attempt
+         */
+        Duration nextInterval(Duration elapsed, Duration previousInterval);
+    }
+
+    /**
+     * @param initialInterval time between the first and second attempts
+     * @param maxInterval     longest time between attempts
+     * @return a schedule whose interval doubles after each failed attempt, up to a maximum
+     */
+    public static PollingSchedule backoff(Duration initialInterval, Duration maxInterval) {
+        return (elapsed, previousInterval) -> {
+            if (previousInterval == null) {
+                return initialInterval;
+            }
+            final Duration doubled = previousInterval.multipliedBy(2);
+            return doubled.compareTo(maxInterval) < 0 ? doubled : maxInterval;
+        };
+    }
+
+    private class ScheduledProbe implements Runnable {
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final Probe probe;
+        private final PollingSchedule schedule;
+        private final long start;
+        private final long deadline;
+        private Duration interval;
+        private final ScheduledFuture<?> expiry;
+        private volatile Exception lastFailure;
+        private volatile ScheduledFuture<?> nextAttempt;
+
+        ScheduledProbe(Probe probe, long timeout, PollingSchedule schedule) {
+            this.probe = probe;
+            this.schedule = schedule;
+            this.start = System.nanoTime();
+            this.deadline = start + timeout;
+
+            // time out at the deadline even if an attempt is still blocked, e.g. reading a slow HTTP response
+            this.expiry = scheduler.schedule(this::expire, timeout, TimeUnit.NANOSECONDS);
+
+            // don't leave a cancelled probe's next attempt in the queue
+            result.whenComplete((ignored, throwable) -> {
+                expiry.cancel(false);
+                final ScheduledFuture<?> next = nextAttempt;
+                if (next != null) {
+                    next.cancel(false);
+                }
+            });
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                // cancelled
+                return;
+            }
+
+            try {
+                if (probe.isReady()) {
+                    result.complete(null);
+                    return;
+                }
+                lastFailure = null;
+            } catch (Exception e) {
+                log.trace("Probe attempt failed", e);
+                lastFailure = e;
+            }
+
+            final long now = System.nanoTime();
+            final long remaining = deadline - now;
+            if (remaining <= 0) {
+                expire();
+                return;
+            }
+
+            interval = schedule.nextInterval(Duration.ofNanos(now - start), interval);
+            nextAttempt = scheduler.schedule(() -> executor.execute(this), Math.min(interval.toNanos(), remaining), TimeUnit.NANOSECONDS);
+        }
+
+        private void expire() {
+            result.completeExceptionally(new TimeoutException("Probe did not pass before the deadline", lastFailure));
+        }
+    }
+}
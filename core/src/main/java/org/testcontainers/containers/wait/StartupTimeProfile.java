@@ -0,0 +1,126 @@
+package org.testcontainers.containers.wait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Summary of how long a wait strategy has previously taken to find a container ready, built from the durations
+ * recorded by {@link StartupTimeStats}.
+ * <p>
+ * Used to poll sparsely while a container is unlikely to be ready yet, densely around the time it is expected to
+ * become ready, and to flag startups which take unusually long.
+ */
+public final class StartupTimeProfile {
+
+    /**
+     * Fewest recorded startups from which a profile is built.
+     */
+    static final int MIN_SAMPLES = 3;
+
+    /**
+     * Fewest recorded startups from which a slow startup is flagged.
+     */
+    static final int MIN_SAMPLES_FOR_OUTLIERS = 5;
+
+    private static final Duration MAX_SPARSE_INTERVAL = Duration.ofSeconds(5);
+
+    private final int sampleCount;
+    private final Duration earliest;
+    private final Duration median;
+    private final Duration p99;
+
+    private StartupTimeProfile(List<Duration> sortedSamples) {
+        sampleCount = sortedSamples.size();
+        earliest = sortedSamples.get(0);
+        median = percentile(sortedSamples, 0.5);
+        p99 = percentile(sortedSamples, 0.99);
+    }
+
+    /**
+     * @param samples previously recorded durations
+     * @return a profile, or null if there are too few samples
+     */
+    static StartupTimeProfile of(List<Duration> samples) {
+        if (samples.size() < MIN_SAMPLES) {
+            return null;
+        }
+
+        final List<Duration> sortedSamples = new ArrayList<>(samples);
+        Collections.sort(sortedSamples);
+        return new StartupTimeProfile(sortedSamples);
+    }
+
+    private static Duration percentile(List<Duration> sortedSamples, double percentile) {
+        // nearest-rank
+        final int rank = (int) Math.ceil(percentile * sortedSamples.size());
+        return sortedSamples.get(Math.max(rank - 1, 0));
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * @return the median recorded duration
+     */
+    public Duration getExpected() {
+        return median;
+    }
+
+    /**
+     * @return the 99th percentile of recorded durations
+     */
+    public Duration getP99() {
+        return p99;
+    }
+
+    /**
+     * @param duration how long a wait took
+     * @return true if there is enough history to judge, and the wait took longer than the 99th percentile
+     */
+    public boolean isUnusuallySlow(Duration duration) {
+        return sampleCount >= MIN_SAMPLES_FOR_OUTLIERS && duration.compareTo(p99) > 0;
+    }
+
+    /**
+     * Poll sparsely until shortly before the earliest recorded ready time, halving the interval as it approaches; then
+     * poll at {@code denseInterval} until the 99th percentile has passed; then back off towards {@code maxInterval}.
+     *
+     * @param denseInterval interval to use around the expected ready time
+     * @param maxInterval   longest interval once the 99th percentile has passed
+     * @return a polling schedule
+     */
+    public ProbeScheduler.PollingSchedule pollingSchedule(Duration denseInterval, Duration maxInterval) {
+        final Duration denseFrom = earliest.multipliedBy(4).dividedBy(5);
+        final Duration maxSparseInterval = maxInterval.compareTo(MAX_SPARSE_INTERVAL) > 0 ? maxInterval : MAX_SPARSE_INTERVAL;
+        final ProbeScheduler.PollingSchedule backoff = ProbeScheduler.backoff(denseInterval, maxInterval);
+
+        return (elapsed, previousInterval) -> {
+            if (elapsed.compareTo(denseFrom) < 0) {
+                final Duration halfway = denseFrom.minus(elapsed).dividedBy(2);
+                if (halfway.compareTo(denseInterval) < 0) {
+                    return denseInterval;
+                }
+                return halfway.compareTo(maxSparseInterval) < 0 ? halfway : maxSparseInterval;
+            }
+
+            if (elapsed.compareTo(p99) <= 0) {
+                return denseInterval;
+            }
+
+            // later than ever before: stop polling densely
+            return backoff.nextInterval(elapsed, previousInterval == null ? null : min(previousInterval, maxInterval));
+        };
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) < 0 ? a : b;
+    }
+
+    @Override
+    public String toString() {
+        return "StartupTimeProfile{samples=" + sampleCount + ", median=" + median + ", p99=" + p99 + "}";
+    }
+}
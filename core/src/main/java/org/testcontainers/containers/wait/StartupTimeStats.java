@@ -0,0 +1,141 @@
+package org.testcontainers.containers.wait;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.utility.PropertiesFileUtils;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Records how long wait strategies take to find containers ready, in a small properties file in the user's home
+ * directory by default, so that later waits for the same image can be planned with a {@link StartupTimeProfile}.
+ * <p>
+ * Only the most recent durations are kept for each key. The file is read once, and durations recorded by this JVM are
+ * kept in memory until it shuts down, when they are merged into a fresh read of the file, so that concurrent test JVMs
+ * lose few updates, and the file is replaced atomically where the filesystem allows.
+ */
+@Slf4j
+public final class StartupTimeStats {
+
+    static final int MAX_SAMPLES = 20;
+
+    @Getter(lazy = true)
+    private static final StartupTimeStats instance = new StartupTimeStats(TestcontainersConfiguration.getInstance().getStartupStatsFile());
+
+    private final File file;
+
+    private Properties properties;
+
+    private final Map<String, List<Duration>> unflushed = new LinkedHashMap<>();
+
+    private boolean flushOnShutdown;
+
+    StartupTimeStats(File file) {
+        this.file = file;
+    }
+
+    /**
+     * @param key identifies a daemon, image and wait strategy
+     * @return a profile of previous durations, if enough have been recorded
+     */
+    public synchronized Optional<StartupTimeProfile> getProfile(String key) {
+        return Optional.ofNullable(StartupTimeProfile.of(parse(getProperties().getProperty(key))));
+    }
+
+    /**
+     * @param key      identifies a daemon, image and wait strategy
+     * @param duration how long the wait took
+     */
+    public synchronized void record(String key, Duration duration) {
+        append(getProperties(), key, Collections.singletonList(duration));
+        unflushed.computeIfAbsent(key, it -> new ArrayList<>()).add(duration);
+
+        if (!flushOnShutdown) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "testcontainers-startup-stats"));
+            flushOnShutdown = true;
+        }
+    }
+
+    /**
+     * Merge the durations recorded since the last flush into the file.
+     */
+    synchronized void flush() {
+        if (unflushed.isEmpty()) {
+            return;
+        }
+
+        final Properties merged = load();
+        unflushed.forEach((key, durations) -> append(merged, key, durations));
+        unflushed.clear();
+        properties = merged;
+
+        store();
+    }
+
+    private Properties getProperties() {
+        if (properties == null) {
+            properties = load();
+        }
+        return properties;
+    }
+
+    private static void append(Properties properties, String key, List<Duration> durations) {
+        final List<Duration> samples = parse(properties.getProperty(key));
+        samples.addAll(durations);
+        while (samples.size() > MAX_SAMPLES) {
+            samples.remove(0);
+        }
+
+        final StringBuilder value = new StringBuilder();
+        for (Duration sample : samples) {
+            if (value.length() > 0) {
+                value.append(',');
+            }
+            value.append(sample.toMillis());
+        }
+        properties.setProperty(key, value.toString());
+    }
+
+    private Properties load() {
+        try {
+            return PropertiesFileUtils.load(file);
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("Could not read startup times from {}", file, e);
+            return new Properties();
+        }
+    }
+
+    private void store() {
+        try {
+            PropertiesFileUtils.store(file, properties, "Container startup times recorded by Testcontainers, in milliseconds");
+        } catch (IOException e) {
+            log.debug("Could not store startup times in {}", file, e);
+        }
+    }
+
+    private static List<Duration> parse(String value) {
+        final List<Duration> samples = new ArrayList<>();
+        if (value == null || value.isEmpty()) {
+            return samples;
+        }
+
+        for (String sample : value.split(",")) {
+            try {
+                samples.add(Duration.ofMillis(Long.parseLong(sample.trim())));
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring malformed startup time '{}'", sample);
+            }
+        }
+        return samples;
+    }
+}
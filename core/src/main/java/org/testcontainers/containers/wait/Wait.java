@@ -51,4 +51,15 @@ public class Wait {
         return forHttp(path)
                 .usingTls();
     }
+
+    /**
+     * Convenience method to return a WaitStrategy which waits for the container's Docker HEALTHCHECK to report that
+     * it is healthy.
+     *
+     * @return the WaitStrategy
+     * @see HealthcheckWaitStrategy
+     */
+    public static HealthcheckWaitStrategy forHealthcheck() {
+        return new HealthcheckWaitStrategy();
+    }
 }
@@ -1,15 +1,16 @@
 package org.testcontainers.containers.wait;
 
-import org.rnorth.ducttape.timeouts.Timeouts;
 import org.testcontainers.containers.GenericContainer;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 /**
- * Wait strategy that waits for a number of other strategies to pass in series.
+ * Wait strategy that waits for a number of other strategies to pass.
+ * <p>
+ * The strategies are run concurrently, so the total wait is that of the slowest strategy rather than the sum of all
+ * of them. If any strategy fails, or the overall timeout is reached, the remaining strategies are cancelled.
  */
 public class WaitAllStrategy implements WaitStrategy {
 
@@ -18,11 +19,14 @@ public class WaitAllStrategy implements WaitStrategy {
 
     @Override
     public void waitUntilReady(GenericContainer container) {
-        Timeouts.doWithTimeout((int) timeout.toMillis(), TimeUnit.MILLISECONDS, () -> {
-            for (WaitStrategy strategy : strategies) {
-                strategy.waitUntilReady(container);
+        try (ConcurrentWaits.Running running = new ConcurrentWaits.Running(strategies, container, timeout)) {
+            for (int i = 0; i < running.size(); i++) {
+                final RuntimeException failure = running.awaitNext();
+                if (failure != null) {
+                    throw failure;
+                }
             }
-        });
+        }
     }
 
     public WaitAllStrategy withStrategy(WaitStrategy strategy) {
@@ -0,0 +1,53 @@
+package org.testcontainers.containers.wait;
+
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wait strategy that waits for any one of a number of other strategies to pass.
+ * <p>
+ * The strategies are run concurrently. As soon as one of them passes, the remaining strategies are cancelled. The
+ * wait fails if every strategy fails, or if the overall timeout is reached first.
+ */
+public class WaitAnyStrategy implements WaitStrategy {
+
+    private final List<WaitStrategy> strategies = new ArrayList<>();
+    private Duration timeout = Duration.ofSeconds(30);
+
+    @Override
+    public void waitUntilReady(GenericContainer container) {
+        if (strategies.isEmpty()) {
+            return;
+        }
+
+        try (ConcurrentWaits.Running running = new ConcurrentWaits.Running(strategies, container, timeout)) {
+            final List<RuntimeException> failures = new ArrayList<>();
+            for (int i = 0; i < running.size(); i++) {
+                final RuntimeException failure = running.awaitNext();
+                if (failure == null) {
+                    return;
+                }
+                failures.add(failure);
+            }
+
+            final ContainerLaunchException exception = new ContainerLaunchException("None of the wait strategies passed", failures.get(0));
+            failures.stream().skip(1).forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    public WaitAnyStrategy withStrategy(WaitStrategy strategy) {
+        this.strategies.add(strategy);
+        return this;
+    }
+
+    @Override
+    public WaitStrategy withStartupTimeout(Duration startupTimeout) {
+        this.timeout = startupTimeout;
+        return this;
+    }
+}
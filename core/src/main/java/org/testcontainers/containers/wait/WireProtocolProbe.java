@@ -0,0 +1,70 @@
+package org.testcontainers.containers.wait;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+
+/**
+ * Base class for probes which check that a server is ready by performing the opening exchange of its wire protocol,
+ * for example reading a greeting or negotiating a protocol version. This is much cheaper than connecting with a full
+ * client library and does not need credentials, but confirms more than a listening port does.
+ * <p>
+ * Each attempt opens a new connection, with short connect and read timeouts, and closes it afterwards.
+ */
+public abstract class WireProtocolProbe implements ProbeScheduler.Probe {
+
+    /**
+     * Default connect and read timeout for each attempt.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(1);
+
+    private final String host;
+    private final int port;
+    private final Duration timeout;
+
+    protected WireProtocolProbe(String host, int port) {
+        this(host, port, DEFAULT_TIMEOUT);
+    }
+
+    protected WireProtocolProbe(String host, int port, Duration timeout) {
+        this.host = host;
+        this.port = port;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public boolean isReady() throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), (int) timeout.toMillis());
+            socket.setSoTimeout((int) timeout.toMillis());
+            socket.setTcpNoDelay(true);
+
+            return handshake(
+                    new DataInputStream(new BufferedInputStream(socket.getInputStream())),
+                    new DataOutputStream(socket.getOutputStream()));
+        }
+    }
+
+    /**
+     * Perform the opening exchange of the protocol.
+     *
+     * @param in  stream from the server
+     * @param out stream to the server
+     * @return true if the server responded as a ready server should. A server which reports that it is not ready yet
+     * may be reported by throwing an exception with a useful message instead of returning false.
+     * @throws IOException if communication fails, including if the server closes the connection
+     */
+    protected abstract boolean handshake(DataInputStream in, DataOutputStream out) throws IOException;
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+}
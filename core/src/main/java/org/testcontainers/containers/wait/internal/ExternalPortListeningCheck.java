@@ -1,31 +1,124 @@
 package org.testcontainers.containers.wait.internal;
 
-import lombok.RequiredArgsConstructor;
 import org.testcontainers.containers.Container;
 
 import java.io.IOException;
-import java.net.Socket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.Callable;
 
 /**
  * Mechanism for testing that a socket is listening when run from the test host.
+ * <p>
+ * Connections to all ports are attempted at once, using non-blocking sockets, and any which have not connected by
+ * the end of a short deadline are treated as not listening yet. A port which silently drops connection attempts
+ * therefore cannot hold up the check for the operating system's connect timeout.
  */
-@RequiredArgsConstructor
 public class ExternalPortListeningCheck implements Callable<Boolean> {
+
+    /**
+     * Default time allowed for all connections of one check to be established.
+     */
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(1);
+
     private final Container<?> container;
     private final Set<Integer> externalLivenessCheckPorts;
+    private final Duration connectTimeout;
+
+    public ExternalPortListeningCheck(Container<?> container, Set<Integer> externalLivenessCheckPorts) {
+        this(container, externalLivenessCheckPorts, DEFAULT_CONNECT_TIMEOUT);
+    }
+
+    public ExternalPortListeningCheck(Container<?> container, Set<Integer> externalLivenessCheckPorts, Duration connectTimeout) {
+        this.container = container;
+        this.externalLivenessCheckPorts = externalLivenessCheckPorts;
+        this.connectTimeout = connectTimeout;
+    }
 
     @Override
     public Boolean call() {
-        String address = container.getContainerIpAddress();
+        final InetAddress address;
+        try {
+            address = InetAddress.getByName(container.getContainerIpAddress());
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+
+        final Set<Integer> closedPorts = new TreeSet<>(externalLivenessCheckPorts);
 
-        for (Integer externalPort : externalLivenessCheckPorts) {
-            try {
-                new Socket(address, externalPort).close();
-            } catch (IOException e) {
-                throw new IllegalStateException("Socket not listening yet: " + externalPort);
+        // closing the selector does not close the channels registered with it
+        final List<SocketChannel> channels = new ArrayList<>();
+        try (Selector selector = Selector.open()) {
+            int pending = 0;
+            for (Integer externalPort : externalLivenessCheckPorts) {
+                final SocketChannel channel = SocketChannel.open();
+                channels.add(channel);
+                try {
+                    channel.configureBlocking(false);
+                    if (channel.connect(new InetSocketAddress(address, externalPort))) {
+                        closedPorts.remove(externalPort);
+                        channel.close();
+                    } else {
+                        channel.register(selector, SelectionKey.OP_CONNECT, externalPort);
+                        pending++;
+                    }
+                } catch (IOException e) {
+                    channel.close();
+                }
             }
+
+            final long deadline = System.nanoTime() + connectTimeout.toNanos();
+            while (pending > 0) {
+                final long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMillis <= 0) {
+                    break;
+                }
+
+                selector.select(remainingMillis);
+
+                final Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    final SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+
+                    final SocketChannel channel = (SocketChannel) key.channel();
+                    try {
+                        if (!channel.finishConnect()) {
+                            continue;
+                        }
+                        closedPorts.remove((Integer) key.attachment());
+                    } catch (IOException ignored) {
+                        // connection refused or reset: the port is not listening yet
+                    }
+                    key.cancel();
+                    channel.close();
+                    pending--;
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            for (SocketChannel channel : channels) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // nothing more can be done
+                }
+            }
+        }
+
+        if (!closedPorts.isEmpty()) {
+            throw new IllegalStateException("Socket not listening yet: " + closedPorts);
         }
         return true;
     }
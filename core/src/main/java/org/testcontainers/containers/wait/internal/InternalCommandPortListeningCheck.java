@@ -3,47 +3,149 @@ package org.testcontainers.containers.wait.internal;
 import lombok.RequiredArgsConstructor;
 import org.testcontainers.containers.Container;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 
 /**
  * Mechanism for testing that a socket is listening when run from the container being checked.
+ * <p>
+ * All ports are checked with a single exec. The first check against an image tries each of the available probe
+ * methods in turn, within that one exec, and the method which works is remembered so that later checks against the
+ * same image only run that method.
  */
 @RequiredArgsConstructor
 public class InternalCommandPortListeningCheck implements java.util.concurrent.Callable<Boolean> {
 
-    private static final String SUCCESS_MARKER = "TESTCONTAINERS_SUCCESS";
+    private static final String METHOD_MARKER = "TESTCONTAINERS_METHOD";
+    private static final String OPEN_MARKER = "TESTCONTAINERS_OPEN";
+
+    private static final String TCP_LISTEN_STATE = "0A";
+
+    private static final Map<String, ProbeMethod> PROBE_METHODS_BY_IMAGE = new ConcurrentHashMap<>();
 
     private final Container<?> container;
     private final Set<Integer> internalPorts;
 
     @Override
     public Boolean call() {
-        for (Integer internalPort : internalPorts) {
-            tryPort(internalPort);
+        if (internalPorts.isEmpty()) {
+            return true;
+        }
+
+        final String imageName = container.getDockerImageName();
+        final ProbeMethod knownMethod = imageName == null ? null : PROBE_METHODS_BY_IMAGE.get(imageName);
+
+        final String script;
+        if (knownMethod != null) {
+            script = knownMethod.script(internalPorts);
+        } else {
+            script = "if " + ProbeMethod.PROC_NET_TCP.condition + "; then " + ProbeMethod.PROC_NET_TCP.script(internalPorts) +
+                    "; elif " + ProbeMethod.NETCAT.condition + "; then " + ProbeMethod.NETCAT.script(internalPorts) +
+                    "; elif " + ProbeMethod.BASH_DEV_TCP.condition + "; then " + ProbeMethod.BASH_DEV_TCP.script(internalPorts) +
+                    "; fi";
+        }
+
+        final String output;
+        try {
+            output = container.execInContainer("/bin/sh", "-c", script).getStdout();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+
+        ProbeMethod method = null;
+        final Set<Integer> listeningPorts = new TreeSet<>();
+        for (String line : output.split("\n")) {
+            final String[] fields = line.trim().split("\\s+");
+
+            if (fields.length == 2 && METHOD_MARKER.equals(fields[0])) {
+                method = ProbeMethod.valueOf(fields[1]);
+            } else if (fields.length == 2 && OPEN_MARKER.equals(fields[0])) {
+                listeningPorts.add(Integer.valueOf(fields[1]));
+            } else if (method == ProbeMethod.PROC_NET_TCP) {
+                parseProcNetTcpLine(fields, listeningPorts);
+            }
+        }
+
+        if (method == null) {
+            throw new IllegalStateException("Could not check whether ports are listening: none of /proc/net/tcp, nc or bash are available in the container");
+        }
+        if (imageName != null) {
+            PROBE_METHODS_BY_IMAGE.putIfAbsent(imageName, method);
+        }
+
+        final Set<Integer> closedPorts = internalPorts.stream()
+                .filter(port -> !listeningPorts.contains(port))
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (!closedPorts.isEmpty()) {
+            throw new IllegalStateException("Socket not listening yet: " + closedPorts);
         }
 
         return true;
     }
 
-    private void tryPort(Integer internalPort) {
-        String[][] commands = {
-                {"/bin/sh", "-c", format("cat /proc/net/tcp | awk '{print $2}' | grep :%x && echo %s", internalPort, SUCCESS_MARKER)},
-                {"/bin/sh", "-c", format("nc -vz -w 1 localhost %d && echo %s", internalPort, SUCCESS_MARKER)},
-                {"/bin/bash", "-c", format("</dev/tcp/localhost/%d && echo %s", internalPort, SUCCESS_MARKER)}
-        };
+    /**
+     * Parse a socket table entry from /proc/net/tcp or /proc/net/tcp6, e.g.
+     * <pre>  0: 00000000:0050 00000000:0000 0A 00000000:00000000 00:00000000 00000000     0        0 ...</pre>
+     * recording the local port if the socket is listening.
+     */
+    static void parseProcNetTcpLine(String[] fields, Set<Integer> listeningPorts) {
+        if (fields.length < 4 || !fields[0].endsWith(":") || !TCP_LISTEN_STATE.equals(fields[3])) {
+            return;
+        }
+
+        final String localAddress = fields[1];
+        final int portSeparator = localAddress.lastIndexOf(':');
+        if (portSeparator < 0) {
+            return;
+        }
 
-        for (String[] command : commands) {
-            try {
-                if (container.execInContainer(command).getStdout().contains(SUCCESS_MARKER)) {
-                    return;
-                }
-            } catch (Exception e) {
-                throw new IllegalStateException(e);
+        try {
+            listeningPorts.add(Integer.parseInt(localAddress.substring(portSeparator + 1), 16));
+        } catch (NumberFormatException ignored) {
+            // not a socket table entry
+        }
+    }
+
+    private enum ProbeMethod {
+        PROC_NET_TCP("[ -r /proc/net/tcp ]") {
+            @Override
+            String probe(Set<Integer> ports) {
+                return "cat /proc/net/tcp /proc/net/tcp6 2>/dev/null";
+            }
+        },
+        NETCAT("command -v nc >/dev/null 2>&1") {
+            @Override
+            String probe(Set<Integer> ports) {
+                return forEachPort(ports, "nc -z -w 1 localhost $p >/dev/null 2>&1");
             }
+        },
+        BASH_DEV_TCP("[ -x /bin/bash ]") {
+            @Override
+            String probe(Set<Integer> ports) {
+                return forEachPort(ports, "/bin/bash -c \"</dev/tcp/localhost/$p\" >/dev/null 2>&1");
+            }
+        };
+
+        private final String condition;
+
+        ProbeMethod(String condition) {
+            this.condition = condition;
         }
 
-        throw new IllegalStateException("Socket not listening yet: " + internalPort);
+        abstract String probe(Set<Integer> ports);
+
+        String script(Set<Integer> ports) {
+            return format("echo %s %s; %s", METHOD_MARKER, name(), probe(ports));
+        }
+
+        private static String forEachPort(Set<Integer> ports, String check) {
+            final String portList = ports.stream().map(String::valueOf).collect(Collectors.joining(" "));
+            return format("for p in %s; do %s && echo %s $p; done", portList, check, OPEN_MARKER);
+        }
     }
 }
@@ -0,0 +1,55 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.command.*;
+import com.google.common.collect.ImmutableMap;
+import org.jetbrains.annotations.NotNull;
+import org.testcontainers.utility.AuditLogger;
+
+import java.util.Map;
+
+import static org.testcontainers.utility.AuditLogger.doLog;
+
+/**
+ * Interceptor for 'audit logging' of potentially destructive actions using {@link AuditLogger}. Commands are only
+ * observed while audit logging is enabled.
+ */
+class AuditLoggingInterceptor implements DockerCommandInterceptor {
+
+    private static final Map<String, String> ACTIONS = ImmutableMap.<String, String>builder()
+            .put("CreateContainerCmd", "CREATE")
+            .put("StartContainerCmd", "START")
+            .put("RemoveContainerCmd", "REMOVE")
+            .put("StopContainerCmd", "STOP")
+            .put("KillContainerCmd", "KILL")
+            .put("CreateNetworkCmd", "CREATE_NETWORK")
+            .put("RemoveNetworkCmd", "REMOVE_NETWORK")
+            .build();
+
+    @Override
+    public Observation intercept(@NotNull String commandType, @NotNull DockerCmd<?> command) {
+        if (!AuditLogger.isEnabled()) {
+            return null;
+        }
+
+        final String action = ACTIONS.get(commandType);
+        if (action == null) {
+            return null;
+        }
+
+        final String image = command instanceof CreateContainerCmd ? ((CreateContainerCmd) command).getImage() : null;
+        final String containerId = DockerCommands.getContainerId(command);
+
+        return new Observation() {
+            @Override
+            public void onResponse(Object response) {
+                final String createdId = response instanceof CreateContainerResponse ? ((CreateContainerResponse) response).getId() : containerId;
+                doLog(action, image, createdId, command);
+            }
+
+            @Override
+            public void onError(@NotNull Throwable error) {
+                doLog(action, image, containerId, command, error instanceof Exception ? (Exception) error : new RuntimeException(error));
+            }
+        };
+    }
+}
@@ -0,0 +1,136 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.command.DockerCmd;
+import com.google.common.annotations.VisibleForTesting;
+import org.jetbrains.annotations.NotNull;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToIntFunction;
+
+/**
+ * Limits how many Docker API commands of each {@link DockerCommandClass} are in flight at once, so that starting many
+ * containers in parallel does not hit the daemon with large bursts of requests. Callers over the limit wait for a
+ * slot, in arrival order.
+ * <p>
+ * Streaming commands hold their slot until the daemon starts responding, or for pulls until the pull has finished.
+ * <p>
+ * An overall limit may also apply to commands of all classes. As the Docker client's transport opens a connection for
+ * each command, this caps the number of connections to the daemon awaiting a response.
+ * <p>
+ * Each Docker client has a bulkhead of its own, so that when containers are spread over several daemons the limits
+ * apply to each daemon rather than to the whole pool.
+ */
+public final class DockerApiBulkhead implements DockerCommandInterceptor {
+
+    private final Map<DockerCommandClass, Semaphore> semaphores = new EnumMap<>(DockerCommandClass.class);
+    private final Semaphore total;
+
+    DockerApiBulkhead(ToIntFunction<DockerCommandClass> limits) {
+        this(limits, 0);
+    }
+
+    /**
+     * @param limits     the limit for each class of command; zero for no limit
+     * @param totalLimit the limit for commands of all classes; zero for no limit
+     */
+    DockerApiBulkhead(ToIntFunction<DockerCommandClass> limits, int totalLimit) {
+        for (DockerCommandClass commandClass : DockerCommandClass.values()) {
+            final int limit = limits.applyAsInt(commandClass);
+            if (limit > 0) {
+                semaphores.put(commandClass, new Semaphore(limit, true));
+            }
+        }
+        this.total = totalLimit > 0 ? new Semaphore(totalLimit, true) : null;
+    }
+
+    /**
+     * @return a bulkhead with the limits set by the <code>docker.api.concurrency.*</code> and
+     * <code>docker.client.max.connections</code> properties
+     */
+    static DockerApiBulkhead fromConfiguration() {
+        return new DockerApiBulkhead(DockerCommandClass::getConcurrencyLimit,
+                TestcontainersConfiguration.getInstance().getDockerClientMaxConnections());
+    }
+
+    /**
+     * @return whether any class of command, or commands overall, are limited
+     */
+    public boolean isEnabled() {
+        return !semaphores.isEmpty() || total != null;
+    }
+
+    @Override
+    public Observation intercept(@NotNull String commandType, @NotNull DockerCmd<?> command) {
+        final DockerCommandClass commandClass = DockerCommandClass.of(command);
+        final Semaphore semaphore = semaphores.get(commandClass);
+        if (semaphore == null && total == null) {
+            return null;
+        }
+
+        // Docker commands do not declare InterruptedException, so waiting is not interruptible. The class limit is
+        // acquired first so that commands waiting for it do not hold one of the overall slots.
+        if (semaphore != null) {
+            semaphore.acquireUninterruptibly();
+        }
+        if (total != null) {
+            total.acquireUninterruptibly();
+        }
+        return new Slot(semaphore, total, commandClass.isHeldUntilComplete());
+    }
+
+    @VisibleForTesting
+    int availablePermits(DockerCommandClass commandClass) {
+        final Semaphore semaphore = semaphores.get(commandClass);
+        return semaphore != null ? semaphore.availablePermits() : Integer.MAX_VALUE;
+    }
+
+    @VisibleForTesting
+    int availableTotalPermits() {
+        return total != null ? total.availablePermits() : Integer.MAX_VALUE;
+    }
+
+    private static class Slot implements Observation {
+        private final Semaphore semaphore;
+        private final Semaphore total;
+        private final boolean heldUntilComplete;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Slot(Semaphore semaphore, Semaphore total, boolean heldUntilComplete) {
+            this.semaphore = semaphore;
+            this.total = total;
+            this.heldUntilComplete = heldUntilComplete;
+        }
+
+        @Override
+        public void onResponse(Object response) {
+            if (!heldUntilComplete) {
+                release();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            release();
+        }
+
+        @Override
+        public void onError(@NotNull Throwable error) {
+            release();
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                if (total != null) {
+                    total.release();
+                }
+                if (semaphore != null) {
+                    semaphore.release();
+                }
+            }
+        }
+    }
+}
@@ -4,7 +4,9 @@ import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.core.DockerClientBuilder;
 import com.github.dockerjava.core.DockerClientConfig;
 import com.github.dockerjava.netty.NettyDockerCmdExecFactory;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.io.IOUtils;
 import org.jetbrains.annotations.Nullable;
 import org.rnorth.ducttape.TimeoutException;
@@ -15,12 +17,24 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.utility.TestcontainersConfiguration;
 
+import java.io.IOException;
+import java.nio.channels.Selector;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -31,13 +45,23 @@ public abstract class DockerClientProviderStrategy {
     protected DockerClient client;
     protected DockerClientConfig config;
 
-    private static final RateLimiter PING_RATE_LIMITER = RateLimiterBuilder.newBuilder()
+    // one per strategy, as strategies are tested concurrently
+    private final RateLimiter pingRateLimiter = RateLimiterBuilder.newBuilder()
             .withRate(2, TimeUnit.SECONDS)
             .withConstantThroughput()
             .build();
 
     private static final AtomicBoolean FAIL_FAST_ALWAYS = new AtomicBoolean(false);
 
+    private static final Duration STRATEGY_TEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final Executor STRATEGY_TEST_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("testcontainers-docker-client-strategy-%d")
+            .setDaemon(true)
+            .build());
+
+    private static final String NETTY_EVENT_LOOP_THREADS_PROPERTY = "io.netty.eventLoopThreads";
+
     /**
      * @throws InvalidConfigurationException if this strategy fails
      */
@@ -59,10 +83,31 @@ public abstract class DockerClientProviderStrategy {
         return 0;
     }
 
+    /**
+     * @return whether a successful strategy is recorded in the global configuration, to be tried first next time, and
+     * whether what is learned about its Docker environment may be remembered across JVMs
+     */
+    public boolean isPersistable() {
+        return true;
+    }
+
+    /**
+     * @return whether this strategy's test is free of side effects, so that it can be tested alongside other candidates
+     * and abandoned if another candidate is preferred. Other strategies are tested one at a time, and only if none of
+     * these succeed.
+     */
+    protected boolean isSafeToTestConcurrently() {
+        return true;
+    }
+
     protected static final Logger LOGGER = LoggerFactory.getLogger(DockerClientProviderStrategy.class);
 
     /**
      * Determine the right DockerClientConfig to use for building clients by trial-and-error.
+     * <p>
+     * Candidate strategies are tested concurrently, so that a candidate which takes a long time to fail does not
+     * delay the others; the highest priority candidate which succeeds is used. Candidates whose test has side effects,
+     * such as starting a VM, are only tested afterwards, one at a time, if none of the others succeed.
      *
      * @return a working DockerClientConfig, as determined by successful execution of a ping command
      */
@@ -72,69 +117,51 @@ public abstract class DockerClientProviderStrategy {
             throw new IllegalStateException("Previous attempts to find a Docker environment failed. Will not retry. Please see logs and check configuration");
         }
 
-        List<String> configurationFailures = new ArrayList<>();
+        final List<DockerClientProviderStrategy> configuredStrategies = Stream
+                .of(TestcontainersConfiguration.getInstance().getDockerClientStrategyClassName())
+                .filter(Objects::nonNull)
+                .flatMap(it -> {
+                    try {
+                        Class<? extends DockerClientProviderStrategy> strategyClass = (Class) Thread.currentThread().getContextClassLoader().loadClass(it);
+                        return Stream.of(strategyClass.newInstance());
+                    } catch (ClassNotFoundException e) {
+                        LOGGER.warn("Can't instantiate a strategy from {} (ClassNotFoundException). " +
+                                "This probably means that cached configuration refers to a client provider " +
+                                "class that is not available in this version of Testcontainers. Other " +
+                                "strategies will be tried instead.", it);
+                        return Stream.empty();
+                    } catch (InstantiationException | IllegalAccessException e) {
+                        LOGGER.warn("Can't instantiate a strategy from {}", it, e);
+                        return Stream.empty();
+                    }
+                })
+                .collect(Collectors.toList());
 
-        return Stream
+        final List<DockerClientProviderStrategy> candidates = Stream
                 .concat(
-                        Stream
-                                .of(TestcontainersConfiguration.getInstance().getDockerClientStrategyClassName())
-                                .filter(Objects::nonNull)
-                                .flatMap(it -> {
-                                    try {
-                                        Class<? extends DockerClientProviderStrategy> strategyClass = (Class) Thread.currentThread().getContextClassLoader().loadClass(it);
-                                        return Stream.of(strategyClass.newInstance());
-                                    } catch (ClassNotFoundException e) {
-                                        LOGGER.warn("Can't instantiate a strategy from {} (ClassNotFoundException). " +
-                                                "This probably means that cached configuration refers to a client provider " +
-                                                "class that is not available in this version of Testcontainers. Other " +
-                                                "strategies will be tried instead.", it);
-                                        return Stream.empty();
-                                    } catch (InstantiationException | IllegalAccessException e) {
-                                        LOGGER.warn("Can't instantiate a strategy from {}", it, e);
-                                        return Stream.empty();
-                                    }
-                                }),
+                        configuredStrategies.stream(),
                         strategies
                                 .stream()
+                                // the configured strategy is already a candidate
+                                .filter(strategy -> configuredStrategies.stream().noneMatch(it -> it.getClass().equals(strategy.getClass())))
                                 .filter(DockerClientProviderStrategy::isApplicable)
                                 .sorted(Comparator.comparing(DockerClientProviderStrategy::getPriority).reversed())
                 )
-                .flatMap(strategy -> {
-                    try {
-                        strategy.test();
-                        LOGGER.info("Found Docker environment with {}", strategy.getDescription());
+                .collect(Collectors.toList());
 
-                        TestcontainersConfiguration.getInstance().updateGlobalConfig("docker.client.strategy", strategy.getClass().getName());
+        List<String> configurationFailures = new ArrayList<>();
 
-                        return Stream.of(strategy);
-                    } catch (Exception | ExceptionInInitializerError | NoClassDefFoundError e) {
-                        @Nullable String throwableMessage = e.getMessage();
-                        @SuppressWarnings("ThrowableResultOfMethodCallIgnored")
-                        Throwable rootCause = Throwables.getRootCause(e);
-                        @Nullable String rootCauseMessage = rootCause.getMessage();
-
-                        String failureDescription;
-                        if (throwableMessage != null && throwableMessage.equals(rootCauseMessage)) {
-                            failureDescription = String.format("%s: failed with exception %s (%s)",
-                                    strategy.getClass().getSimpleName(),
-                                    e.getClass().getSimpleName(),
-                                    throwableMessage);
-                        } else {
-                            failureDescription = String.format("%s: failed with exception %s (%s). Root cause %s (%s)",
-                                    strategy.getClass().getSimpleName(),
-                                    e.getClass().getSimpleName(),
-                                    throwableMessage,
-                                    rootCause.getClass().getSimpleName(),
-                                    rootCauseMessage
-                            );
-                        }
-                        configurationFailures.add(failureDescription);
-
-                        LOGGER.debug(failureDescription);
-                        return Stream.empty();
+        initializeNio();
+        return findValidStrategy(candidates, configurationFailures, STRATEGY_TEST_TIMEOUT)
+                .map(strategy -> {
+                    LOGGER.info("Found Docker environment with {}", strategy.getDescription());
+
+                    if (strategy.isPersistable()) {
+                        TestcontainersConfiguration.getInstance().updateGlobalConfig("docker.client.strategy", strategy.getClass().getName());
                     }
+
+                    return strategy;
                 })
-                .findAny()
                 .orElseThrow(() -> {
                     LOGGER.error("Could not find a valid Docker environment. Please check configuration. Attempted configurations were:");
                     for (String failureMessage : configurationFailures) {
@@ -147,24 +174,160 @@ public abstract class DockerClientProviderStrategy {
                 });
     }
 
+    /**
+     * Initialize the JDK's NIO classes on this thread before candidates are tested. Candidates create Netty transports
+     * concurrently, and NIO's class initialization can deadlock with Netty loading its native transport library on
+     * another thread.
+     */
+    private static void initializeNio() {
+        try {
+            Selector.open().close();
+        } catch (IOException e) {
+            LOGGER.debug("Could not open a selector", e);
+        }
+    }
+
+    /**
+     * Race the candidates which are safe to test concurrently, then test the others in order until one succeeds.
+     *
+     * @param candidates            strategies in order of preference
+     * @param configurationFailures receives a description of each failure of a candidate which was tested and not used
+     * @param timeout               time allowed for each candidate's test
+     * @return the candidate to use
+     */
+    @VisibleForTesting
+    static Optional<DockerClientProviderStrategy> findValidStrategy(List<DockerClientProviderStrategy> candidates,
+                                                                    List<String> configurationFailures,
+                                                                    Duration timeout) {
+        final Map<Boolean, List<DockerClientProviderStrategy>> candidatesBySafety = candidates.stream()
+                .collect(Collectors.partitioningBy(DockerClientProviderStrategy::isSafeToTestConcurrently));
+
+        Optional<DockerClientProviderStrategy> winner = race(candidatesBySafety.get(true), configurationFailures, timeout);
+        for (DockerClientProviderStrategy candidate : candidatesBySafety.get(false)) {
+            if (winner.isPresent()) {
+                break;
+            }
+            winner = race(Collections.singletonList(candidate), configurationFailures, timeout);
+        }
+        return winner;
+    }
+
+    /**
+     * Test candidates concurrently, each with its own deadline, and pick the first in order which succeeds. Clients
+     * created by other candidates which succeed are closed.
+     *
+     * @param candidates            strategies in order of preference
+     * @param configurationFailures receives a description of each failure of a candidate preferred to the winner
+     * @param timeout               time allowed for each candidate's test
+     * @return the first candidate in order which succeeded
+     */
+    @VisibleForTesting
+    static Optional<DockerClientProviderStrategy> race(List<DockerClientProviderStrategy> candidates,
+                                                       List<String> configurationFailures,
+                                                       Duration timeout) {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+
+        final List<CompletableFuture<Void>> tests = new ArrayList<>();
+        for (DockerClientProviderStrategy candidate : candidates) {
+            tests.add(CompletableFuture.runAsync(candidate::test, STRATEGY_TEST_EXECUTOR));
+        }
+
+        DockerClientProviderStrategy winner = null;
+        for (int i = 0; i < candidates.size() && winner == null; i++) {
+            final DockerClientProviderStrategy candidate = candidates.get(i);
+            try {
+                tests.get(i).get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                winner = candidate;
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+                final String failureDescription = describeFailure(candidate, cause);
+                configurationFailures.add(failureDescription);
+                LOGGER.debug(failureDescription);
+            } catch (java.util.concurrent.TimeoutException e) {
+                final String failureDescription = String.format("%s: timed out after %d seconds",
+                        candidate.getClass().getSimpleName(), timeout.getSeconds());
+                configurationFailures.add(failureDescription);
+                LOGGER.debug(failureDescription);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while looking for a Docker environment", e);
+            }
+        }
+
+        // close the clients of any other candidates which succeed
+        for (int i = 0; i < candidates.size(); i++) {
+            final DockerClientProviderStrategy candidate = candidates.get(i);
+            if (candidate != winner) {
+                tests.get(i).thenRun(() -> IOUtils.closeQuietly(candidate.client));
+            }
+        }
+
+        return Optional.ofNullable(winner);
+    }
+
+    private static String describeFailure(DockerClientProviderStrategy strategy, Throwable e) {
+        @Nullable String throwableMessage = e.getMessage();
+        @SuppressWarnings("ThrowableResultOfMethodCallIgnored")
+        Throwable rootCause = Throwables.getRootCause(e);
+        @Nullable String rootCauseMessage = rootCause.getMessage();
+
+        if (throwableMessage != null && throwableMessage.equals(rootCauseMessage)) {
+            return String.format("%s: failed with exception %s (%s)",
+                    strategy.getClass().getSimpleName(),
+                    e.getClass().getSimpleName(),
+                    throwableMessage);
+        } else {
+            return String.format("%s: failed with exception %s (%s). Root cause %s (%s)",
+                    strategy.getClass().getSimpleName(),
+                    e.getClass().getSimpleName(),
+                    throwableMessage,
+                    rootCause.getClass().getSimpleName(),
+                    rootCauseMessage
+            );
+        }
+    }
+
     /**
      * @return a usable, tested, Docker client configuration for the host system environment
      */
     public DockerClient getClient() {
-        return new AuditLoggingDockerClient(client);
+        return client;
     }
 
     protected DockerClient getClientForConfig(DockerClientConfig config) {
         return DockerClientBuilder
                     .getInstance(config)
-                    .withDockerCmdExecFactory(new NettyDockerCmdExecFactory())
+                    .withDockerCmdExecFactory(InterceptingDockerCmdExecFactory.withDefaultInterceptors(createNettyCmdExecFactory()))
                     .build();
     }
 
+    /**
+     * Build the Netty transport from the <code>docker.client.*</code> properties of {@link TestcontainersConfiguration}.
+     * The transport uses native epoll (Linux) or kqueue (macOS) for Unix sockets, and opens a connection per command;
+     * the number of these is capped by {@link DockerApiBulkhead}.
+     */
+    private static NettyDockerCmdExecFactory createNettyCmdExecFactory() {
+        final TestcontainersConfiguration configuration = TestcontainersConfiguration.getInstance();
+
+        // The transport creates its event loops with Netty's default size, which is read from this property when
+        // the first event loop is created
+        final int eventLoopThreads = configuration.getDockerClientEventLoopThreads();
+        if (eventLoopThreads > 0 && System.getProperty(NETTY_EVENT_LOOP_THREADS_PROPERTY) == null) {
+            System.setProperty(NETTY_EVENT_LOOP_THREADS_PROPERTY, Integer.toString(eventLoopThreads));
+        }
+
+        final NettyDockerCmdExecFactory factory = new NettyDockerCmdExecFactory();
+        final Duration connectTimeout = configuration.getDockerClientConnectTimeout();
+        if (connectTimeout != null) {
+            factory.withConnectTimeout(Math.toIntExact(connectTimeout.toMillis()));
+        }
+        return factory;
+    }
+
     protected void ping(DockerClient client, int timeoutInSeconds) {
         try {
             Unreliables.retryUntilSuccess(timeoutInSeconds, TimeUnit.SECONDS, () -> {
-                return PING_RATE_LIMITER.getWhenReady(() -> {
+                return pingRateLimiter.getWhenReady(() -> {
                     LOGGER.debug("Pinging docker daemon...");
                     client.pingCmd().exec();
                     return true;
@@ -0,0 +1,62 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.command.CreateContainerCmd;
+import com.github.dockerjava.api.command.DockerCmd;
+import com.github.dockerjava.api.command.ExecCreateCmd;
+import com.github.dockerjava.api.command.ExecStartCmd;
+import com.github.dockerjava.api.command.InspectExecCmd;
+import com.github.dockerjava.api.command.LogContainerCmd;
+import com.github.dockerjava.api.command.PullImageCmd;
+import com.github.dockerjava.api.command.StartContainerCmd;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+/**
+ * Groups of Docker API commands which share a concurrency limit in {@link DockerApiBulkhead}.
+ */
+public enum DockerCommandClass {
+    CREATE(8),
+    START(8),
+    EXEC(16),
+    LOG(16),
+    PULL(4),
+    OTHER(0);
+
+    private final int defaultConcurrencyLimit;
+
+    DockerCommandClass(int defaultConcurrencyLimit) {
+        this.defaultConcurrencyLimit = defaultConcurrencyLimit;
+    }
+
+    public static DockerCommandClass of(DockerCmd<?> command) {
+        if (command instanceof CreateContainerCmd) {
+            return CREATE;
+        } else if (command instanceof StartContainerCmd) {
+            return START;
+        } else if (command instanceof ExecCreateCmd || command instanceof ExecStartCmd || command instanceof InspectExecCmd) {
+            return EXEC;
+        } else if (command instanceof LogContainerCmd) {
+            return LOG;
+        } else if (command instanceof PullImageCmd) {
+            return PULL;
+        } else {
+            return OTHER;
+        }
+    }
+
+    /**
+     * @return the maximum number of commands of this class which may be in flight at once, or zero for no limit; set
+     * with the <code>docker.api.concurrency.[class]</code> property, e.g. <code>docker.api.concurrency.pull</code>
+     */
+    public int getConcurrencyLimit() {
+        return TestcontainersConfiguration.getInstance()
+                .getDockerApiConcurrencyLimit(name().toLowerCase(), defaultConcurrencyLimit);
+    }
+
+    /**
+     * @return whether a streaming command of this class occupies its slot until the stream ends, rather than until
+     * the daemon starts responding. Log and exec streams may last as long as the container, so only pulls do.
+     */
+    boolean isHeldUntilComplete() {
+        return this == PULL;
+    }
+}
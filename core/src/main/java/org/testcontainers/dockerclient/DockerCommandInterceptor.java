@@ -0,0 +1,53 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.command.DockerCmd;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Observes Docker API commands sent by Testcontainers' Docker client, e.g. for auditing, metrics or tracing.
+ * <p>
+ * Interceptors are called in order before each command is sent, and their observations in reverse order as it
+ * completes. Besides the built-in interceptors, implementations are discovered with {@link java.util.ServiceLoader}.
+ * An interceptor which has no interest in a command should return null, so that the command is sent without any
+ * further overhead.
+ */
+public interface DockerCommandInterceptor {
+
+    /**
+     * Called on the sending thread before a command is sent, and may block to delay it.
+     *
+     * @param commandType the docker-java interface name of the command, e.g. <code>CreateContainerCmd</code>
+     * @param command     the command
+     * @return an observation to be notified of the command's outcome, or null to ignore the command
+     */
+    @Nullable
+    Observation intercept(@NotNull String commandType, @NotNull DockerCmd<?> command);
+
+    /**
+     * The outcome of one command. {@link #onResponse(Object)} is called at most once, and then exactly one of
+     * {@link #onComplete()} and {@link #onError(Throwable)}.
+     */
+    interface Observation {
+
+        /**
+         * Called when the daemon responds: for most commands with the command's result, and for streaming commands
+         * (such as pulls and logs) with null when the stream starts.
+         */
+        default void onResponse(@Nullable Object response) {
+        }
+
+        /**
+         * Called when the command has finished: immediately after {@link #onResponse(Object)} for most commands, and
+         * when the stream ends or is closed for streaming commands.
+         */
+        default void onComplete() {
+        }
+
+        /**
+         * Called when the command fails, including when a stream fails after it has started.
+         */
+        default void onError(@NotNull Throwable error) {
+        }
+    }
+}
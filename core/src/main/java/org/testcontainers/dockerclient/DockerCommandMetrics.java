@@ -0,0 +1,189 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.command.DockerCmd;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts for Docker API commands, by command type (the docker-java interface name, e.g.
+ * <code>CreateContainerCmd</code>). Observations are also passed to any {@link DockerCommandMetricsListener}s.
+ * <p>
+ * Latency is the time from sending a command until the daemon responds, which for streaming commands is when the
+ * stream starts.
+ */
+@Slf4j
+public final class DockerCommandMetrics implements DockerCommandInterceptor {
+
+    /**
+     * Upper bounds of the latency histogram buckets, in milliseconds; a final bucket holds anything slower.
+     */
+    private static final long[] BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000};
+
+    @Getter(lazy = true)
+    private static final DockerCommandMetrics instance = new DockerCommandMetrics(loadListeners());
+
+    private final ConcurrentMap<String, CommandStats> stats = new ConcurrentHashMap<>();
+    private final List<DockerCommandMetricsListener> listeners;
+
+    DockerCommandMetrics(List<DockerCommandMetricsListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    private static List<DockerCommandMetricsListener> loadListeners() {
+        final List<DockerCommandMetricsListener> listeners = new ArrayList<>();
+        ServiceLoader.load(DockerCommandMetricsListener.class).forEach(listeners::add);
+        return Collections.unmodifiableList(listeners);
+    }
+
+    @Override
+    public Observation intercept(@NotNull String commandType, @NotNull DockerCmd<?> command) {
+        final long start = System.nanoTime();
+        return new Observation() {
+            @Override
+            public void onResponse(Object response) {
+                recordResponse(commandType, System.nanoTime() - start);
+            }
+
+            @Override
+            public void onError(@NotNull Throwable error) {
+                recordError(commandType, error);
+            }
+        };
+    }
+
+    private void recordResponse(String commandType, long latencyNanos) {
+        statsFor(commandType).record(latencyNanos);
+
+        if (!listeners.isEmpty()) {
+            final Duration latency = Duration.ofNanos(latencyNanos);
+            for (DockerCommandMetricsListener listener : listeners) {
+                try {
+                    listener.onResponse(commandType, latency);
+                } catch (RuntimeException e) {
+                    log.debug("Metrics listener {} failed", listener, e);
+                }
+            }
+        }
+    }
+
+    private void recordError(String commandType, Throwable error) {
+        statsFor(commandType).errors.increment();
+
+        for (DockerCommandMetricsListener listener : listeners) {
+            try {
+                listener.onError(commandType, error);
+            } catch (RuntimeException e) {
+                log.debug("Metrics listener {} failed", listener, e);
+            }
+        }
+    }
+
+    private CommandStats statsFor(String commandType) {
+        final CommandStats existing = stats.get(commandType);
+        return existing != null ? existing : stats.computeIfAbsent(commandType, it -> new CommandStats());
+    }
+
+    /**
+     * @return the types of command which have been observed
+     */
+    public Set<String> getCommandTypes() {
+        return Collections.unmodifiableSet(stats.keySet());
+    }
+
+    /**
+     * @param commandType the command, e.g. <code>CreateContainerCmd</code>
+     * @return statistics for the command, which are empty if it has not been observed
+     */
+    public CommandStats getStats(String commandType) {
+        final CommandStats commandStats = stats.get(commandType);
+        return commandStats != null ? commandStats : new CommandStats();
+    }
+
+    /**
+     * Statistics for one type of command.
+     */
+    public static final class CommandStats {
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MILLIS.length + 1);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private void record(long latencyNanos) {
+            final long millis = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MILLIS.length && millis > BUCKET_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            buckets.incrementAndGet(bucket);
+            count.increment();
+        }
+
+        /**
+         * @return the number of responses
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getErrorCount() {
+            return errors.sum();
+        }
+
+        /**
+         * @return upper bounds of the latency histogram buckets, in milliseconds
+         */
+        public static long[] getBucketBoundsMillis() {
+            return BUCKET_BOUNDS_MILLIS.clone();
+        }
+
+        /**
+         * @return the number of responses in each latency bucket, with one more entry than
+         * {@link #getBucketBoundsMillis()} for responses slower than the last bound
+         */
+        public long[] getBucketCounts() {
+            final long[] counts = new long[buckets.length()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+            }
+            return counts;
+        }
+
+        /**
+         * @param percentile between 0 and 1
+         * @return the upper bound of the bucket containing the percentile, or null if there are no responses or the
+         * percentile is slower than the last bound
+         */
+        public Duration getLatencyPercentile(double percentile) {
+            final long[] counts = getBucketCounts();
+            long total = 0;
+            for (long bucketCount : counts) {
+                total += bucketCount;
+            }
+            if (total == 0) {
+                return null;
+            }
+
+            final long rank = Math.max((long) Math.ceil(percentile * total), 1);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Duration.ofMillis(BUCKET_BOUNDS_MILLIS[i]);
+                }
+            }
+            return null;
+        }
+    }
+}
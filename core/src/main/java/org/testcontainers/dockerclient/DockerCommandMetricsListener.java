@@ -0,0 +1,32 @@
+package org.testcontainers.dockerclient;
+
+import java.time.Duration;
+
+/**
+ * Service provider interface for receiving Docker API command metrics, e.g. to forward them to a metrics library.
+ * Implementations are discovered with {@link java.util.ServiceLoader}, and are called on the thread which observed the
+ * event, so should return promptly.
+ * <p>
+ * Commands are identified by their docker-java interface name, e.g. <code>CreateContainerCmd</code>.
+ */
+public interface DockerCommandMetricsListener {
+
+    /**
+     * Called when the daemon has responded to a command: for most commands when the command returns, and for
+     * streaming commands (such as pulls and logs) when the stream starts.
+     *
+     * @param commandType the command
+     * @param latency     time from sending the command until the response
+     */
+    default void onResponse(String commandType, Duration latency) {
+    }
+
+    /**
+     * Called when a command fails, including when a stream fails after it has started.
+     *
+     * @param commandType the command
+     * @param error       the failure
+     */
+    default void onError(String commandType, Throwable error) {
+    }
+}
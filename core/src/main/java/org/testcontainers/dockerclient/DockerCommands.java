@@ -0,0 +1,40 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.command.*;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Accessors for the properties which Docker API commands have in common but do not share an interface for.
+ */
+@UtilityClass
+class DockerCommands {
+
+    /**
+     * @return the ID of the container which the command targets, or null if it does not target an existing container
+     */
+    static String getContainerId(DockerCmd<?> command) {
+        if (command instanceof StartContainerCmd) {
+            return ((StartContainerCmd) command).getContainerId();
+        } else if (command instanceof InspectContainerCmd) {
+            return ((InspectContainerCmd) command).getContainerId();
+        } else if (command instanceof StopContainerCmd) {
+            return ((StopContainerCmd) command).getContainerId();
+        } else if (command instanceof KillContainerCmd) {
+            return ((KillContainerCmd) command).getContainerId();
+        } else if (command instanceof RemoveContainerCmd) {
+            return ((RemoveContainerCmd) command).getContainerId();
+        } else if (command instanceof WaitContainerCmd) {
+            return ((WaitContainerCmd) command).getContainerId();
+        } else if (command instanceof LogContainerCmd) {
+            return ((LogContainerCmd) command).getContainerId();
+        } else if (command instanceof ExecCreateCmd) {
+            return ((ExecCreateCmd) command).getContainerId();
+        } else if (command instanceof CopyArchiveToContainerCmd) {
+            return ((CopyArchiveToContainerCmd) command).getContainerId();
+        } else if (command instanceof CopyArchiveFromContainerCmd) {
+            return ((CopyArchiveFromContainerCmd) command).getContainerId();
+        } else {
+            return null;
+        }
+    }
+}
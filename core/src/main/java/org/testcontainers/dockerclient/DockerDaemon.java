@@ -0,0 +1,143 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.github.dockerjava.api.model.Image;
+import com.github.dockerjava.core.command.PullImageResultCallback;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.containers.ContainerFetchException;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One of the Docker daemons which containers may be placed on. Containers, networks and the resources which refer
+ * to them must all be created with the client of the same daemon.
+ */
+@Slf4j
+public final class DockerDaemon {
+
+    /**
+     * A description of the daemon, e.g. its address
+     */
+    @Getter
+    private final String name;
+
+    @Getter
+    private final DockerClient client;
+
+    /**
+     * Whether this is the daemon found by the usual {@link DockerClientProviderStrategy} discovery, which is used for
+     * images built by Testcontainers and for everything which is not placed
+     */
+    @Getter
+    private final boolean primary;
+
+    /**
+     * The ID which the daemon reports for itself
+     */
+    @Getter(lazy = true)
+    private final String id = client.infoCmd().exec().getId();
+
+    private final DockerClientProviderStrategy strategy;
+    private final AtomicInteger placedContainers = new AtomicInteger();
+    private final Set<String> availableImages = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    public DockerDaemon(String name, DockerClientProviderStrategy strategy, boolean primary) {
+        this(name, strategy, strategy.getClient(), primary);
+    }
+
+    DockerDaemon(String name, DockerClientProviderStrategy strategy, DockerClient client, boolean primary) {
+        this.name = name;
+        this.strategy = strategy;
+        this.client = client;
+        this.primary = primary;
+    }
+
+    /**
+     * @return the IP address of the host running this daemon, at which ports of its containers are exposed
+     */
+    public String getDockerHostIpAddress() {
+        return strategy.getDockerHostIpAddress();
+    }
+
+    /**
+     * @return whether what is learned about this daemon may be remembered across JVMs
+     * @see DockerClientProviderStrategy#isPersistable()
+     */
+    public boolean isPersistable() {
+        return strategy.isPersistable();
+    }
+
+    /**
+     * @return the number of containers created on this daemon by this JVM which have not been stopped
+     */
+    public int getPlacedContainerCount() {
+        return placedContainers.get();
+    }
+
+    /**
+     * @return the number of running containers reported by the daemon, including those of other JVMs
+     */
+    public int getRunningContainerCount() {
+        final Integer running = client.infoCmd().exec().getContainersRunning();
+        return running != null ? running : 0;
+    }
+
+    /**
+     * Count a container which has been created on this daemon.
+     */
+    public void containerPlaced() {
+        placedContainers.incrementAndGet();
+    }
+
+    /**
+     * Stop counting a container which was created on this daemon.
+     */
+    public void containerRemoved() {
+        placedContainers.updateAndGet(count -> Math.max(count - 1, 0));
+    }
+
+    /**
+     * Pull an image unless this daemon already has it.
+     *
+     * @param imageName the image
+     */
+    public void ensureImageAvailable(String imageName) {
+        if (availableImages.contains(imageName) || listImages(imageName)) {
+            return;
+        }
+
+        log.info("Pulling docker image {} on {}", imageName, name);
+        try {
+            client.pullImageCmd(imageName).exec(new PullImageResultCallback()).awaitSuccess();
+        } catch (DockerClientException e) {
+            throw new ContainerFetchException("Failed to pull " + imageName + " on " + name, e);
+        }
+
+        // a successful pull is only cached once the daemon lists the image, see https://github.com/docker/docker/issues/10708
+        if (!listImages(imageName)) {
+            throw new ContainerFetchException("Pulled " + imageName + " on " + name + ", but the daemon does not list it");
+        }
+    }
+
+    /**
+     * @return whether the daemon lists the image, having cached the tags of the matching images it lists
+     */
+    private boolean listImages(String imageName) {
+        for (Image image : client.listImagesCmd().withImageNameFilter(imageName).exec()) {
+            if (image.getRepoTags() != null) {
+                Collections.addAll(availableImages, image.getRepoTags());
+            }
+        }
+        return availableImages.contains(imageName);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,44 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Connects to the Docker daemon at a given address, e.g. <code>tcp://build-host-2:2375</code>. Used for the additional
+ * daemons of a pool (see the <code>docker.daemons</code> property); TLS settings are taken from the environment and
+ * system properties as for {@link EnvironmentAndSystemPropertyClientProviderStrategy}.
+ */
+@Slf4j
+public class DockerHostClientProviderStrategy extends DockerClientProviderStrategy {
+
+    private static final String PING_TIMEOUT_DEFAULT = "10";
+    private static final String PING_TIMEOUT_PROPERTY_NAME = "testcontainers.dockerhostprovider.timeout";
+
+    private final String dockerHost;
+
+    public DockerHostClientProviderStrategy(String dockerHost) {
+        this.dockerHost = dockerHost;
+        config = DefaultDockerClientConfig.createDefaultConfigBuilder()
+                .withDockerHost(dockerHost)
+                .build();
+    }
+
+    @Override
+    public void test() throws InvalidConfigurationException {
+        try {
+            client = getClientForConfig(config);
+
+            final int timeout = Integer.parseInt(System.getProperty(PING_TIMEOUT_PROPERTY_NAME, PING_TIMEOUT_DEFAULT));
+            ping(client, timeout);
+        } catch (Exception | UnsatisfiedLinkError e) {
+            throw new InvalidConfigurationException("ping failed", e);
+        }
+
+        log.info("Accessing docker at {}", dockerHost);
+    }
+
+    @Override
+    public String getDescription() {
+        return "Docker host " + dockerHost;
+    }
+}
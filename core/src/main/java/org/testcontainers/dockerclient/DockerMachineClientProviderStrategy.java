@@ -29,6 +29,12 @@ public class DockerMachineClientProviderStrategy extends DockerClientProviderStr
         return ProxiedUnixSocketClientProviderStrategy.PRIORITY - 10;
     }
 
+    // testing starts the machine if it is stopped
+    @Override
+    protected boolean isSafeToTestConcurrently() {
+        return false;
+    }
+
     @Override
     public void test() throws InvalidConfigurationException {
 
@@ -0,0 +1,88 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.command.*;
+import org.jetbrains.annotations.NotNull;
+import org.testcontainers.utility.FlightRecorderEvent;
+import org.testcontainers.utility.FlightRecorderEventType;
+
+import static org.testcontainers.utility.FlightRecorderEventType.DOCKER_API_REQUEST;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.COMMAND;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.CONTAINER_ID;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.IMAGE;
+import static org.testcontainers.utility.FlightRecorderEventType.IMAGE_BUILD;
+import static org.testcontainers.utility.FlightRecorderEventType.IMAGE_PULL;
+
+/**
+ * Interceptor which emits Java Flight Recorder events for Docker API commands, and for image pulls and builds
+ * wherever they are started from. Commands are only observed while a recording is enabled for the events.
+ */
+class FlightRecorderInterceptor implements DockerCommandInterceptor {
+
+    @Override
+    public Observation intercept(@NotNull String commandType, @NotNull DockerCmd<?> command) {
+        final FlightRecorderEventType imageEventType = command instanceof PullImageCmd ? IMAGE_PULL
+                : command instanceof BuildImageCmd ? IMAGE_BUILD
+                : null;
+
+        final boolean requestEnabled = FlightRecorderEvent.isEnabled(DOCKER_API_REQUEST);
+        final boolean imageEventEnabled = imageEventType != null && FlightRecorderEvent.isEnabled(imageEventType);
+        if (!requestEnabled && !imageEventEnabled) {
+            return null;
+        }
+
+        final String image = getImage(command);
+        final String containerId = DockerCommands.getContainerId(command);
+
+        final FlightRecorderEvent request = FlightRecorderEvent.begin(DOCKER_API_REQUEST)
+                .with(COMMAND, commandType)
+                .with(IMAGE, image)
+                .with(CONTAINER_ID, containerId);
+        final FlightRecorderEvent imageEvent = imageEventEnabled
+                ? FlightRecorderEvent.begin(imageEventType).with(IMAGE, image)
+                : null;
+
+        return new Observation() {
+            private boolean responded;
+
+            @Override
+            public void onResponse(Object response) {
+                responded = true;
+                if (response instanceof CreateContainerResponse) {
+                    request.with(CONTAINER_ID, ((CreateContainerResponse) response).getId());
+                }
+                request.succeeded();
+            }
+
+            @Override
+            public void onComplete() {
+                if (imageEvent != null) {
+                    imageEvent.succeeded();
+                }
+            }
+
+            @Override
+            public void onError(@NotNull Throwable error) {
+                if (!responded) {
+                    request.failed(error);
+                }
+                if (imageEvent != null) {
+                    imageEvent.failed(error);
+                }
+            }
+        };
+    }
+
+    private static String getImage(DockerCmd<?> command) {
+        if (command instanceof CreateContainerCmd) {
+            return ((CreateContainerCmd) command).getImage();
+        } else if (command instanceof PullImageCmd) {
+            final PullImageCmd pull = (PullImageCmd) command;
+            return pull.getTag() != null ? pull.getRepository() + ":" + pull.getTag() : pull.getRepository();
+        } else if (command instanceof BuildImageCmd) {
+            final BuildImageCmd build = (BuildImageCmd) command;
+            return build.getTags() != null && !build.getTags().isEmpty() ? build.getTags().iterator().next() : null;
+        } else {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,491 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.*;
+import com.github.dockerjava.core.DockerClientConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.utility.FlightRecorderEvent;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Wraps the {@link DockerCmdExecFactory} used by a Docker client so that every command passes through a chain of
+ * {@link DockerCommandInterceptor}s.
+ * <p>
+ * Commands which no interceptor is interested in are sent directly, and with no interceptors at all the factory is
+ * not wrapped.
+ */
+@Slf4j
+class InterceptingDockerCmdExecFactory implements DockerCmdExecFactory {
+
+    private final DockerCmdExecFactory delegate;
+    private final DockerCommandInterceptor[] interceptors;
+
+    InterceptingDockerCmdExecFactory(DockerCmdExecFactory delegate, List<DockerCommandInterceptor> interceptors) {
+        this.delegate = delegate;
+        this.interceptors = interceptors.toArray(new DockerCommandInterceptor[0]);
+    }
+
+    /**
+     * @return the factory, wrapped with a bulkhead of its own, the other built-in interceptors which are enabled and
+     * any discovered with {@link ServiceLoader}
+     */
+    static DockerCmdExecFactory withDefaultInterceptors(DockerCmdExecFactory delegate) {
+        final List<DockerCommandInterceptor> interceptors = new ArrayList<>();
+
+        final DockerApiBulkhead bulkhead = DockerApiBulkhead.fromConfiguration();
+        if (bulkhead.isEnabled()) {
+            interceptors.add(bulkhead);
+        }
+        if (!TestcontainersConfiguration.getInstance().isDockerApiMetricsDisabled()) {
+            interceptors.add(DockerCommandMetrics.getInstance());
+        }
+        interceptors.add(new AuditLoggingInterceptor());
+        if (FlightRecorderEvent.isAvailable()) {
+            interceptors.add(new FlightRecorderInterceptor());
+        }
+        ServiceLoader.load(DockerCommandInterceptor.class).forEach(interceptors::add);
+
+        return wrap(delegate, interceptors);
+    }
+
+    static DockerCmdExecFactory wrap(DockerCmdExecFactory delegate, List<DockerCommandInterceptor> interceptors) {
+        return interceptors.isEmpty() ? delegate : new InterceptingDockerCmdExecFactory(delegate, interceptors);
+    }
+
+    @Override
+    public void init(DockerClientConfig dockerClientConfig) {
+        delegate.init(dockerClientConfig);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    @Override
+    public AuthCmd.Exec createAuthCmdExec() {
+        return sync("AuthCmd", delegate.createAuthCmdExec())::exec;
+    }
+
+    @Override
+    public InfoCmd.Exec createInfoCmdExec() {
+        return sync("InfoCmd", delegate.createInfoCmdExec())::exec;
+    }
+
+    @Override
+    public PingCmd.Exec createPingCmdExec() {
+        return sync("PingCmd", delegate.createPingCmdExec())::exec;
+    }
+
+    @Override
+    public ExecCreateCmd.Exec createExecCmdExec() {
+        return sync("ExecCreateCmd", delegate.createExecCmdExec())::exec;
+    }
+
+    @Override
+    public VersionCmd.Exec createVersionCmdExec() {
+        return sync("VersionCmd", delegate.createVersionCmdExec())::exec;
+    }
+
+    @Override
+    public PullImageCmd.Exec createPullImageCmdExec() {
+        return async("PullImageCmd", delegate.createPullImageCmdExec())::exec;
+    }
+
+    @Override
+    public PushImageCmd.Exec createPushImageCmdExec() {
+        return async("PushImageCmd", delegate.createPushImageCmdExec())::exec;
+    }
+
+    @Override
+    public SaveImageCmd.Exec createSaveImageCmdExec() {
+        return sync("SaveImageCmd", delegate.createSaveImageCmdExec())::exec;
+    }
+
+    @Override
+    public CreateImageCmd.Exec createCreateImageCmdExec() {
+        return sync("CreateImageCmd", delegate.createCreateImageCmdExec())::exec;
+    }
+
+    @Override
+    public LoadImageCmd.Exec createLoadImageCmdExec() {
+        return sync("LoadImageCmd", delegate.createLoadImageCmdExec())::exec;
+    }
+
+    @Override
+    public SearchImagesCmd.Exec createSearchImagesCmdExec() {
+        return sync("SearchImagesCmd", delegate.createSearchImagesCmdExec())::exec;
+    }
+
+    @Override
+    public RemoveImageCmd.Exec createRemoveImageCmdExec() {
+        return sync("RemoveImageCmd", delegate.createRemoveImageCmdExec())::exec;
+    }
+
+    @Override
+    public ListImagesCmd.Exec createListImagesCmdExec() {
+        return sync("ListImagesCmd", delegate.createListImagesCmdExec())::exec;
+    }
+
+    @Override
+    public InspectImageCmd.Exec createInspectImageCmdExec() {
+        return sync("InspectImageCmd", delegate.createInspectImageCmdExec())::exec;
+    }
+
+    @Override
+    public ListContainersCmd.Exec createListContainersCmdExec() {
+        return sync("ListContainersCmd", delegate.createListContainersCmdExec())::exec;
+    }
+
+    @Override
+    public CreateContainerCmd.Exec createCreateContainerCmdExec() {
+        return sync("CreateContainerCmd", delegate.createCreateContainerCmdExec())::exec;
+    }
+
+    @Override
+    public StartContainerCmd.Exec createStartContainerCmdExec() {
+        return sync("StartContainerCmd", delegate.createStartContainerCmdExec())::exec;
+    }
+
+    @Override
+    public InspectContainerCmd.Exec createInspectContainerCmdExec() {
+        return sync("InspectContainerCmd", delegate.createInspectContainerCmdExec())::exec;
+    }
+
+    @Override
+    public RemoveContainerCmd.Exec createRemoveContainerCmdExec() {
+        return sync("RemoveContainerCmd", delegate.createRemoveContainerCmdExec())::exec;
+    }
+
+    @Override
+    public WaitContainerCmd.Exec createWaitContainerCmdExec() {
+        return async("WaitContainerCmd", delegate.createWaitContainerCmdExec())::exec;
+    }
+
+    @Override
+    public AttachContainerCmd.Exec createAttachContainerCmdExec() {
+        return async("AttachContainerCmd", delegate.createAttachContainerCmdExec())::exec;
+    }
+
+    @Override
+    public ExecStartCmd.Exec createExecStartCmdExec() {
+        return async("ExecStartCmd", delegate.createExecStartCmdExec())::exec;
+    }
+
+    @Override
+    public InspectExecCmd.Exec createInspectExecCmdExec() {
+        return sync("InspectExecCmd", delegate.createInspectExecCmdExec())::exec;
+    }
+
+    @Override
+    public LogContainerCmd.Exec createLogContainerCmdExec() {
+        return async("LogContainerCmd", delegate.createLogContainerCmdExec())::exec;
+    }
+
+    @Override
+    public CopyFileFromContainerCmd.Exec createCopyFileFromContainerCmdExec() {
+        return sync("CopyFileFromContainerCmd", delegate.createCopyFileFromContainerCmdExec())::exec;
+    }
+
+    @Override
+    public CopyArchiveFromContainerCmd.Exec createCopyArchiveFromContainerCmdExec() {
+        return sync("CopyArchiveFromContainerCmd", delegate.createCopyArchiveFromContainerCmdExec())::exec;
+    }
+
+    @Override
+    public CopyArchiveToContainerCmd.Exec createCopyArchiveToContainerCmdExec() {
+        return sync("CopyArchiveToContainerCmd", delegate.createCopyArchiveToContainerCmdExec())::exec;
+    }
+
+    @Override
+    public StopContainerCmd.Exec createStopContainerCmdExec() {
+        return sync("StopContainerCmd", delegate.createStopContainerCmdExec())::exec;
+    }
+
+    @Override
+    public ContainerDiffCmd.Exec createContainerDiffCmdExec() {
+        return sync("ContainerDiffCmd", delegate.createContainerDiffCmdExec())::exec;
+    }
+
+    @Override
+    public KillContainerCmd.Exec createKillContainerCmdExec() {
+        return sync("KillContainerCmd", delegate.createKillContainerCmdExec())::exec;
+    }
+
+    @Override
+    public UpdateContainerCmd.Exec createUpdateContainerCmdExec() {
+        return sync("UpdateContainerCmd", delegate.createUpdateContainerCmdExec())::exec;
+    }
+
+    @Override
+    public RenameContainerCmd.Exec createRenameContainerCmdExec() {
+        return sync("RenameContainerCmd", delegate.createRenameContainerCmdExec())::exec;
+    }
+
+    @Override
+    public RestartContainerCmd.Exec createRestartContainerCmdExec() {
+        return sync("RestartContainerCmd", delegate.createRestartContainerCmdExec())::exec;
+    }
+
+    @Override
+    public CommitCmd.Exec createCommitCmdExec() {
+        return sync("CommitCmd", delegate.createCommitCmdExec())::exec;
+    }
+
+    @Override
+    public BuildImageCmd.Exec createBuildImageCmdExec() {
+        return async("BuildImageCmd", delegate.createBuildImageCmdExec())::exec;
+    }
+
+    @Override
+    public TopContainerCmd.Exec createTopContainerCmdExec() {
+        return sync("TopContainerCmd", delegate.createTopContainerCmdExec())::exec;
+    }
+
+    @Override
+    public TagImageCmd.Exec createTagImageCmdExec() {
+        return sync("TagImageCmd", delegate.createTagImageCmdExec())::exec;
+    }
+
+    @Override
+    public PauseContainerCmd.Exec createPauseContainerCmdExec() {
+        return sync("PauseContainerCmd", delegate.createPauseContainerCmdExec())::exec;
+    }
+
+    @Override
+    public UnpauseContainerCmd.Exec createUnpauseContainerCmdExec() {
+        return sync("UnpauseContainerCmd", delegate.createUnpauseContainerCmdExec())::exec;
+    }
+
+    @Override
+    public EventsCmd.Exec createEventsCmdExec() {
+        return async("EventsCmd", delegate.createEventsCmdExec())::exec;
+    }
+
+    @Override
+    public StatsCmd.Exec createStatsCmdExec() {
+        return async("StatsCmd", delegate.createStatsCmdExec())::exec;
+    }
+
+    @Override
+    public CreateVolumeCmd.Exec createCreateVolumeCmdExec() {
+        return sync("CreateVolumeCmd", delegate.createCreateVolumeCmdExec())::exec;
+    }
+
+    @Override
+    public InspectVolumeCmd.Exec createInspectVolumeCmdExec() {
+        return sync("InspectVolumeCmd", delegate.createInspectVolumeCmdExec())::exec;
+    }
+
+    @Override
+    public RemoveVolumeCmd.Exec createRemoveVolumeCmdExec() {
+        return sync("RemoveVolumeCmd", delegate.createRemoveVolumeCmdExec())::exec;
+    }
+
+    @Override
+    public ListVolumesCmd.Exec createListVolumesCmdExec() {
+        return sync("ListVolumesCmd", delegate.createListVolumesCmdExec())::exec;
+    }
+
+    @Override
+    public ListNetworksCmd.Exec createListNetworksCmdExec() {
+        return sync("ListNetworksCmd", delegate.createListNetworksCmdExec())::exec;
+    }
+
+    @Override
+    public InspectNetworkCmd.Exec createInspectNetworkCmdExec() {
+        return sync("InspectNetworkCmd", delegate.createInspectNetworkCmdExec())::exec;
+    }
+
+    @Override
+    public CreateNetworkCmd.Exec createCreateNetworkCmdExec() {
+        return sync("CreateNetworkCmd", delegate.createCreateNetworkCmdExec())::exec;
+    }
+
+    @Override
+    public RemoveNetworkCmd.Exec createRemoveNetworkCmdExec() {
+        return sync("RemoveNetworkCmd", delegate.createRemoveNetworkCmdExec())::exec;
+    }
+
+    @Override
+    public ConnectToNetworkCmd.Exec createConnectToNetworkCmdExec() {
+        return sync("ConnectToNetworkCmd", delegate.createConnectToNetworkCmdExec())::exec;
+    }
+
+    @Override
+    public DisconnectFromNetworkCmd.Exec createDisconnectFromNetworkCmdExec() {
+        return sync("DisconnectFromNetworkCmd", delegate.createDisconnectFromNetworkCmdExec())::exec;
+    }
+
+    private <C extends DockerCmd<R>, R> DockerCmdSyncExec<C, R> sync(String commandType, DockerCmdSyncExec<C, R> exec) {
+        return command -> {
+            final Observations observations = intercept(commandType, command);
+            if (observations == null) {
+                return exec.exec(command);
+            }
+
+            final R result;
+            try {
+                result = exec.exec(command);
+            } catch (RuntimeException | Error e) {
+                observations.onError(e);
+                throw e;
+            }
+            observations.onResponse(result);
+            observations.onComplete();
+            return result;
+        };
+    }
+
+    private <C extends DockerCmd<Void>, R> DockerCmdAsyncExec<C, R> async(String commandType, DockerCmdAsyncExec<C, R> exec) {
+        return (command, resultCallback) -> {
+            final Observations observations = intercept(commandType, command);
+            if (observations == null) {
+                return exec.exec(command, resultCallback);
+            }
+
+            final InterceptedResultCallback<R> interceptedCallback = new InterceptedResultCallback<>(resultCallback, observations);
+            try {
+                return exec.exec(command, interceptedCallback);
+            } catch (RuntimeException | Error e) {
+                interceptedCallback.failedToSend(e);
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * @return the observations of the interceptors interested in the command, or null if there are none
+     */
+    private Observations intercept(String commandType, DockerCmd<?> command) {
+        List<DockerCommandInterceptor.Observation> observations = null;
+        for (DockerCommandInterceptor interceptor : interceptors) {
+            final DockerCommandInterceptor.Observation observation;
+            try {
+                observation = interceptor.intercept(commandType, command);
+            } catch (RuntimeException | Error e) {
+                if (observations != null) {
+                    new Observations(observations).onError(e);
+                }
+                throw e;
+            }
+
+            if (observation != null) {
+                if (observations == null) {
+                    observations = new ArrayList<>(interceptors.length);
+                }
+                observations.add(observation);
+            }
+        }
+        return observations != null ? new Observations(observations) : null;
+    }
+
+    /**
+     * Notifies the observations of one command in reverse order, so that interceptors earlier in the chain see the
+     * outcome last. A failing observation does not prevent the others from being notified.
+     */
+    private static class Observations {
+        private final List<DockerCommandInterceptor.Observation> observations;
+
+        Observations(List<DockerCommandInterceptor.Observation> observations) {
+            this.observations = observations;
+        }
+
+        void onResponse(Object response) {
+            for (int i = observations.size() - 1; i >= 0; i--) {
+                try {
+                    observations.get(i).onResponse(response);
+                } catch (RuntimeException e) {
+                    log.debug("Docker command interceptor failed", e);
+                }
+            }
+        }
+
+        void onComplete() {
+            for (int i = observations.size() - 1; i >= 0; i--) {
+                try {
+                    observations.get(i).onComplete();
+                } catch (RuntimeException e) {
+                    log.debug("Docker command interceptor failed", e);
+                }
+            }
+        }
+
+        void onError(Throwable error) {
+            for (int i = observations.size() - 1; i >= 0; i--) {
+                try {
+                    observations.get(i).onError(error);
+                } catch (RuntimeException e) {
+                    log.debug("Docker command interceptor failed", e);
+                }
+            }
+        }
+    }
+
+    private static class InterceptedResultCallback<R> implements ResultCallback<R> {
+        private final ResultCallback<R> delegate;
+        private final Observations observations;
+        private final AtomicBoolean responded = new AtomicBoolean();
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        InterceptedResultCallback(ResultCallback<R> delegate, Observations observations) {
+            this.delegate = delegate;
+            this.observations = observations;
+        }
+
+        @Override
+        public void onStart(Closeable closeable) {
+            if (!finished.get() && responded.compareAndSet(false, true)) {
+                observations.onResponse(null);
+            }
+            delegate.onStart(closeable);
+        }
+
+        @Override
+        public void onNext(R object) {
+            delegate.onNext(object);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (finished.compareAndSet(false, true)) {
+                observations.onError(throwable);
+            }
+            delegate.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            complete();
+            delegate.onComplete();
+        }
+
+        @Override
+        public void close() throws IOException {
+            complete();
+            delegate.close();
+        }
+
+        /**
+         * The command could not be sent, so the callback will not be called.
+         */
+        void failedToSend(Throwable throwable) {
+            if (finished.compareAndSet(false, true)) {
+                observations.onError(throwable);
+            }
+        }
+
+        private void complete() {
+            if (finished.compareAndSet(false, true)) {
+                observations.onComplete();
+            }
+        }
+    }
+}
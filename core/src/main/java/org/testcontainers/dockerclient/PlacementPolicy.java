@@ -0,0 +1,69 @@
+package org.testcontainers.dockerclient;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Chooses which of several Docker daemons a new container is placed on. Set with the
+ * <code>docker.daemons.placement</code> property, or {@link org.testcontainers.DockerClientFactory#setPlacementPolicy}.
+ */
+@FunctionalInterface
+public interface PlacementPolicy {
+
+    /**
+     * @param daemons   the available daemons, primary first
+     * @param testClass the name of the class creating the container, if known
+     * @return the daemon to place the container on
+     */
+    @NotNull
+    DockerDaemon place(@NotNull List<DockerDaemon> daemons, @Nullable String testClass);
+
+    /**
+     * @return a policy which places containers on the daemon with the fewest containers placed by this JVM
+     */
+    static PlacementPolicy leastLoaded() {
+        return (daemons, testClass) -> daemons.stream()
+                .min(Comparator.comparingInt(DockerDaemon::getPlacedContainerCount))
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * @return a policy which places containers on the daemon reporting the fewest running containers, which accounts
+     * for containers started by other JVMs sharing the daemons
+     */
+    static PlacementPolicy fewestRunningContainers() {
+        return (daemons, testClass) -> daemons.stream()
+                .min(Comparator.comparingInt(DockerDaemon::getRunningContainerCount))
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * @return a policy which places all containers created by the same test class on the same daemon, and spreads
+     * test classes over the daemons
+     */
+    static PlacementPolicy stickyPerTestClass() {
+        return (daemons, testClass) -> testClass != null
+                ? daemons.get(Math.floorMod(testClass.hashCode(), daemons.size()))
+                : leastLoaded().place(daemons, null);
+    }
+
+    /**
+     * @param name one of <code>least-loaded</code>, <code>running-containers</code> or <code>sticky</code>
+     * @return the named policy
+     */
+    static PlacementPolicy forName(String name) {
+        switch (name) {
+            case "least-loaded":
+                return leastLoaded();
+            case "running-containers":
+                return fewestRunningContainers();
+            case "sticky":
+                return stickyPerTestClass();
+            default:
+                throw new IllegalArgumentException("Unknown placement policy: " + name);
+        }
+    }
+}
@@ -27,6 +27,12 @@ public class ProxiedUnixSocketClientProviderStrategy extends UnixSocketClientPro
         return PRIORITY;
     }
 
+    // testing starts a proxy, which is left running if the strategy is not used
+    @Override
+    protected boolean isSafeToTestConcurrently() {
+        return false;
+    }
+
     @Override
     public void test() throws InvalidConfigurationException {
         TcpToUnixSocketProxy proxy = new TcpToUnixSocketProxy(socketFile);
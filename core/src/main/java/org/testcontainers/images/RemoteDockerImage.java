@@ -34,6 +34,13 @@ public class RemoteDockerImage extends LazyFuture<String> {
         this.dockerImageName = repository + ":" + tag;
     }
 
+    /**
+     * @return the name of the image, without pulling it
+     */
+    public String getDockerImageName() {
+        return dockerImageName;
+    }
+
     @Override
     protected final String resolve() {
         Profiler profiler = new Profiler("Rule creation - prefetch image");
@@ -28,6 +28,13 @@ public class AuditLogger {
     private static final ObjectMapper objectMapper = new ObjectMapper();
     public static final String MDC_PREFIX = AuditLogger.class.getCanonicalName();
 
+    /**
+     * @return whether audit logging is enabled, i.e. whether TRACE logging is enabled for this class
+     */
+    public static boolean isEnabled() {
+        return log.isTraceEnabled();
+    }
+
     public static void doLog(@NotNull String action,
                              @Nullable String image,
                              @Nullable String containerId,
@@ -0,0 +1,156 @@
+package org.testcontainers.utility;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.utility.FlightRecorderEventType.Field;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A Java Flight Recorder event, which begins when it is created and is committed when its outcome is known.
+ * <p>
+ * When no recording is enabled for the event's type, or the JVM has no Flight Recorder, {@link #begin} returns an
+ * event which ignores everything, so that instrumented code costs next to nothing. An event is used by one thread at a
+ * time, but may be handed from the thread which began it to the thread which commits it.
+ */
+public final class FlightRecorderEvent {
+
+    private static final FlightRecorderEvent DISABLED = new FlightRecorderEvent(null, null);
+
+    private final FlightRecorderEventType type;
+    private final Object event;
+
+    private FlightRecorderEvent(FlightRecorderEventType type, Object event) {
+        this.type = type;
+        this.event = event;
+    }
+
+    /**
+     * @return whether Flight Recorder events can be emitted in this JVM
+     */
+    public static boolean isAvailable() {
+        return FlightRecorderSupport.getInstance().isAvailable();
+    }
+
+    /**
+     * @return whether a recording is enabled for events of the given type
+     */
+    public static boolean isEnabled(@NotNull FlightRecorderEventType type) {
+        return FlightRecorderSupport.getInstance().isEnabled(type);
+    }
+
+    /**
+     * Begin an event, which is recorded once it has ended with {@link #succeeded()} or {@link #failed(Throwable)}.
+     *
+     * @param type the type of event
+     * @return the event
+     */
+    @NotNull
+    public static FlightRecorderEvent begin(@NotNull FlightRecorderEventType type) {
+        final FlightRecorderSupport support = FlightRecorderSupport.getInstance();
+        if (!support.isEnabled(type)) {
+            return DISABLED;
+        }
+        final Object event = support.begin(type);
+        return event == null ? DISABLED : new FlightRecorderEvent(type, event);
+    }
+
+    /**
+     * Set a field of the event; fields which the event's type does not have are ignored.
+     *
+     * @param field the field
+     * @param value the value, of the field's type
+     * @return this
+     */
+    public FlightRecorderEvent with(@NotNull Field field, @Nullable Object value) {
+        if (event != null) {
+            final int index = type.getFields().indexOf(field);
+            if (index >= 0) {
+                FlightRecorderSupport.getInstance().set(event, index, value);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Run an action and end the event with its outcome.
+     *
+     * @param action the action
+     */
+    public void record(@NotNull Runnable action) {
+        record(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run an action and end the event with its outcome.
+     *
+     * @param action the action
+     * @param <T>    the type of the action's result
+     * @return the action's result
+     */
+    public <T> T record(@NotNull Supplier<T> action) {
+        final T result;
+        try {
+            result = action.get();
+        } catch (Throwable e) {
+            failed(e);
+            throw e;
+        }
+        succeeded();
+        return result;
+    }
+
+    /**
+     * Start an asynchronous action and end the event once the future it returns is complete.
+     *
+     * @param action the action
+     * @param <T>    the type of the action's result
+     * @return the future returned by the action
+     */
+    public <T> CompletableFuture<T> recordAsync(@NotNull Supplier<CompletableFuture<T>> action) {
+        final CompletableFuture<T> future;
+        try {
+            future = action.get();
+        } catch (Throwable e) {
+            failed(e);
+            throw e;
+        }
+        future.whenComplete((result, error) -> {
+            if (error == null) {
+                succeeded();
+            } else {
+                failed(error);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * End the event, recording it as successful.
+     */
+    public void succeeded() {
+        if (event != null) {
+            with(Field.OUTCOME, "success");
+            FlightRecorderSupport.getInstance().commit(event);
+        }
+    }
+
+    /**
+     * End the event, recording it as failed.
+     *
+     * @param error the cause of the failure
+     */
+    public void failed(@Nullable Throwable error) {
+        if (event != null) {
+            with(Field.OUTCOME, "failure");
+            if (error != null) {
+                with(Field.ERROR, error.getClass().getName() + ": " + error.getMessage());
+            }
+            FlightRecorderSupport.getInstance().commit(event);
+        }
+    }
+}
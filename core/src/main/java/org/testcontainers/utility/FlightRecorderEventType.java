@@ -0,0 +1,87 @@
+package org.testcontainers.utility;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testcontainers.utility.FlightRecorderEventType.Field.COMMAND;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.CONTAINER_ID;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.ERROR;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.EXIT_CODE;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.IMAGE;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.OUTCOME;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.WAIT_STRATEGY;
+
+/**
+ * The Java Flight Recorder events emitted by Testcontainers, which appear in the <em>Testcontainers</em> category of
+ * a recording. Every event has a duration, and an outcome of <code>success</code> or <code>failure</code> with the
+ * failure's message.
+ */
+@Getter
+public enum FlightRecorderEventType {
+
+    CONTAINER_CREATE("ContainerCreate", "Container Create", "Creation of a container", IMAGE, CONTAINER_ID),
+    CONTAINER_START("ContainerStart", "Container Start", "Start of a created container", IMAGE, CONTAINER_ID),
+    CONTAINER_READY("ContainerReady", "Container Ready", "Wait for a started container to be ready for use", IMAGE, CONTAINER_ID),
+    CONTAINER_STOP("ContainerStop", "Container Stop", "Stop and removal of a container", IMAGE, CONTAINER_ID),
+    IMAGE_PULL("ImagePull", "Image Pull", "Pull of an image, until the pull has finished", IMAGE),
+    IMAGE_BUILD("ImageBuild", "Image Build", "Build of an image, until the build has finished", IMAGE),
+    WAIT_STRATEGY_ATTEMPT("WaitStrategyAttempt", "Wait Strategy Attempt", "One wait by a wait strategy, including each of the strategies of a composite strategy", IMAGE, CONTAINER_ID, WAIT_STRATEGY),
+    EXEC("Exec", "Exec", "A command executed in a container, until its exit code is known", IMAGE, CONTAINER_ID, COMMAND, EXIT_CODE),
+    DOCKER_API_REQUEST("DockerApiRequest", "Docker API Request", "A Docker API command, until the daemon responds", IMAGE, CONTAINER_ID, COMMAND);
+
+    private static final String NAME_PREFIX = "org.testcontainers.";
+
+    private final String simpleName;
+
+    private final String label;
+
+    private final String description;
+
+    private final List<Field> fields;
+
+    FlightRecorderEventType(String simpleName, String label, String description, Field... fields) {
+        this.simpleName = simpleName;
+        this.label = label;
+        this.description = description;
+        this.fields = withOutcome(fields);
+    }
+
+    /**
+     * @return the name of the event type in recordings, e.g. <code>org.testcontainers.ContainerStart</code>
+     */
+    public String getName() {
+        return NAME_PREFIX + simpleName;
+    }
+
+    private static List<Field> withOutcome(Field[] fields) {
+        final Field[] result = Arrays.copyOf(fields, fields.length + 2);
+        result[fields.length] = OUTCOME;
+        result[fields.length + 1] = ERROR;
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * A field of an event.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Field {
+        IMAGE("image", "Image", String.class),
+        CONTAINER_ID("containerId", "Container ID", String.class),
+        COMMAND("command", "Command", String.class),
+        WAIT_STRATEGY("waitStrategy", "Wait Strategy", String.class),
+        EXIT_CODE("exitCode", "Exit Code", int.class),
+        OUTCOME("outcome", "Outcome", String.class),
+        ERROR("error", "Error", String.class);
+
+        private final String name;
+
+        private final String label;
+
+        private final Class<?> type;
+    }
+}
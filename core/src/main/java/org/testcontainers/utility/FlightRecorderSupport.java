@@ -0,0 +1,180 @@
+package org.testcontainers.utility;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Defines the {@link FlightRecorderEventType}s with the Java Flight Recorder API, if the JVM has one.
+ * <p>
+ * Testcontainers is built for Java 8, and <code>jdk.jfr</code> is only present in Java 8u262 and later, so the event
+ * types are defined at runtime with <code>jdk.jfr.EventFactory</code>, and used through method handles, rather than
+ * as subclasses of <code>jdk.jfr.Event</code>.
+ */
+@Slf4j
+final class FlightRecorderSupport {
+
+    private static final String CATEGORY = "Testcontainers";
+
+    @Getter(lazy = true)
+    private static final FlightRecorderSupport instance = create();
+
+    /**
+     * Per event type: <code>EventFactory.newEvent()</code> bound to the type's factory, or null if unavailable.
+     */
+    private final MethodHandle[] newEvent;
+
+    /**
+     * Per event type: <code>EventType.isEnabled()</code> bound to the type, or null if unavailable.
+     */
+    private final MethodHandle[] isEnabled;
+
+    private final MethodHandle begin;
+    private final MethodHandle end;
+    private final MethodHandle commit;
+    private final MethodHandle set;
+
+    private FlightRecorderSupport(MethodHandle[] newEvent, MethodHandle[] isEnabled,
+                                  MethodHandle begin, MethodHandle end, MethodHandle commit, MethodHandle set) {
+        this.newEvent = newEvent;
+        this.isEnabled = isEnabled;
+        this.begin = begin;
+        this.end = end;
+        this.commit = commit;
+        this.set = set;
+    }
+
+    /**
+     * @return whether events can be emitted at all
+     */
+    boolean isAvailable() {
+        return begin != null;
+    }
+
+    /**
+     * @return whether a recording is enabled for events of the given type
+     */
+    boolean isEnabled(FlightRecorderEventType type) {
+        final MethodHandle handle = isEnabled[type.ordinal()];
+        if (handle == null) {
+            return false;
+        }
+        try {
+            return (boolean) handle.invokeExact();
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return a new event of the given type, which has begun, or null if it could not be created
+     */
+    Object begin(FlightRecorderEventType type) {
+        try {
+            final Object event = newEvent[type.ordinal()].invoke();
+            begin.invoke(event);
+            return event;
+        } catch (Throwable e) {
+            log.debug("Could not begin {} event", type.getName(), e);
+            return null;
+        }
+    }
+
+    void set(Object event, int index, Object value) {
+        try {
+            set.invoke(event, index, value);
+        } catch (Throwable e) {
+            log.debug("Could not set field {} of event", index, e);
+        }
+    }
+
+    void commit(Object event) {
+        try {
+            end.invoke(event);
+            commit.invoke(event);
+        } catch (Throwable e) {
+            log.debug("Could not commit event", e);
+        }
+    }
+
+    private static FlightRecorderSupport create() {
+        final FlightRecorderEventType[] types = FlightRecorderEventType.values();
+        final MethodHandle[] newEvent = new MethodHandle[types.length];
+        final MethodHandle[] isEnabled = new MethodHandle[types.length];
+
+        if (TestcontainersConfiguration.getInstance().isFlightRecorderEventsDisabled()) {
+            log.debug("Java Flight Recorder events are disabled");
+            return new FlightRecorderSupport(newEvent, isEnabled, null, null, null, null);
+        }
+
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final ClassLoader classLoader = ClassLoader.getSystemClassLoader();
+
+            final Class<?> eventClass = Class.forName("jdk.jfr.Event", false, classLoader);
+            final Class<?> eventTypeClass = Class.forName("jdk.jfr.EventType", false, classLoader);
+            final Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory", false, classLoader);
+            final Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement", false, classLoader);
+            final Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor", false, classLoader);
+
+            final Constructor<?> annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+            final Constructor<?> valueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+            final MethodHandle createFactory = lookup.findStatic(eventFactoryClass, "create",
+                    MethodType.methodType(eventFactoryClass, List.class, List.class));
+            final MethodHandle newEventOfFactory = lookup.findVirtual(eventFactoryClass, "newEvent", MethodType.methodType(eventClass));
+            final MethodHandle getEventType = lookup.findVirtual(eventFactoryClass, "getEventType", MethodType.methodType(eventTypeClass));
+            final MethodHandle isEnabledOfType = lookup.findVirtual(eventTypeClass, "isEnabled", MethodType.methodType(boolean.class));
+
+            final Class<? extends Annotation> name = annotationClass("jdk.jfr.Name", classLoader);
+            final Class<? extends Annotation> label = annotationClass("jdk.jfr.Label", classLoader);
+            final Class<? extends Annotation> description = annotationClass("jdk.jfr.Description", classLoader);
+            final Class<? extends Annotation> category = annotationClass("jdk.jfr.Category", classLoader);
+
+            for (FlightRecorderEventType type : types) {
+                final List<Object> annotations = new ArrayList<>();
+                annotations.add(annotationElement.newInstance(name, type.getName()));
+                annotations.add(annotationElement.newInstance(label, type.getLabel()));
+                annotations.add(annotationElement.newInstance(description, type.getDescription()));
+                final Object categories = Array.newInstance(String.class, 1);
+                Array.set(categories, 0, CATEGORY);
+                annotations.add(annotationElement.newInstance(category, categories));
+
+                final List<Object> fields = new ArrayList<>();
+                for (FlightRecorderEventType.Field field : type.getFields()) {
+                    fields.add(valueDescriptor.newInstance(field.getType(), field.getName(),
+                            Collections.singletonList(annotationElement.newInstance(label, field.getLabel()))));
+                }
+
+                final Object factory = createFactory.invoke(annotations, fields);
+                newEvent[type.ordinal()] = newEventOfFactory.bindTo(factory);
+                isEnabled[type.ordinal()] = isEnabledOfType.bindTo(getEventType.invoke(factory));
+            }
+
+            return new FlightRecorderSupport(newEvent, isEnabled,
+                    lookup.findVirtual(eventClass, "begin", MethodType.methodType(void.class)),
+                    lookup.findVirtual(eventClass, "end", MethodType.methodType(void.class)),
+                    lookup.findVirtual(eventClass, "commit", MethodType.methodType(void.class)),
+                    lookup.findVirtual(eventClass, "set", MethodType.methodType(void.class, int.class, Object.class)));
+        } catch (ClassNotFoundException e) {
+            log.debug("Java Flight Recorder events are not available in this JVM");
+        } catch (Throwable e) {
+            log.debug("Java Flight Recorder events could not be defined", e);
+        }
+
+        return new FlightRecorderSupport(new MethodHandle[types.length], new MethodHandle[types.length], null, null, null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> annotationClass(String className, ClassLoader classLoader) throws ClassNotFoundException {
+        return (Class<? extends Annotation>) Class.forName(className, false, classLoader);
+    }
+}
@@ -0,0 +1,64 @@
+package org.testcontainers.utility;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Reads and writes properties files which several JVMs may update at once.
+ */
+@UtilityClass
+public class PropertiesFileUtils {
+
+    /**
+     * @param file the file to read
+     * @return the properties in the file, or no properties if the file does not exist
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is malformed
+     */
+    public static Properties load(final @NonNull File file) throws IOException {
+        final Properties properties = new Properties();
+        try (InputStream inputStream = new FileInputStream(file)) {
+            properties.load(inputStream);
+        } catch (FileNotFoundException e) {
+            // nothing stored yet
+        }
+        return properties;
+    }
+
+    /**
+     * Replace the file with the given properties. The properties are written to a temporary file which is then moved
+     * into place, atomically where the filesystem allows, so that readers never see a partly written file.
+     *
+     * @param file       the file to replace
+     * @param properties the properties to write
+     * @param comment    a description of the file's contents
+     * @throws IOException if the file cannot be written
+     */
+    public static void store(final @NonNull File file, final @NonNull Properties properties, String comment) throws IOException {
+        final File temporaryFile = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+        try {
+            try (OutputStream outputStream = new FileOutputStream(temporaryFile)) {
+                properties.store(outputStream, comment);
+            }
+            try {
+                Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile.toPath());
+        }
+    }
+}
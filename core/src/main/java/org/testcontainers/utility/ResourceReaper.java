@@ -26,6 +26,8 @@ public final class ResourceReaper {
     private final DockerClient dockerClient;
     private Map<String, String> registeredContainers = new ConcurrentHashMap<>();
     private Set<String> registeredNetworks = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    // clients of resources created on daemons other than the primary one
+    private Map<String, DockerClient> resourceClients = new ConcurrentHashMap<>();
 
     private ResourceReaper() {
         dockerClient = DockerClientFactory.instance().client();
@@ -61,6 +63,18 @@ public final class ResourceReaper {
         registeredContainers.put(containerId, imageName);
     }
 
+    /**
+     * Register a container to be cleaned up, either on explicit call to stopAndRemoveContainer, or at JVM shutdown.
+     *
+     * @param containerId  the ID of the container
+     * @param imageName    the image name of the container (used for logging)
+     * @param dockerClient the client of the daemon running the container
+     */
+    public void registerContainerForCleanup(String containerId, String imageName, DockerClient dockerClient) {
+        registerClient(containerId, dockerClient);
+        registerContainerForCleanup(containerId, imageName);
+    }
+
     /**
      * Stop a potentially running container and remove it, including associated volumes.
      *
@@ -70,6 +84,7 @@ public final class ResourceReaper {
         stopContainer(containerId, registeredContainers.get(containerId));
 
         registeredContainers.remove(containerId);
+        resourceClients.remove(containerId);
     }
 
     /**
@@ -82,9 +97,21 @@ public final class ResourceReaper {
         stopContainer(containerId, imageName);
 
         registeredContainers.remove(containerId);
+        resourceClients.remove(containerId);
+    }
+
+    private void registerClient(String resourceId, DockerClient client) {
+        if (client != dockerClient) {
+            resourceClients.put(resourceId, client);
+        }
+    }
+
+    private DockerClient clientFor(String resourceId) {
+        return resourceClients.getOrDefault(resourceId, dockerClient);
     }
 
     private void stopContainer(String containerId, String imageName) {
+        final DockerClient dockerClient = clientFor(containerId);
         boolean running;
         try {
             InspectContainerResponse containerInfo = dockerClient.inspectContainerCmd(containerId).exec();
@@ -136,6 +163,17 @@ public final class ResourceReaper {
         registeredNetworks.add(id);
     }
 
+    /**
+     * Register a network to be cleaned up at JVM shutdown.
+     *
+     * @param id           the ID of the network
+     * @param dockerClient the client of the daemon the network was created on
+     */
+    public void registerNetworkIdForCleanup(String id, DockerClient dockerClient) {
+        registerClient(id, dockerClient);
+        registerNetworkIdForCleanup(id);
+    }
+
     /**
      * @param networkName   the name of the network
      * @deprecated see {@link ResourceReaper#registerNetworkIdForCleanup(String)}
@@ -172,6 +210,7 @@ public final class ResourceReaper {
     }
 
     private void removeNetwork(String id) {
+        final DockerClient dockerClient = clientFor(id);
         try {
             List<Network> networks;
             try {
@@ -196,14 +235,17 @@ public final class ResourceReaper {
             }
         } finally {
             registeredNetworks.remove(id);
+            resourceClients.remove(id);
         }
     }
 
     public void unregisterNetwork(String identifier) {
         registeredNetworks.remove(identifier);
+        resourceClients.remove(identifier);
     }
 
     public void unregisterContainer(String identifier) {
         registeredContainers.remove(identifier);
+        resourceClients.remove(identifier);
     }
 }
@@ -5,8 +5,11 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.*;
 import java.net.MalformedURLException;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -46,6 +49,70 @@ public class TestcontainersConfiguration {
         return Boolean.parseBoolean((String) properties.getOrDefault("checks.disable", "false"));
     }
 
+    public Duration getChecksCacheTtl() {
+        final String ttl = (String) properties.getOrDefault("checks.cache.ttl", "86400");
+        try {
+            return Duration.ofSeconds(Long.parseLong(ttl.trim()));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring checks.cache.ttl '{}', which is not a number of seconds", ttl);
+            return Duration.ofDays(1);
+        }
+    }
+
+    public File getChecksCacheFile() {
+        final String file = (String) properties.get("checks.cache.file");
+        return file != null ? new File(file) : new File(System.getProperty("user.home"), ".testcontainers-checks.properties");
+    }
+
+    public boolean isChecksCacheRevalidationEnabled() {
+        return Boolean.parseBoolean((String) properties.getOrDefault("checks.cache.revalidate", "false"));
+    }
+
+    public int getDockerApiConcurrencyLimit(String commandClass, int defaultLimit) {
+        return Integer.parseInt((String) properties.getOrDefault("docker.api.concurrency." + commandClass, Integer.toString(defaultLimit)));
+    }
+
+    public Duration getDockerClientConnectTimeout() {
+        final String timeout = (String) properties.get("docker.client.connect.timeout");
+        return timeout != null ? Duration.ofMillis(Long.parseLong(timeout)) : null;
+    }
+
+    public int getDockerClientEventLoopThreads() {
+        return Integer.parseInt((String) properties.getOrDefault("docker.client.eventloop.threads", "0"));
+    }
+
+    public int getDockerClientMaxConnections() {
+        return Integer.parseInt((String) properties.getOrDefault("docker.client.max.connections", "0"));
+    }
+
+    public List<String> getDockerDaemons() {
+        return Stream.of(((String) properties.getOrDefault("docker.daemons", "")).split(","))
+                .map(String::trim)
+                .filter(it -> !it.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    public String getDockerDaemonPlacementPolicy() {
+        return (String) properties.getOrDefault("docker.daemons.placement", "least-loaded");
+    }
+
+    public boolean isDockerApiMetricsDisabled() {
+        return Boolean.parseBoolean((String) properties.getOrDefault("docker.api.metrics.disable", "false"));
+    }
+
+    public boolean isFlightRecorderEventsDisabled() {
+        return Boolean.parseBoolean((String) properties.getOrDefault("jfr.events.disable", "false"));
+    }
+
+    public boolean isStartupStatsDisabled() {
+        return Boolean.parseBoolean((String) properties.getOrDefault("startup.stats.disable", "false"));
+    }
+
+    public File getStartupStatsFile() {
+        final String file = (String) properties.get("startup.stats.file");
+        return file != null ? new File(file) : new File(System.getProperty("user.home"), ".testcontainers-startup-times.properties");
+    }
+
     public String getDockerClientStrategyClassName() {
         return (String) properties.get("docker.client.strategy");
     }
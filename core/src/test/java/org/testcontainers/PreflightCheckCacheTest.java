@@ -0,0 +1,59 @@
+package org.testcontainers;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class PreflightCheckCacheTest {
+
+    private static final String KEY = PreflightCheckCache.key("ABCD:EFGH", "17.06.0-ce", "localhost", "alpine:3.5");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void successIsRememberedUntilTtlExpires() {
+        final File file = new File(temporaryFolder.getRoot(), "checks.properties");
+        final Instant checkedAt = Instant.parse("2017-09-01T10:00:00Z");
+
+        new PreflightCheckCache(file, Duration.ofHours(1), Clock.fixed(checkedAt, ZoneOffset.UTC)).recordSuccess(KEY);
+
+        assertTrue("a recent success is remembered by another JVM",
+                new PreflightCheckCache(file, Duration.ofHours(1), Clock.fixed(checkedAt.plusSeconds(60), ZoneOffset.UTC)).isFresh(KEY));
+        assertFalse("an old success has expired",
+                new PreflightCheckCache(file, Duration.ofHours(1), Clock.fixed(checkedAt.plusSeconds(7200), ZoneOffset.UTC)).isFresh(KEY));
+    }
+
+    @Test
+    public void differentDaemonIsNotCached() {
+        final PreflightCheckCache cache = new PreflightCheckCache(new File(temporaryFolder.getRoot(), "checks.properties"), Duration.ofHours(1));
+        cache.recordSuccess(KEY);
+
+        assertFalse("an upgraded daemon is checked again",
+                cache.isFresh(PreflightCheckCache.key("ABCD:EFGH", "17.09.0-ce", "localhost", "alpine:3.5")));
+        assertFalse("another daemon is checked again",
+                cache.isFresh(PreflightCheckCache.key("IJKL:MNOP", "17.06.0-ce", "localhost", "alpine:3.5")));
+    }
+
+    @Test
+    public void invalidatedAndDisabledCacheIsNotFresh() {
+        final File file = new File(temporaryFolder.getRoot(), "checks.properties");
+        final PreflightCheckCache cache = new PreflightCheckCache(file, Duration.ofHours(1));
+        cache.recordSuccess(KEY);
+        cache.invalidate(KEY);
+
+        assertFalse("an invalidated result is not used", cache.isFresh(KEY));
+
+        cache.recordSuccess(KEY);
+        assertFalse("a zero TTL disables the cache", new PreflightCheckCache(file, Duration.ZERO).isFresh(KEY));
+    }
+}
@@ -0,0 +1,61 @@
+package org.testcontainers.containers.exec;
+
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.TestEnvironment;
+
+import java.io.IOException;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.fail;
+
+/**
+ * Runs a {@link ContainerShell} against a real <code>sh</code>, which reads its commands from the exec's stdin.
+ */
+public class ContainerShellContainerTest {
+
+    @ClassRule
+    public static GenericContainer alpine = new GenericContainer("alpine:3.2")
+            .withCommand("top");
+
+    @BeforeClass
+    public static void checkExecSupport() {
+        Assume.assumeTrue(TestEnvironment.dockerExecutionDriverSupportsExec());
+    }
+
+    @Test
+    public void runsCommandsInOneShell() throws Exception {
+        try (ContainerShell shell = new ContainerShell(alpine)) {
+            final Container.ExecResult output = shell.run("printf 'one\\ntwo\\n'; echo warning >&2");
+            assertEquals("stdout is split at the marker", "one\ntwo\n", output.getStdout());
+            assertEquals("stderr is split at the marker", "warning\n", output.getStderr());
+            assertEquals("exit code is reported", 0, (int) output.getExitCode());
+
+            assertEquals("failing exit code is reported", 3, (int) shell.run("sh -c 'exit 3'").getExitCode());
+
+            shell.run("cd /tmp; GREETING=hello");
+            assertEquals("state is kept between commands", "/tmp hello\n", shell.run("echo \"$(pwd) $GREETING\"").getStdout());
+
+            assertEquals("commands do not read the rest of the script", "\n", shell.execute("sh", "-c", "cat; echo").getStdout());
+            assertEquals("each word is quoted", "it's\n", shell.execute("echo", "it's").getStdout());
+        }
+    }
+
+    @Test
+    public void restartsShellAfterExit() throws Exception {
+        try (ContainerShell shell = new ContainerShell(alpine)) {
+            shell.run("GREETING=hello");
+            try {
+                shell.run("exit");
+                fail("an exception should be thrown when the shell exits");
+            } catch (IOException expected) {
+            }
+
+            assertEquals("a new shell is started for the next command", "\n", shell.run("echo \"$GREETING\"").getStdout());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.testcontainers.containers.exec;
+
+import com.google.common.base.Charsets;
+import org.junit.Before;
+import org.junit.Test;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.fail;
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDERR;
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDOUT;
+
+public class ContainerShellTest {
+
+    private static final Pattern SCRIPT_PATTERN = Pattern.compile("\\{ (.*)\n\\}.*?'(__TESTCONTAINERS_\\w+)'", Pattern.DOTALL);
+
+    private Container<?> container;
+
+    @Before
+    public void setUp() {
+        container = mock(Container.class);
+        when(container.execInContainerAsync(any(ExecCommand.class))).thenAnswer(invocation -> {
+            ExecCommand command = (ExecCommand) invocation.getArguments()[0];
+            CompletableFuture<Integer> result = new CompletableFuture<>();
+            Thread shell = new Thread(() -> fakeShell(command, result));
+            shell.setDaemon(true);
+            shell.start();
+            return result;
+        });
+    }
+
+    @Test
+    public void runsManyCommandsInOneExec() throws Exception {
+        try (ContainerShell shell = new ContainerShell(container)) {
+            Container.ExecResult first = shell.run("echo one");
+            Container.ExecResult second = shell.run("false");
+            Container.ExecResult third = shell.execute("echo", "it's");
+
+            assertEquals("output is split at the marker", "ran: echo one\n", first.getStdout());
+            assertEquals("stderr is split at the marker", "warning\n", first.getStderr());
+            assertEquals("exit code is reported", 0, (int) first.getExitCode());
+            assertEquals("failing exit code is reported", 1, (int) second.getExitCode());
+            assertEquals("each word is quoted", "ran: 'echo' 'it'\\''s'\n", third.getStdout());
+        }
+
+        verify(container, times(1)).execInContainerAsync(any(ExecCommand.class));
+    }
+
+    @Test
+    public void reportsShellExit() throws Exception {
+        try (ContainerShell shell = new ContainerShell(container)) {
+            try {
+                shell.run("exit");
+                fail("an exception should be thrown when the shell exits");
+            } catch (IOException expected) {
+            }
+
+            assertEquals("a new shell is started for the next command", "ran: echo again\n", shell.run("echo again").getStdout());
+        }
+
+        verify(container, times(2)).execInContainerAsync(any(ExecCommand.class));
+    }
+
+    @Test
+    public void quotesWords() {
+        assertEquals("plain words are quoted", "'a b'", ContainerShell.quote("a b"));
+        assertEquals("single quotes are escaped", "'it'\\''s'", ContainerShell.quote("it's"));
+    }
+
+    /**
+     * Pretends to be a shell, answering each command written to its input with some output and the end markers.
+     */
+    private static void fakeShell(ExecCommand command, CompletableFuture<Integer> result) {
+        InputStream stdin = command.getStdin();
+        byte[] buffer = new byte[64 * 1024];
+        try {
+            int read;
+            while ((read = stdin.read(buffer)) >= 0) {
+                Matcher matcher = SCRIPT_PATTERN.matcher(new String(buffer, 0, read, Charsets.UTF_8));
+                if (!matcher.find()) {
+                    throw new IllegalStateException("Unexpected input");
+                }
+                String commandLine = matcher.group(1);
+                String marker = matcher.group(2);
+
+                if (commandLine.equals("exit")) {
+                    break;
+                }
+
+                // deliver output in pieces, to check that markers are found across frames
+                command.getStdoutConsumer().accept(frame(STDOUT, "ran: " + commandLine + "\n" + marker.substring(0, 5)));
+                command.getStderrConsumer().accept(frame(STDERR, "warning\n" + marker + "\n"));
+                command.getStdoutConsumer().accept(frame(STDOUT, marker.substring(5) + " " + (commandLine.equals("false") ? 1 : 0) + "\n"));
+            }
+            command.getStdoutConsumer().accept(OutputFrame.END);
+            command.getStderrConsumer().accept(OutputFrame.END);
+            result.complete(0);
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static OutputFrame frame(OutputFrame.OutputType type, String text) {
+        return new OutputFrame(type, text.getBytes(Charsets.UTF_8));
+    }
+}
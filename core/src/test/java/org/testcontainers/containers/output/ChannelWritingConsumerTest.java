@@ -0,0 +1,52 @@
+package org.testcontainers.containers.output;
+
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.concurrent.CompletableFuture;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDERR;
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDOUT;
+
+public class ChannelWritingConsumerTest {
+
+    @Test
+    public void streamsFramesToChannel() throws IOException {
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        callback.addConsumer(STDOUT, new ChannelWritingConsumer(Channels.newChannel(stdout)));
+        callback.addConsumer(STDERR, new ChannelWritingConsumer(Channels.newChannel(stderr)));
+
+        callback.onNext(new Frame(StreamType.STDOUT, "one\n".getBytes()));
+        callback.onNext(new Frame(StreamType.STDERR, "error\n".getBytes()));
+        callback.onNext(new Frame(StreamType.STDOUT, "two\n".getBytes()));
+        callback.close();
+
+        assertEquals("stdout is written to its channel", "one\ntwo\n", stdout.toString("UTF-8"));
+        assertEquals("stderr is written to its channel", "error\n", stderr.toString("UTF-8"));
+    }
+
+    @Test
+    public void completionFutureReportsOutcome() throws IOException {
+        FrameConsumerResultCallback completed = new FrameConsumerResultCallback();
+        CompletableFuture<Void> completedFuture = completed.getCompletionFuture();
+        assertFalse("the future is pending while the stream is open", completedFuture.isDone());
+        completed.close();
+        assertTrue("the future completes normally when the stream closes",
+                completedFuture.isDone() && !completedFuture.isCompletedExceptionally());
+
+        FrameConsumerResultCallback failed = new FrameConsumerResultCallback();
+        failed.onError(new IOException("connection reset"));
+        assertTrue("the future completes exceptionally when the stream fails",
+                failed.getCompletionFuture().isCompletedExceptionally());
+    }
+}
@@ -0,0 +1,88 @@
+package org.testcontainers.containers.output;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDERR;
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDOUT;
+
+public class FileCaptureConsumerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void writesAllOutputToFile() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("container.log");
+
+        try (FileCaptureConsumer consumer = new FileCaptureConsumer(file)) {
+            consumer.accept(frame(STDOUT, "one\n"));
+            consumer.accept(frame(STDERR, "two\n"));
+            consumer.accept(OutputFrame.END);
+        }
+
+        assertEquals("all output is written to the capture file", "one\ntwo\n", read(file));
+    }
+
+    @Test
+    public void rotatesFileWhenLimitIsReached() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("container.log");
+
+        try (FileCaptureConsumer consumer = new FileCaptureConsumer(file, 8, 1024)) {
+            consumer.accept(frame(STDOUT, "one\n"));
+            consumer.accept(frame(STDOUT, "two\n"));
+            consumer.accept(frame(STDOUT, "three\n"));
+
+            assertEquals("older output is moved to the rotated file", "one\ntwo\n", read(consumer.getRotatedFile()));
+        }
+
+        assertEquals("newer output is in the current file", "three\n", read(file));
+    }
+
+    @Test
+    public void keepsBoundedTailInMemory() {
+        Path file = temporaryFolder.getRoot().toPath().resolve("container.log");
+
+        try (FileCaptureConsumer consumer = new FileCaptureConsumer(file, 1024, 8)) {
+            consumer.accept(frame(STDOUT, "one\n"));
+            consumer.accept(frame(STDERR, "two\n"));
+            consumer.accept(frame(STDOUT, "three\n"));
+
+            List<String> tail = consumer.getTail().stream()
+                    .map(it -> it.getType() + ":" + it.getUtf8String())
+                    .collect(Collectors.toList());
+            assertEquals("only the most recent frames are kept, with their types", asList("STDOUT:three\n"), tail);
+        }
+    }
+
+    @Test
+    public void doesNotWriteAfterClose() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("container.log");
+
+        FileCaptureConsumer consumer = new FileCaptureConsumer(file);
+        consumer.accept(frame(STDOUT, "one\n"));
+        consumer.close();
+        consumer.accept(frame(STDOUT, "two\n"));
+
+        assertEquals("output after close is not written", "one\n", read(file));
+        assertFalse("no rotated file is created", Files.exists(consumer.getRotatedFile()));
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), "UTF-8");
+    }
+
+    private static OutputFrame frame(OutputFrame.OutputType type, String text) {
+        return new OutputFrame(type, text.getBytes());
+    }
+}
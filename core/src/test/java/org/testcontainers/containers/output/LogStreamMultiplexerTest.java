@@ -0,0 +1,135 @@
+package org.testcontainers.containers.output;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.LogContainerCmd;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static java.util.Arrays.asList;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDERR;
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDOUT;
+
+public class LogStreamMultiplexerTest {
+
+    private DockerClient dockerClient;
+    private final AtomicReference<FrameConsumerResultCallback> callback = new AtomicReference<>();
+
+    @Before
+    public void setUp() {
+        LogContainerCmd cmd = mock(LogContainerCmd.class);
+        when(cmd.withFollowStream(anyBoolean())).thenReturn(cmd);
+        when(cmd.withSince(anyInt())).thenReturn(cmd);
+        when(cmd.withStdOut(anyBoolean())).thenReturn(cmd);
+        when(cmd.withStdErr(anyBoolean())).thenReturn(cmd);
+        when(cmd.exec(any())).thenAnswer(invocation -> {
+            callback.set((FrameConsumerResultCallback) invocation.getArguments()[0]);
+            return invocation.getArguments()[0];
+        });
+
+        dockerClient = mock(DockerClient.class);
+        when(dockerClient.logContainerCmd("id")).thenReturn(cmd);
+    }
+
+    @Test
+    public void singleStreamIsSharedAndReplayed() {
+        LogStreamMultiplexer multiplexer = new LogStreamMultiplexer(dockerClient, "id");
+
+        List<String> first = new ArrayList<>();
+        multiplexer.attach(collect(first), STDOUT, STDERR);
+        send("one");
+        send("two");
+
+        List<String> second = new ArrayList<>();
+        multiplexer.attach(collect(second), STDOUT, STDERR);
+        send("three");
+
+        verify(dockerClient, times(1)).logContainerCmd("id");
+        assertEquals("first consumer receives all frames", asList("one", "two", "three"), first);
+        assertEquals("late consumer receives replayed and live frames", asList("one", "two", "three"), second);
+    }
+
+    @Test
+    public void attachAtOffsetSkipsEarlierFrames() {
+        LogStreamMultiplexer multiplexer = new LogStreamMultiplexer(dockerClient, "id");
+        multiplexer.attach(frame -> {}, STDOUT);
+        send("one");
+        send("two");
+
+        List<String> received = new ArrayList<>();
+        multiplexer.attach(collect(received), multiplexer.getOffset() - 1, STDOUT);
+        send("three");
+
+        assertEquals("only frames from the requested offset are delivered", asList("two", "three"), received);
+    }
+
+    @Test
+    public void detachedConsumerStopsReceivingFrames() {
+        LogStreamMultiplexer multiplexer = new LogStreamMultiplexer(dockerClient, "id");
+        List<String> received = new ArrayList<>();
+        LogStreamMultiplexer.Subscription subscription = multiplexer.attach(collect(received), STDOUT);
+        send("one");
+        subscription.close();
+        send("two");
+
+        assertEquals("no frames are delivered after detaching", asList("one"), received);
+    }
+
+    @Test
+    public void replayBufferIsBounded() {
+        LogStreamMultiplexer multiplexer = new LogStreamMultiplexer(dockerClient, "id", 6);
+        multiplexer.attach(frame -> {}, STDOUT);
+        send("one");
+        send("two");
+        send("three");
+
+        List<String> received = new ArrayList<>();
+        multiplexer.attach(collect(received), STDOUT);
+
+        assertEquals("frames beyond the buffer limit are discarded", asList("three"), received);
+    }
+
+    @Test
+    public void endIsDeliveredToCurrentAndLateConsumers() {
+        LogStreamMultiplexer multiplexer = new LogStreamMultiplexer(dockerClient, "id");
+        List<OutputFrame> early = new ArrayList<>();
+        multiplexer.attach(early::add, STDOUT);
+        send("one");
+        multiplexer.close();
+
+        List<OutputFrame> late = new ArrayList<>();
+        multiplexer.attach(late::add, STDOUT);
+
+        assertTrue("stream is ended", multiplexer.isEnded());
+        assertEquals("attached consumer receives END", OutputFrame.END, early.get(early.size() - 1));
+        assertEquals("late consumer receives replay then END", 2, late.size());
+        assertEquals("late consumer receives END last", OutputFrame.END, late.get(1));
+    }
+
+    private void send(String line) {
+        callback.get().onNext(new Frame(StreamType.STDOUT, line.getBytes()));
+    }
+
+    private static Consumer<OutputFrame> collect(List<String> lines) {
+        return frame -> {
+            if (frame != OutputFrame.END) {
+                lines.add(frame.getUtf8String());
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package org.testcontainers.containers.output;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertSame;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.fail;
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDOUT;
+
+public class OutputFrameTest {
+
+    @Test
+    public void decodedStringIsCached() {
+        OutputFrame frame = new OutputFrame(STDOUT, "héllo\n".getBytes(StandardCharsets.UTF_8));
+
+        String first = frame.getUtf8String();
+
+        assertEquals("the payload is decoded as UTF-8", "héllo\n", first);
+        assertSame("later calls return the cached value", first, frame.getUtf8String());
+    }
+
+    @Test
+    public void containsMatchesBytesWithoutDecoding() {
+        OutputFrame frame = new OutputFrame(STDOUT, "server STARTED on port 80\n".getBytes());
+
+        assertTrue("a contained sequence is found", frame.contains("STARTED".getBytes()));
+        assertTrue("a sequence at the end is found", frame.contains("80\n".getBytes()));
+        assertFalse("a sequence which is not present is not found", frame.contains("STOPPED".getBytes()));
+        assertFalse("a sequence longer than the payload is not found", frame.contains(new byte[64]));
+        assertFalse("the END frame contains nothing", OutputFrame.END.contains("x".getBytes()));
+    }
+
+    @Test
+    public void byteBufferIsReadOnlyView() {
+        byte[] bytes = "abc".getBytes();
+        OutputFrame frame = new OutputFrame(STDOUT, bytes);
+
+        ByteBuffer buffer = frame.getByteBuffer();
+        assertEquals("the view covers the whole payload", 3, buffer.remaining());
+        assertEquals("the view reads the payload", (byte) 'a', buffer.get(0));
+
+        try {
+            buffer.put(0, (byte) 'z');
+            fail("the view should be read-only");
+        } catch (ReadOnlyBufferException expected) {
+        }
+        assertEquals("the payload is unchanged", (byte) 'a', bytes[0]);
+        assertEquals("the END frame has an empty view", 0, OutputFrame.END.getByteBuffer().remaining());
+    }
+}
@@ -0,0 +1,93 @@
+package org.testcontainers.containers.output;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDERR;
+import static org.testcontainers.containers.output.OutputFrame.OutputType.STDOUT;
+
+public class Slf4jLogConsumerTest {
+
+    private Logger logger;
+
+    @Before
+    public void setUp() {
+        logger = mock(Logger.class);
+        when(logger.getName()).thenReturn("test");
+    }
+
+    @Test
+    public void logsEachLineSeparately() {
+        Slf4jLogConsumer consumer = new Slf4jLogConsumer(logger);
+
+        consumer.accept(frame(STDOUT, "one\ntwo\n"));
+
+        verify(logger).info("{}{}: {}", "", STDOUT, "one");
+        verify(logger).info("{}{}: {}", "", STDOUT, "two");
+    }
+
+    @Test
+    public void joinsPartialLinesAcrossFrames() {
+        Slf4jLogConsumer consumer = new Slf4jLogConsumer(logger).withPrefix("c");
+
+        consumer.accept(frame(STDOUT, "hel"));
+        consumer.accept(frame(STDERR, "error\n"));
+        consumer.accept(frame(STDOUT, "lo\nwor"));
+
+        verify(logger).info("{}{}: {}", "[c] ", STDERR, "error");
+        verify(logger).info("{}{}: {}", "[c] ", STDOUT, "hello");
+        verify(logger, never()).info("{}{}: {}", "[c] ", STDOUT, "wor");
+
+        consumer.accept(OutputFrame.END);
+
+        verify(logger).info("{}{}: {}", "[c] ", STDOUT, "wor");
+    }
+
+    @Test
+    public void asyncModeLogsAllLines() {
+        Slf4jLogConsumer consumer = new Slf4jLogConsumer(logger).withAsync();
+
+        for (int i = 0; i < 1000; i++) {
+            consumer.accept(frame(STDOUT, "line " + i + "\n"));
+        }
+
+        verify(logger, timeout(5_000)).info("{}{}: {}", "", STDOUT, "line 999");
+        verify(logger).info("{}{}: {}", "", STDOUT, "line 0");
+    }
+
+    @Test
+    public void asyncModeDropsFramesWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(logger).info(anyString(), (Object[]) anyVararg());
+
+        Slf4jLogConsumer consumer = new Slf4jLogConsumer(logger).withAsync(1);
+        for (int i = 0; i < 10; i++) {
+            consumer.accept(frame(STDOUT, "line " + i + "\n"));
+        }
+
+        assertTrue("frames are dropped rather than blocking the caller", consumer.getDroppedFrameCount() > 0);
+
+        release.countDown();
+        verify(logger, timeout(5_000)).warn(anyString(), eq(""), eq(consumer.getDroppedFrameCount()));
+    }
+
+    private static OutputFrame frame(OutputFrame.OutputType type, String text) {
+        return new OutputFrame(type, text.getBytes());
+    }
+}
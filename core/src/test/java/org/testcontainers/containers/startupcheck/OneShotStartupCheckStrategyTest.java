@@ -0,0 +1,81 @@
+package org.testcontainers.containers.startupcheck;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.command.WaitContainerCmd;
+import com.github.dockerjava.api.model.WaitResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.function.Consumer;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class OneShotStartupCheckStrategyTest {
+
+    private static final String CONTAINER_ID = "abc123";
+
+    private DockerClient dockerClient;
+    private WaitContainerCmd waitContainerCmd;
+
+    @Before
+    public void setUp() {
+        dockerClient = mock(DockerClient.class, RETURNS_DEEP_STUBS);
+        waitContainerCmd = mock(WaitContainerCmd.class);
+        when(dockerClient.waitContainerCmd(CONTAINER_ID)).thenReturn(waitContainerCmd);
+    }
+
+    @Test
+    public void successfulExit() {
+        respondToWait(callback -> callback.onNext(waitResponse(0)));
+
+        assertTrue("a zero exit code is a successful startup",
+                new IndefiniteWaitOneShotStartupCheckStrategy().waitUntilStartupSuccessful(dockerClient, CONTAINER_ID));
+        verify(dockerClient, never()).inspectContainerCmd(CONTAINER_ID);
+    }
+
+    @Test
+    public void failedExit() {
+        respondToWait(callback -> callback.onNext(waitResponse(1)));
+
+        assertFalse("a non-zero exit code is a failed startup",
+                new OneShotStartupCheckStrategy().waitUntilStartupSuccessful(dockerClient, CONTAINER_ID));
+    }
+
+    @Test
+    public void fallsBackToPollingIfWaitFails() {
+        respondToWait(callback -> callback.onError(new RuntimeException("wait is not supported")));
+
+        final InspectContainerResponse.ContainerState state = dockerClient.inspectContainerCmd(CONTAINER_ID).exec().getState();
+        when(state.getRunning()).thenReturn(false);
+        when(state.getPaused()).thenReturn(false);
+        when(state.getStartedAt()).thenReturn("2017-09-01T10:00:00.000000000Z");
+        when(state.getFinishedAt()).thenReturn("2017-09-01T10:00:05.000000000Z");
+        when(state.getExitCode()).thenReturn(0);
+
+        assertTrue("the container's state is inspected instead",
+                new IndefiniteWaitOneShotStartupCheckStrategy().waitUntilStartupSuccessful(dockerClient, CONTAINER_ID));
+    }
+
+    private void respondToWait(Consumer<ContainerExitResultCallback> response) {
+        when(waitContainerCmd.exec(any(ContainerExitResultCallback.class))).thenAnswer(invocation -> {
+            final ContainerExitResultCallback callback = invocation.getArgumentAt(0, ContainerExitResultCallback.class);
+            // respond asynchronously, like docker-java's I/O threads
+            new Thread(() -> response.accept(callback)).start();
+            return callback;
+        });
+    }
+
+    private static WaitResponse waitResponse(int statusCode) {
+        final WaitResponse waitResponse = mock(WaitResponse.class);
+        when(waitResponse.getStatusCode()).thenReturn(statusCode);
+        return waitResponse;
+    }
+}
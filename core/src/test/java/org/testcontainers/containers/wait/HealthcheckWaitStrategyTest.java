@@ -0,0 +1,128 @@
+package org.testcontainers.containers.wait;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.EventsCmd;
+import com.github.dockerjava.api.command.HealthState;
+import com.github.dockerjava.api.command.InspectContainerCmd;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.core.command.EventsResultCallback;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertThrows;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class HealthcheckWaitStrategyTest {
+
+    @Mock
+    private GenericContainer container;
+    @Mock
+    private DockerClient dockerClient;
+    @Mock
+    private EventsCmd eventsCmd;
+    @Mock
+    private InspectContainerCmd inspectContainerCmd;
+    @Mock
+    private InspectContainerResponse inspectContainerResponse;
+    @Mock
+    private InspectContainerResponse.ContainerState state;
+    @Mock
+    private HealthState health;
+
+    private final AtomicReference<EventsResultCallback> eventsCallback = new AtomicReference<>();
+    private final CountDownLatch subscribed = new CountDownLatch(1);
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+
+        when(container.getDockerClient()).thenReturn(dockerClient);
+        when(container.getContainerId()).thenReturn("abc");
+
+        when(dockerClient.eventsCmd()).thenReturn(eventsCmd);
+        when(eventsCmd.withContainerFilter((String[]) anyVararg())).thenReturn(eventsCmd);
+        when(eventsCmd.exec(any(EventsResultCallback.class))).thenAnswer(invocation -> {
+            EventsResultCallback callback = (EventsResultCallback) invocation.getArguments()[0];
+            eventsCallback.set(callback);
+            subscribed.countDown();
+            return callback;
+        });
+
+        when(dockerClient.inspectContainerCmd("abc")).thenReturn(inspectContainerCmd);
+        when(inspectContainerCmd.exec()).thenReturn(inspectContainerResponse);
+        when(inspectContainerResponse.getState()).thenReturn(state);
+        when(state.getRunning()).thenReturn(true);
+        when(state.getHealth()).thenReturn(health);
+        when(health.getStatus()).thenReturn("starting");
+    }
+
+    @Test
+    public void completesOnHealthyEvent() throws InterruptedException {
+        Thread eventSender = new Thread(() -> {
+            try {
+                subscribed.await();
+                eventsCallback.get().onNext(event("health_status: unhealthy"));
+                eventsCallback.get().onNext(event("health_status: healthy"));
+            } catch (InterruptedException ignored) {
+            }
+        });
+        eventSender.start();
+
+        final long start = System.nanoTime();
+        Wait.forHealthcheck().withStartupTimeout(Duration.ofSeconds(30)).waitUntilReady(container);
+
+        assertTrue("the wait completes on the event, without polling", System.nanoTime() - start < TimeUnit.SECONDS.toNanos(4));
+        eventSender.join();
+    }
+
+    @Test
+    public void completesWhenAlreadyHealthy() {
+        when(health.getStatus()).thenReturn("healthy");
+
+        Wait.forHealthcheck().waitUntilReady(container);
+    }
+
+    @Test
+    public void failsWhenContainerDies() {
+        new Thread(() -> {
+            try {
+                subscribed.await();
+                eventsCallback.get().onNext(event("die"));
+            } catch (InterruptedException ignored) {
+            }
+        }).start();
+
+        assertThrows("a container which exits is reported", ContainerLaunchException.class, () -> {
+            Wait.forHealthcheck().withStartupTimeout(Duration.ofSeconds(30)).waitUntilReady(container);
+        });
+    }
+
+    @Test
+    public void failsWithoutHealthcheck() {
+        when(state.getHealth()).thenReturn(null);
+
+        assertThrows("a container without a HEALTHCHECK is reported", ContainerLaunchException.class, () -> {
+            Wait.forHealthcheck().waitUntilReady(container);
+        });
+    }
+
+    private static Event event(String status) {
+        Event event = mock(Event.class);
+        when(event.getStatus()).thenReturn(status);
+        return event;
+    }
+}
@@ -0,0 +1,103 @@
+package org.testcontainers.containers.wait;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.GenericContainer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertThrows;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class HttpWaitStrategyTest {
+
+    private HttpServer server;
+    private GenericContainer container;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final Set<Integer> clientPorts = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private volatile int readyAfterRequests = 0;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            final boolean ready = requestCount.incrementAndGet() > readyAfterRequests;
+            final byte[] body = (ready ? "status:\nUP\n" : "status:\nSTARTING\n").getBytes();
+            exchange.sendResponseHeaders(ready ? 200 : 503, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        server.start();
+
+        container = mock(GenericContainer.class);
+        when(container.getContainerIpAddress()).thenReturn("127.0.0.1");
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void detectsQuickStartWithoutWaitingASecond() {
+        readyAfterRequests = 3;
+
+        final long start = System.nanoTime();
+        strategy().forResponsePredicate(response -> response.equals("status:UP")).waitUntilReady(container);
+
+        assertTrue("readiness is detected quickly", System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(900));
+        assertEquals("the endpoint was polled until ready", 4, requestCount.get());
+    }
+
+    @Test
+    public void reusesConnection() {
+        readyAfterRequests = 5;
+
+        strategy().waitUntilReady(container);
+
+        assertTrue("connections are kept alive between attempts", clientPorts.size() < requestCount.get());
+    }
+
+    @Test
+    public void timesOut() {
+        readyAfterRequests = Integer.MAX_VALUE;
+
+        assertThrows("a timeout is reported", ContainerLaunchException.class, () -> {
+            strategy().withStartupTimeout(Duration.ofMillis(300)).waitUntilReady(container);
+        });
+    }
+
+    private HttpWaitStrategy strategy() {
+        final int port = server.getAddress().getPort();
+        return new HttpWaitStrategy() {
+            @Override
+            protected Integer getLivenessCheckPort() {
+                return port;
+            }
+
+            @Override
+            protected Logger logger() {
+                return LoggerFactory.getLogger(HttpWaitStrategyTest.class);
+            }
+        }.forPath("/health");
+    }
+}
@@ -0,0 +1,122 @@
+package org.testcontainers.containers.wait;
+
+import org.junit.Test;
+import org.rnorth.ducttape.TimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.fail;
+
+public class ProbeSchedulerTest {
+
+    private final ProbeScheduler scheduler = new ProbeScheduler();
+
+    @Test
+    public void completesWhenProbePasses() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        scheduler.schedule(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("not yet");
+            }
+            return true;
+        }, Duration.ofSeconds(5), Duration.ofMillis(10)).get(5, TimeUnit.SECONDS);
+
+        assertEquals("the probe is retried until it passes", 3, attempts.get());
+    }
+
+    @Test
+    public void completesExceptionallyAtDeadline() throws InterruptedException {
+        final CompletableFuture<Void> future = scheduler.schedule(() -> false, Duration.ofMillis(100), Duration.ofMillis(10));
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("the probe should time out");
+        } catch (ExecutionException e) {
+            assertTrue("a TimeoutException is reported", e.getCause() instanceof TimeoutException);
+        } catch (java.util.concurrent.TimeoutException e) {
+            fail("the deadline should be applied by the scheduler");
+        }
+    }
+
+    @Test
+    public void completesExceptionallyAtDeadlineWhileAttemptIsBlocked() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Void> future = scheduler.schedule(() -> release.await(5, TimeUnit.SECONDS), Duration.ofMillis(100), Duration.ofMillis(10));
+
+        try {
+            future.get(1, TimeUnit.SECONDS);
+            fail("the probe should time out");
+        } catch (ExecutionException e) {
+            assertTrue("a TimeoutException is reported", e.getCause() instanceof TimeoutException);
+        } catch (java.util.concurrent.TimeoutException e) {
+            fail("the deadline should not wait for the blocked attempt");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void cancellationStopsProbe() throws InterruptedException {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final CompletableFuture<Void> future = scheduler.schedule(() -> {
+            attempts.incrementAndGet();
+            return false;
+        }, Duration.ofSeconds(30), Duration.ofMillis(10));
+
+        Thread.sleep(100);
+        future.cancel(false);
+        final int attemptsAtCancellation = attempts.get();
+        Thread.sleep(100);
+
+        assertTrue("no further attempts are made after cancellation", attempts.get() <= attemptsAtCancellation + 1);
+    }
+
+    @Test
+    public void intervalBacksOff() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final CompletableFuture<Void> future = scheduler.schedule(() -> {
+            attempts.incrementAndGet();
+            return false;
+        }, Duration.ofSeconds(30), Duration.ofMillis(10), Duration.ofMillis(80));
+
+        // attempts at roughly 0, 10, 30, 70, 150, 230, 310, 390ms
+        Thread.sleep(400);
+        future.cancel(false);
+
+        assertTrue("fewer attempts are made than with a fixed interval", attempts.get() < 15);
+        assertTrue("attempts continue at the maximum interval", attempts.get() >= 5);
+    }
+
+    @Test
+    public void blockingProbesDoNotDelayOthers() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<CompletableFuture<Void>> blocked = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            blocked.add(scheduler.schedule(() -> release.await(5, TimeUnit.SECONDS), Duration.ofSeconds(30), Duration.ofMillis(10)));
+        }
+
+        try {
+            scheduler.schedule(() -> true, Duration.ofSeconds(5), Duration.ofMillis(10)).get(1, TimeUnit.SECONDS);
+        } catch (java.util.concurrent.TimeoutException e) {
+            fail("a probe should not wait for blocked probes to finish");
+        } finally {
+            release.countDown();
+        }
+
+        for (CompletableFuture<Void> future : blocked) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+    }
+}
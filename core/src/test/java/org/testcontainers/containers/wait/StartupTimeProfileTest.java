@@ -0,0 +1,65 @@
+package org.testcontainers.containers.wait;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertNull;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class StartupTimeProfileTest {
+
+    private static final Duration DENSE = Duration.ofMillis(100);
+    private static final Duration MAX = Duration.ofSeconds(1);
+
+    @Test
+    public void needsEnoughSamples() {
+        assertNull("no profile is built from too few samples", StartupTimeProfile.of(seconds(25, 26)));
+    }
+
+    @Test
+    public void pollsSparselyEarlyAndDenselyNearExpectedTime() {
+        final StartupTimeProfile profile = StartupTimeProfile.of(seconds(25, 26, 24, 25, 27));
+        final ProbeScheduler.PollingSchedule schedule = profile.pollingSchedule(DENSE, MAX);
+
+        final List<Duration> attempts = new ArrayList<>();
+        Duration elapsed = Duration.ZERO;
+        Duration interval = null;
+        while (elapsed.compareTo(Duration.ofSeconds(19)) < 0) {
+            attempts.add(elapsed);
+            interval = schedule.nextInterval(elapsed, interval);
+            elapsed = elapsed.plus(interval);
+        }
+
+        assertEquals("the median is expected", Duration.ofSeconds(25), profile.getExpected());
+        assertTrue("the first interval is long", schedule.nextInterval(Duration.ZERO, null).compareTo(Duration.ofSeconds(5)) >= 0);
+        assertTrue("few attempts are made well before the expected time", attempts.size() < 15);
+        assertEquals("polling is dense around the expected time", DENSE, schedule.nextInterval(Duration.ofSeconds(25), DENSE));
+        assertEquals("polling backs off after the 99th percentile", Duration.ofMillis(200),
+                schedule.nextInterval(Duration.ofSeconds(28), DENSE));
+    }
+
+    @Test
+    public void flagsStartupsSlowerThanP99() {
+        final StartupTimeProfile profile = StartupTimeProfile.of(seconds(3, 3, 4, 3, 5));
+
+        assertEquals("the 99th percentile is the slowest of few samples", Duration.ofSeconds(5), profile.getP99());
+        assertFalse("a usual startup is not flagged", profile.isUnusuallySlow(Duration.ofSeconds(4)));
+        assertTrue("a slow startup is flagged", profile.isUnusuallySlow(Duration.ofSeconds(9)));
+        assertFalse("slow startups are not flagged without enough history",
+                StartupTimeProfile.of(seconds(3, 3, 4)).isUnusuallySlow(Duration.ofSeconds(9)));
+    }
+
+    private static List<Duration> seconds(long... values) {
+        final Duration[] durations = new Duration[values.length];
+        for (int i = 0; i < values.length; i++) {
+            durations[i] = Duration.ofSeconds(values[i]);
+        }
+        return Arrays.asList(durations);
+    }
+}
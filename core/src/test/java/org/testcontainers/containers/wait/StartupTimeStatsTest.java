@@ -0,0 +1,69 @@
+package org.testcontainers.containers.wait;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class StartupTimeStatsTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void persistsDurations() throws IOException {
+        final File file = new File(temporaryFolder.getRoot(), "startup-times.properties");
+
+        final StartupTimeStats stats = new StartupTimeStats(file);
+        for (int i = 1; i <= 3; i++) {
+            stats.record("postgres:9.6/HostPortWaitStrategy", Duration.ofSeconds(i));
+        }
+        assertFalse("durations are kept in memory until flushed", file.exists());
+        stats.flush();
+
+        final StartupTimeStats reloaded = new StartupTimeStats(file);
+        assertTrue("a profile is built from recorded durations", reloaded.getProfile("postgres:9.6/HostPortWaitStrategy").isPresent());
+        assertEquals("the median duration is expected", Duration.ofSeconds(2),
+                reloaded.getProfile("postgres:9.6/HostPortWaitStrategy").get().getExpected());
+        assertFalse("other keys have no profile", reloaded.getProfile("mysql:5.7/HostPortWaitStrategy").isPresent());
+    }
+
+    @Test
+    public void keepsOnlyRecentDurations() {
+        final StartupTimeStats stats = new StartupTimeStats(new File(temporaryFolder.getRoot(), "startup-times.properties"));
+
+        for (int i = 0; i < StartupTimeStats.MAX_SAMPLES; i++) {
+            stats.record("cassandra:3", Duration.ofSeconds(60));
+        }
+        for (int i = 0; i < StartupTimeStats.MAX_SAMPLES; i++) {
+            stats.record("cassandra:3", Duration.ofSeconds(25));
+        }
+
+        final StartupTimeProfile profile = stats.getProfile("cassandra:3").get();
+        assertEquals("only the most recent durations are kept", StartupTimeStats.MAX_SAMPLES, profile.getSampleCount());
+        assertEquals("old durations no longer count", Duration.ofSeconds(25), profile.getP99());
+    }
+
+    @Test
+    public void mergesDurationsFromOtherJvms() {
+        final File file = new File(temporaryFolder.getRoot(), "startup-times.properties");
+        final StartupTimeStats first = new StartupTimeStats(file);
+        final StartupTimeStats second = new StartupTimeStats(file);
+
+        first.record("redis:3", Duration.ofSeconds(1));
+        second.record("redis:3", Duration.ofSeconds(2));
+        second.record("redis:3", Duration.ofSeconds(3));
+        first.flush();
+        second.flush();
+
+        assertEquals("durations recorded by both JVMs are kept", 3,
+                new StartupTimeStats(file).getProfile("redis:3").get().getSampleCount());
+    }
+}
@@ -3,21 +3,23 @@ package org.testcontainers.containers.wait;
 import com.google.common.util.concurrent.Uninterruptibles;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.rnorth.ducttape.TimeoutException;
+import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.GenericContainer;
 
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
 import static org.rnorth.visibleassertions.VisibleAssertions.assertThrows;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
 
 public class WaitAllStrategyTest {
 
@@ -45,9 +47,63 @@ public class WaitAllStrategyTest {
 
         underTest.waitUntilReady(container);
 
-        InOrder inOrder = inOrder(strategy1, strategy2);
-        inOrder.verify(strategy1).waitUntilReady(any());
-        inOrder.verify(strategy2).waitUntilReady(any());
+        verify(strategy1).waitUntilReady(any());
+        verify(strategy2).waitUntilReady(any());
+    }
+
+    @Test
+    public void runsStrategiesConcurrently() {
+
+        final WaitStrategy underTest = new WaitAllStrategy()
+                .withStrategy(strategy1)
+                .withStrategy(strategy2)
+                .withStartupTimeout(Duration.ofSeconds(5));
+
+        // each strategy can only pass once the other one has started
+        final CountDownLatch started = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            started.countDown();
+            started.await();
+            return null;
+        }).when(strategy1).waitUntilReady(eq(container));
+        doAnswer(invocation -> {
+            started.countDown();
+            started.await();
+            return null;
+        }).when(strategy2).waitUntilReady(eq(container));
+
+        underTest.waitUntilReady(container);
+    }
+
+    @Test
+    public void failureCancelsOtherStrategies() throws InterruptedException {
+
+        final WaitStrategy underTest = new WaitAllStrategy()
+                .withStrategy(strategy1)
+                .withStrategy(strategy2)
+                .withStartupTimeout(Duration.ofSeconds(5));
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        }).when(strategy1).waitUntilReady(eq(container));
+        // only fail once the other strategy is running, so that there is something to interrupt
+        doAnswer(invocation -> {
+            started.await();
+            throw new ContainerLaunchException("boom");
+        }).when(strategy2).waitUntilReady(eq(container));
+
+        assertThrows("The failure of one strategy fails the wait", ContainerLaunchException.class, () -> {
+            underTest.waitUntilReady(container);
+        });
+        assertTrue("The other strategy is cancelled", interrupted.await(5, TimeUnit.SECONDS));
     }
 
     @Test
@@ -0,0 +1,114 @@
+package org.testcontainers.containers.wait;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.rnorth.ducttape.TimeoutException;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertThrows;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class WaitAnyStrategyTest {
+
+    @Mock
+    private GenericContainer container;
+    @Mock
+    private WaitStrategy strategy1;
+    @Mock
+    private WaitStrategy strategy2;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @Test
+    public void firstPassingStrategyWins() throws InterruptedException {
+
+        final WaitStrategy underTest = new WaitAnyStrategy()
+                .withStrategy(strategy1)
+                .withStrategy(strategy2)
+                .withStartupTimeout(Duration.ofSeconds(5));
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        }).when(strategy1).waitUntilReady(eq(container));
+        // only pass once the other strategy is running, so that there is something to interrupt
+        doAnswer(invocation -> {
+            started.await();
+            return null;
+        }).when(strategy2).waitUntilReady(eq(container));
+
+        underTest.waitUntilReady(container);
+
+        assertTrue("The losing strategy is cancelled", interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void passesIfAnyStrategyPasses() {
+
+        final WaitStrategy underTest = new WaitAnyStrategy()
+                .withStrategy(strategy1)
+                .withStrategy(strategy2)
+                .withStartupTimeout(Duration.ofSeconds(5));
+
+        doThrow(new ContainerLaunchException("boom")).when(strategy1).waitUntilReady(eq(container));
+        doAnswer(invocation -> {
+            Uninterruptibles.sleepUninterruptibly(50, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(strategy2).waitUntilReady(eq(container));
+
+        underTest.waitUntilReady(container);
+    }
+
+    @Test
+    public void failsIfAllStrategiesFail() {
+
+        final WaitStrategy underTest = new WaitAnyStrategy()
+                .withStrategy(strategy1)
+                .withStrategy(strategy2);
+
+        doThrow(new ContainerLaunchException("boom")).when(strategy1).waitUntilReady(eq(container));
+        doThrow(new IllegalStateException("bang")).when(strategy2).waitUntilReady(eq(container));
+
+        assertThrows("The wait fails when no strategy passes", ContainerLaunchException.class, () -> {
+            underTest.waitUntilReady(container);
+        });
+    }
+
+    @Test
+    public void appliesOuterTimeout() {
+
+        final WaitStrategy underTest = new WaitAnyStrategy()
+                .withStrategy(strategy1)
+                .withStartupTimeout(Duration.ofMillis(10));
+
+        doAnswer(invocation -> {
+            Uninterruptibles.sleepUninterruptibly(20, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(strategy1).waitUntilReady(eq(container));
+
+        assertThrows("The outer strategy timeout applies", TimeoutException.class, () -> {
+            underTest.waitUntilReady(container);
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package org.testcontainers.containers.wait;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertThrows;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class WireProtocolProbeTest {
+
+    private ServerSocket server;
+    private Thread acceptor;
+    private volatile byte[] greeting;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        acceptor = new Thread(() -> {
+            while (!server.isClosed()) {
+                try (Socket socket = server.accept()) {
+                    if (greeting != null) {
+                        final OutputStream out = socket.getOutputStream();
+                        out.write(greeting);
+                        out.flush();
+                    }
+                    // wait for the client to hang up
+                    socket.getInputStream().read();
+                } catch (IOException ignored) {
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+        acceptor.join(1000);
+    }
+
+    @Test
+    public void passesOnExpectedGreeting() throws Exception {
+        greeting = new byte[]{0x0a};
+
+        assertTrue("the probe passes when the server greets as expected", probe(Duration.ofSeconds(1)).isReady());
+    }
+
+    @Test
+    public void failsOnUnexpectedGreeting() throws Exception {
+        greeting = new byte[]{0x01};
+
+        assertFalse("the probe fails when the server greets unexpectedly", probe(Duration.ofSeconds(1)).isReady());
+    }
+
+    @Test
+    public void timesOutOnSilentServer() {
+        greeting = null;
+
+        assertThrows("a read timeout is reported", SocketTimeoutException.class, () -> probe(Duration.ofMillis(200)).isReady());
+    }
+
+    @Test
+    public void failsWhenNothingIsListening() throws Exception {
+        final WireProtocolProbe probe = probe(Duration.ofSeconds(1));
+        server.close();
+
+        assertThrows("a refused connection is reported", ConnectException.class, probe::isReady);
+    }
+
+    private WireProtocolProbe probe(Duration timeout) {
+        return new WireProtocolProbe("127.0.0.1", server.getLocalPort(), timeout) {
+            @Override
+            protected boolean handshake(DataInputStream in, DataOutputStream out) throws IOException {
+                return in.readUnsignedByte() == 0x0a;
+            }
+        };
+    }
+}
@@ -63,6 +63,21 @@ public class ExternalPortListeningCheckTest {
 
     }
 
+    @Test
+    public void reportsAllClosedPorts() {
+
+        final ExternalPortListeningCheck check = new ExternalPortListeningCheck(mockContainer, ImmutableSet.of(listeningSocket1.getLocalPort(), nonListeningSocket.getLocalPort()));
+
+        try {
+            check.call();
+            VisibleAssertions.fail("ExternalPortListeningCheck should detect the non-listening port");
+        } catch (IllegalStateException e) {
+            VisibleAssertions.assertTrue("ExternalPortListeningCheck reports which ports are still closed",
+                    e.getMessage().contains(String.valueOf(nonListeningSocket.getLocalPort())) &&
+                            !e.getMessage().contains(String.valueOf(listeningSocket1.getLocalPort())));
+        }
+    }
+
     @After
     public void tearDown() throws Exception {
         listeningSocket1.close();
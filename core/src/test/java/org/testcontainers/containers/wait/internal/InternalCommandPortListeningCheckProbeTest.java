@@ -0,0 +1,94 @@
+package org.testcontainers.containers.wait.internal;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.testcontainers.containers.Container;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertThrows;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+/**
+ * Checks the probe logic of {@link InternalCommandPortListeningCheck} against canned exec output.
+ */
+public class InternalCommandPortListeningCheckProbeTest {
+
+    private static final String PROC_NET_TCP_OUTPUT = "TESTCONTAINERS_METHOD PROC_NET_TCP\n" +
+            "  sl  local_address rem_address   st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode\n" +
+            "   0: 00000000:0050 00000000:0000 0A 00000000:00000000 00:00000000 00000000     0        0 1 1 0 100 0 0 10 0\n" +
+            "   1: 0100007F:1F91 0100007F:0050 01 00000000:00000000 00:00000000 00000000     0        0 2 1 0 20 4 30 10 -1\n" +
+            "  sl  local_address                         remote_address                        st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode\n" +
+            "   0: 00000000000000000000000000000000:1F90 00000000000000000000000000000000:0000 0A 00000000:00000000 00:00000000 00000000     0        0 3 1 0 100 0 0 10 0\n";
+
+    private Container<?> container;
+
+    @Before
+    public void setUp() {
+        container = mock(Container.class);
+        // a unique image name per test, so that remembered probe methods don't leak between tests
+        when(container.getDockerImageName()).thenReturn("image-" + UUID.randomUUID());
+    }
+
+    @Test
+    public void checksAllPortsFromProcNetTcp() throws Exception {
+        givenExecOutput(PROC_NET_TCP_OUTPUT);
+
+        final InternalCommandPortListeningCheck check = new InternalCommandPortListeningCheck(container, ImmutableSet.of(80, 8080));
+
+        assertTrue("listening ports are found in tcp and tcp6 tables", check.call());
+        verify(container, times(1)).execInContainer((String[]) anyVararg());
+    }
+
+    @Test
+    public void reportsPortsWhichAreNotListening() throws Exception {
+        givenExecOutput(PROC_NET_TCP_OUTPUT);
+
+        // 8081 has a connected, but not listening, socket
+        final InternalCommandPortListeningCheck check = new InternalCommandPortListeningCheck(container, ImmutableSet.of(80, 8081));
+
+        assertThrows("a port which is not listening is detected",
+                IllegalStateException.class,
+                (Runnable) check::call);
+    }
+
+    @Test
+    public void remembersWorkingProbeMethod() throws Exception {
+        givenExecOutput("TESTCONTAINERS_METHOD NETCAT\nTESTCONTAINERS_OPEN 80\n");
+
+        new InternalCommandPortListeningCheck(container, ImmutableSet.of(80)).call();
+        new InternalCommandPortListeningCheck(container, ImmutableSet.of(80)).call();
+
+        final ArgumentCaptor<String> commands = ArgumentCaptor.forClass(String.class);
+        verify(container, times(2)).execInContainer(commands.capture(), commands.capture(), commands.capture());
+        final List<String> scripts = commands.getAllValues();
+
+        assertTrue("the first check tries each probe method", scripts.get(2).contains("/proc/net/tcp") && scripts.get(2).contains("nc -z"));
+        assertFalse("later checks only use the method which worked", scripts.get(5).contains("/proc/net/tcp"));
+        assertTrue("later checks only use the method which worked", scripts.get(5).contains("nc -z"));
+    }
+
+    @Test
+    public void failsWhenNoProbeMethodIsAvailable() throws Exception {
+        givenExecOutput("");
+
+        final InternalCommandPortListeningCheck check = new InternalCommandPortListeningCheck(container, ImmutableSet.of(80));
+
+        assertThrows("a container without any probe method is reported",
+                IllegalStateException.class,
+                (Runnable) check::call);
+    }
+
+    private void givenExecOutput(String stdout) throws Exception {
+        when(container.execInContainer((String[]) anyVararg())).thenReturn(new Container.ExecResult(0, stdout, ""));
+    }
+}
@@ -0,0 +1,181 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.DockerClient;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertSame;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class DockerClientProviderStrategyTest {
+
+    @Test
+    public void candidatesAreTestedConcurrently() {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final FakeStrategy preferred = new FakeStrategy(() -> {
+            bothStarted.countDown();
+            await(bothStarted);
+            throw new InvalidConfigurationException("no daemon");
+        });
+        final FakeStrategy fallback = new FakeStrategy(() -> {
+            bothStarted.countDown();
+            await(bothStarted);
+        });
+
+        final List<String> failures = new ArrayList<>();
+        final Optional<DockerClientProviderStrategy> winner =
+                DockerClientProviderStrategy.race(Arrays.asList(preferred, fallback), failures, Duration.ofSeconds(5));
+
+        assertSame("the strategy which succeeds wins", fallback, winner.orElse(null));
+        assertEquals("the preferred strategy's failure is reported", 1, failures.size());
+        assertTrue("the failure is described", failures.get(0).contains("no daemon"));
+    }
+
+    @Test
+    public void preferredStrategyWinsEvenIfSlower() throws IOException {
+        final FakeStrategy preferred = new FakeStrategy(() -> sleep(200));
+        final FakeStrategy fallback = new FakeStrategy(() -> {
+        });
+
+        final Optional<DockerClientProviderStrategy> winner =
+                DockerClientProviderStrategy.race(Arrays.asList(preferred, fallback), new ArrayList<>(), Duration.ofSeconds(5));
+
+        assertSame("the highest priority strategy which succeeds wins", preferred, winner.orElse(null));
+        verify(fallback.client, timeout(1000)).close();
+        verify(preferred.client, never()).close();
+    }
+
+    @Test
+    public void slowCandidatesTimeOut() {
+        final FakeStrategy hanging = new FakeStrategy(() -> sleep(10_000));
+        final FakeStrategy fallback = new FakeStrategy(() -> {
+        });
+
+        final List<String> failures = new ArrayList<>();
+        final long start = System.nanoTime();
+        final Optional<DockerClientProviderStrategy> winner =
+                DockerClientProviderStrategy.race(Arrays.asList(hanging, fallback), failures, Duration.ofMillis(300));
+
+        assertSame("a working strategy wins", fallback, winner.orElse(null));
+        assertTrue("the hanging strategy is abandoned at its deadline", System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertTrue("the timeout is reported", failures.get(0).contains("timed out"));
+    }
+
+    @Test
+    public void noWinnerIfAllFail() {
+        final FakeStrategy failing = new FakeStrategy(() -> {
+            throw new InvalidConfigurationException("no daemon");
+        });
+
+        assertFalse("there is no winner",
+                DockerClientProviderStrategy.race(Arrays.asList(failing), new ArrayList<>(), Duration.ofSeconds(5)).isPresent());
+    }
+
+    @Test
+    public void unsafeCandidatesAreNotTestedIfASafeCandidateSucceeds() {
+        final AtomicInteger unsafeTests = new AtomicInteger();
+        final FakeStrategy unsafe = new FakeStrategy(unsafeTests::incrementAndGet, false);
+        final FakeStrategy safe = new FakeStrategy(() -> {
+        });
+
+        final Optional<DockerClientProviderStrategy> winner =
+                DockerClientProviderStrategy.findValidStrategy(Arrays.asList(unsafe, safe), new ArrayList<>(), Duration.ofSeconds(5));
+
+        assertSame("the safe strategy wins", safe, winner.orElse(null));
+        assertEquals("the unsafe strategy is not tested", 0, unsafeTests.get());
+    }
+
+    @Test
+    public void unsafeCandidatesAreTestedOneAtATimeIfNoSafeCandidateSucceeds() {
+        final AtomicInteger unsafeTests = new AtomicInteger();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final Runnable unsafeTest = () -> {
+            unsafeTests.incrementAndGet();
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(100);
+            running.decrementAndGet();
+        };
+        final FakeStrategy safe = new FakeStrategy(() -> {
+            throw new InvalidConfigurationException("no daemon");
+        });
+        final FakeStrategy failingUnsafe = new FakeStrategy(() -> {
+            unsafeTest.run();
+            throw new InvalidConfigurationException("no machine");
+        }, false);
+        final FakeStrategy unsafe = new FakeStrategy(unsafeTest, false);
+        final FakeStrategy otherUnsafe = new FakeStrategy(unsafeTest, false);
+
+        final List<String> failures = new ArrayList<>();
+        final Optional<DockerClientProviderStrategy> winner = DockerClientProviderStrategy.findValidStrategy(
+                Arrays.asList(failingUnsafe, safe, unsafe, otherUnsafe), failures, Duration.ofSeconds(5));
+
+        assertSame("the first unsafe strategy which succeeds wins", unsafe, winner.orElse(null));
+        assertEquals("unsafe strategies are tested until one succeeds", 2, unsafeTests.get());
+        assertEquals("unsafe strategies are tested one at a time", 1, maxRunning.get());
+        assertEquals("the failures of all tested strategies are reported", 2, failures.size());
+    }
+
+    private static class FakeStrategy extends DockerClientProviderStrategy {
+        private final Runnable test;
+        private final boolean safeToTestConcurrently;
+
+        FakeStrategy(Runnable test) {
+            this(test, true);
+        }
+
+        FakeStrategy(Runnable test, boolean safeToTestConcurrently) {
+            this.test = test;
+            this.safeToTestConcurrently = safeToTestConcurrently;
+            this.client = mock(DockerClient.class);
+        }
+
+        @Override
+        protected boolean isSafeToTestConcurrently() {
+            return safeToTestConcurrently;
+        }
+
+        @Override
+        public void test() throws InvalidConfigurationException {
+            test.run();
+        }
+
+        @Override
+        public String getDescription() {
+            return "fake";
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new InvalidConfigurationException("not tested concurrently");
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.CreateContainerCmd;
+import com.github.dockerjava.api.command.CreateContainerResponse;
+import com.github.dockerjava.api.command.DockerCmdExecFactory;
+import com.github.dockerjava.api.command.InspectContainerCmd;
+import com.github.dockerjava.api.command.LogContainerCmd;
+import com.github.dockerjava.api.command.PullImageCmd;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.PullResponseItem;
+import org.junit.Test;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertSame;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class InterceptingDockerCmdExecFactoryTest {
+
+    private final DockerCmdExecFactory delegate = mock(DockerCmdExecFactory.class);
+    private final DockerCommandMetrics metrics = new DockerCommandMetrics(Collections.emptyList());
+
+    @Test
+    public void concurrentCommandsAreLimited() throws Exception {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        when(delegate.createCreateContainerCmdExec()).thenReturn(command -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(50);
+            inFlight.decrementAndGet();
+            return new CreateContainerResponse();
+        });
+        final DockerApiBulkhead bulkhead = new DockerApiBulkhead(commandClass -> commandClass == DockerCommandClass.CREATE ? 2 : 0);
+        final DockerCmdExecFactory factory = new InterceptingDockerCmdExecFactory(delegate, Arrays.asList(bulkhead, metrics));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(executor.submit(() -> factory.createCreateContainerCmdExec().exec(mock(CreateContainerCmd.class))));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue("no more than the limit are in flight at once", maxInFlight.get() <= 2);
+        assertEquals("all commands are counted", 6L, metrics.getStats("CreateContainerCmd").getCount());
+    }
+
+    @Test
+    public void latencyAndErrorsAreRecorded() {
+        final AtomicInteger calls = new AtomicInteger();
+        when(delegate.createInspectContainerCmdExec()).thenReturn(command -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("daemon error");
+            }
+            sleep(30);
+            return null;
+        });
+        final DockerCmdExecFactory factory = new InterceptingDockerCmdExecFactory(delegate, Arrays.asList(metrics));
+
+        factory.createInspectContainerCmdExec().exec(mock(InspectContainerCmd.class));
+        try {
+            factory.createInspectContainerCmdExec().exec(mock(InspectContainerCmd.class));
+        } catch (IllegalStateException expected) {
+        }
+
+        final DockerCommandMetrics.CommandStats stats = metrics.getStats("InspectContainerCmd");
+        assertEquals("one response is recorded", 1L, stats.getCount());
+        assertEquals("one error is recorded", 1L, stats.getErrorCount());
+        assertTrue("latency is recorded", stats.getLatencyPercentile(0.5).toMillis() >= 30);
+    }
+
+    @Test
+    public void pullsHoldTheirSlotUntilComplete() {
+        final AtomicReference<ResultCallback<PullResponseItem>> pullCallback = new AtomicReference<>();
+        when(delegate.createPullImageCmdExec()).thenReturn((command, callback) -> {
+            pullCallback.set(callback);
+            return null;
+        });
+        final DockerApiBulkhead bulkhead = new DockerApiBulkhead(it -> 1);
+        final DockerCmdExecFactory factory = new InterceptingDockerCmdExecFactory(delegate, Arrays.asList(bulkhead, metrics));
+
+        factory.createPullImageCmdExec().exec(mock(PullImageCmd.class), mock(ResultCallback.class));
+        pullCallback.get().onStart(mock(Closeable.class));
+        assertEquals("the slot is held while pulling", 0, bulkhead.availablePermits(DockerCommandClass.PULL));
+
+        pullCallback.get().onComplete();
+        pullCallback.get().onComplete();
+        assertEquals("the slot is released once when the pull completes", 1, bulkhead.availablePermits(DockerCommandClass.PULL));
+        assertEquals("the response is recorded once", 1L, metrics.getStats("PullImageCmd").getCount());
+    }
+
+    @Test
+    public void logStreamsReleaseTheirSlotWhenStarted() {
+        final AtomicReference<ResultCallback<Frame>> logCallback = new AtomicReference<>();
+        when(delegate.createLogContainerCmdExec()).thenReturn((command, callback) -> {
+            logCallback.set(callback);
+            return null;
+        });
+        final DockerApiBulkhead bulkhead = new DockerApiBulkhead(it -> 1);
+        final DockerCmdExecFactory factory = new InterceptingDockerCmdExecFactory(delegate, Arrays.asList(bulkhead, metrics));
+
+        factory.createLogContainerCmdExec().exec(mock(LogContainerCmd.class), mock(ResultCallback.class));
+        assertEquals("the slot is held until the daemon responds", 0, bulkhead.availablePermits(DockerCommandClass.LOG));
+
+        logCallback.get().onStart(mock(Closeable.class));
+        assertEquals("the slot is released once the stream starts", 1, bulkhead.availablePermits(DockerCommandClass.LOG));
+    }
+
+    @Test
+    public void overallLimitAppliesAcrossCommandClasses() {
+        final AtomicReference<ResultCallback<PullResponseItem>> pullCallback = new AtomicReference<>();
+        when(delegate.createPullImageCmdExec()).thenReturn((command, callback) -> {
+            pullCallback.set(callback);
+            return null;
+        });
+        when(delegate.createLogContainerCmdExec()).thenReturn((command, callback) -> null);
+        final DockerApiBulkhead bulkhead = new DockerApiBulkhead(it -> 0, 2);
+        final DockerCmdExecFactory factory = new InterceptingDockerCmdExecFactory(delegate, Arrays.asList(bulkhead));
+
+        factory.createPullImageCmdExec().exec(mock(PullImageCmd.class), mock(ResultCallback.class));
+        factory.createLogContainerCmdExec().exec(mock(LogContainerCmd.class), mock(ResultCallback.class));
+        assertEquals("commands of different classes share the overall limit", 0, bulkhead.availableTotalPermits());
+
+        pullCallback.get().onComplete();
+        assertEquals("completing a command frees an overall slot", 1, bulkhead.availableTotalPermits());
+    }
+
+    @Test
+    public void commandsWhichFailToSendReleaseTheirSlot() {
+        when(delegate.createPullImageCmdExec()).thenReturn((command, callback) -> {
+            throw new IllegalStateException("no connection");
+        });
+        final DockerApiBulkhead bulkhead = new DockerApiBulkhead(it -> 1);
+        final DockerCmdExecFactory factory = new InterceptingDockerCmdExecFactory(delegate, Arrays.asList(bulkhead, metrics));
+
+        try {
+            factory.createPullImageCmdExec().exec(mock(PullImageCmd.class), mock(ResultCallback.class));
+        } catch (IllegalStateException expected) {
+        }
+
+        assertEquals("the slot is released", 1, bulkhead.availablePermits(DockerCommandClass.PULL));
+        assertEquals("the error is recorded", 1L, metrics.getStats("PullImageCmd").getErrorCount());
+    }
+
+    @Test
+    public void factoryIsNotWrappedWithoutInterceptors() {
+        assertSame("the factory is used directly", delegate, InterceptingDockerCmdExecFactory.wrap(delegate, Collections.emptyList()));
+    }
+
+    @Test
+    public void uninterestedInterceptorsAddNoCallbackWrapper() {
+        final ResultCallback<Frame> callback = mock(ResultCallback.class);
+        final AtomicReference<ResultCallback<Frame>> logCallback = new AtomicReference<>();
+        when(delegate.createLogContainerCmdExec()).thenReturn((command, resultCallback) -> {
+            logCallback.set(resultCallback);
+            return null;
+        });
+        final DockerCmdExecFactory factory = new InterceptingDockerCmdExecFactory(delegate,
+                Arrays.asList((commandType, command) -> null));
+
+        factory.createLogContainerCmdExec().exec(mock(LogContainerCmd.class), callback);
+
+        assertSame("the caller's callback is passed through", callback, logCallback.get());
+    }
+
+    @Test
+    public void observationsAreNotifiedInReverseOrder() {
+        final List<String> events = new ArrayList<>();
+        when(delegate.createInspectContainerCmdExec()).thenReturn(command -> null);
+        final DockerCmdExecFactory factory = new InterceptingDockerCmdExecFactory(delegate,
+                Arrays.asList(recordingInterceptor("first", events), recordingInterceptor("second", events)));
+
+        factory.createInspectContainerCmdExec().exec(mock(InspectContainerCmd.class));
+
+        assertEquals("interceptors are called in order and observations in reverse order",
+                Arrays.asList("first InspectContainerCmd", "second InspectContainerCmd",
+                        "second response", "first response", "second complete", "first complete"),
+                events);
+    }
+
+    private static DockerCommandInterceptor recordingInterceptor(String name, List<String> events) {
+        return (commandType, command) -> {
+            events.add(name + " " + commandType);
+            return new DockerCommandInterceptor.Observation() {
+                @Override
+                public void onResponse(Object response) {
+                    events.add(name + " response");
+                }
+
+                @Override
+                public void onComplete() {
+                    events.add(name + " complete");
+                }
+            };
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InfoCmd;
+import com.github.dockerjava.api.model.Info;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertSame;
+
+public class PlacementPolicyTest {
+
+    private final DockerDaemon primary = daemon("primary", 5);
+    private final DockerDaemon secondary = daemon("secondary", 1);
+    private final List<DockerDaemon> daemons = Arrays.asList(primary, secondary);
+
+    @Test
+    public void leastLoadedSpreadsContainers() {
+        final PlacementPolicy policy = PlacementPolicy.leastLoaded();
+
+        for (int i = 0; i < 4; i++) {
+            policy.place(daemons, null).containerPlaced();
+        }
+
+        assertEquals("containers are spread evenly", 2, primary.getPlacedContainerCount());
+        assertEquals("containers are spread evenly", 2, secondary.getPlacedContainerCount());
+    }
+
+    @Test
+    public void fewestRunningContainersAsksTheDaemons() {
+        assertSame("the daemon with fewer running containers is chosen",
+                secondary, PlacementPolicy.fewestRunningContainers().place(daemons, null));
+    }
+
+    @Test
+    public void stickyPlacesATestClassOnOneDaemon() {
+        final PlacementPolicy policy = PlacementPolicy.stickyPerTestClass();
+
+        final DockerDaemon first = policy.place(daemons, "com.example.OrderServiceTest");
+        for (int i = 0; i < 5; i++) {
+            first.containerPlaced();
+            assertSame("the test class's containers stay together", first, policy.place(daemons, "com.example.OrderServiceTest"));
+        }
+    }
+
+    @Test
+    public void policiesAreNamed() {
+        primary.containerPlaced();
+        assertSame("least-loaded is available by name", secondary, PlacementPolicy.forName("least-loaded").place(daemons, null));
+        assertSame("running-containers is available by name", secondary, PlacementPolicy.forName("running-containers").place(daemons, null));
+    }
+
+    private static DockerDaemon daemon(String name, int runningContainers) {
+        final InfoCmd infoCmd = mock(InfoCmd.class);
+        when(infoCmd.exec()).thenReturn(new Info().withContainersRunning(runningContainers));
+        final DockerClient client = mock(DockerClient.class);
+        when(client.infoCmd()).thenReturn(infoCmd);
+        return new DockerDaemon(name, mock(DockerClientProviderStrategy.class), client, false);
+    }
+}
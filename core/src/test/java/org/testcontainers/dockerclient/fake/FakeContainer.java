@@ -0,0 +1,258 @@
+package org.testcontainers.dockerclient.fake;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * A container of a {@link FakeDockerEngine}. Nothing runs in it: it is running from when it is started until it is
+ * stopped or killed, and each of its exposed ports is a socket on the loopback interface which accepts connections.
+ */
+@Slf4j
+public class FakeContainer {
+
+    private static final String NEVER = "0001-01-01T00:00:00Z";
+
+    @Getter
+    private final String id;
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final FakeImage image;
+
+    @Getter
+    private final String ipAddress;
+
+    private final Map<String, Object> config;
+    private final Map<String, Object> hostConfig;
+    private final Instant created = Instant.now();
+    private final Map<String, Integer> hostPorts = new LinkedHashMap<>();
+    private final List<ServerSocket> listeners = new ArrayList<>();
+
+    private boolean running;
+    private int exitCode;
+    private String startedAt = NEVER;
+    private String finishedAt = NEVER;
+
+    @SuppressWarnings("unchecked")
+    FakeContainer(String id, String name, FakeImage image, String ipAddress, Map<String, Object> config) {
+        this.id = id;
+        this.name = name;
+        this.image = image;
+        this.ipAddress = ipAddress;
+        this.config = config;
+        this.hostConfig = config.containsKey("HostConfig") ? (Map<String, Object>) config.get("HostConfig") : Collections.emptyMap();
+    }
+
+    /**
+     * @return the exposed ports, e.g. <code>80/tcp</code>
+     */
+    @SuppressWarnings("unchecked")
+    public Set<String> getExposedPorts() {
+        final Set<String> ports = new LinkedHashSet<>();
+        if (config.get("ExposedPorts") instanceof Map) {
+            ports.addAll(((Map<String, Object>) config.get("ExposedPorts")).keySet());
+        }
+        if (hostConfig.get("PortBindings") instanceof Map) {
+            ports.addAll(((Map<String, Object>) hostConfig.get("PortBindings")).keySet());
+        }
+        return ports;
+    }
+
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    boolean isTty() {
+        return Boolean.TRUE.equals(config.get("Tty"));
+    }
+
+    @SuppressWarnings("unchecked")
+    Map<String, String> getLabels() {
+        return config.get("Labels") instanceof Map ? (Map<String, String>) config.get("Labels") : Collections.emptyMap();
+    }
+
+    /**
+     * @return false if the container was already running
+     */
+    synchronized boolean start(Executor executor) throws IOException {
+        if (running) {
+            return false;
+        }
+
+        try {
+            for (String port : getExposedPorts()) {
+                final ServerSocket listener = new ServerSocket(fixedHostPort(port), 50, InetAddress.getLoopbackAddress());
+                listeners.add(listener);
+                hostPorts.put(port, listener.getLocalPort());
+                executor.execute(() -> accept(listener));
+            }
+        } catch (IOException e) {
+            closeListeners();
+            throw e;
+        }
+
+        running = true;
+        startedAt = Instant.now().toString();
+        finishedAt = NEVER;
+        return true;
+    }
+
+    /**
+     * @return false if the container was not running
+     */
+    synchronized boolean stop(int exitCode) {
+        if (!running) {
+            return false;
+        }
+
+        closeListeners();
+        running = false;
+        this.exitCode = exitCode;
+        finishedAt = Instant.now().toString();
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * @return the exit code, once the container is no longer running
+     */
+    synchronized int awaitStop() throws InterruptedException {
+        while (running) {
+            wait();
+        }
+        return exitCode;
+    }
+
+    synchronized Map<String, Object> inspect() {
+        final Map<String, Object> state = new LinkedHashMap<>();
+        state.put("Status", running ? "running" : NEVER.equals(startedAt) ? "created" : "exited");
+        state.put("Running", running);
+        state.put("Paused", false);
+        state.put("Restarting", false);
+        state.put("OOMKilled", false);
+        state.put("Dead", false);
+        state.put("Pid", running ? 4242 : 0);
+        state.put("ExitCode", exitCode);
+        state.put("Error", "");
+        state.put("StartedAt", startedAt);
+        state.put("FinishedAt", finishedAt);
+
+        final Map<String, Object> containerConfig = new LinkedHashMap<>();
+        for (String key : new String[]{"Hostname", "User", "Tty", "Env", "Cmd", "Entrypoint", "WorkingDir", "Labels", "ExposedPorts"}) {
+            if (config.containsKey(key)) {
+                containerConfig.put(key, config.get(key));
+            }
+        }
+        containerConfig.put("Image", image.getName());
+
+        final Map<String, Object> ports = new LinkedHashMap<>();
+        for (String port : getExposedPorts()) {
+            final Integer hostPort = hostPorts.get(port);
+            if (running && hostPort != null) {
+                final Map<String, Object> binding = new LinkedHashMap<>();
+                binding.put("HostIp", "0.0.0.0");
+                binding.put("HostPort", String.valueOf(hostPort));
+                ports.put(port, Collections.singletonList(binding));
+            } else {
+                ports.put(port, null);
+            }
+        }
+
+        final Map<String, Object> bridge = new LinkedHashMap<>();
+        bridge.put("IPAddress", ipAddress);
+        bridge.put("Gateway", "172.17.0.1");
+        bridge.put("IPPrefixLen", 16);
+
+        final Map<String, Object> networkSettings = new LinkedHashMap<>();
+        networkSettings.put("Ports", ports);
+        networkSettings.put("IPAddress", running ? ipAddress : "");
+        networkSettings.put("Gateway", "172.17.0.1");
+        networkSettings.put("Networks", Collections.singletonMap("bridge", bridge));
+
+        final Map<String, Object> inspection = new LinkedHashMap<>();
+        inspection.put("Id", id);
+        inspection.put("Created", created.toString());
+        inspection.put("Name", "/" + name);
+        inspection.put("Image", image.getId());
+        inspection.put("State", state);
+        inspection.put("Config", containerConfig);
+        inspection.put("HostConfig", hostConfig);
+        inspection.put("NetworkSettings", networkSettings);
+        inspection.put("Mounts", Collections.emptyList());
+        return inspection;
+    }
+
+    synchronized Map<String, Object> summary() {
+        final Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("Id", id);
+        summary.put("Names", Collections.singletonList("/" + name));
+        summary.put("Image", image.getName());
+        summary.put("ImageID", image.getId());
+        summary.put("Created", created.getEpochSecond());
+        summary.put("State", running ? "running" : "exited");
+        summary.put("Status", running ? "Up" : "Exited (" + exitCode + ")");
+        summary.put("Labels", getLabels());
+        return summary;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int fixedHostPort(String port) {
+        if (!(hostConfig.get("PortBindings") instanceof Map)) {
+            return 0;
+        }
+
+        final Object bindings = ((Map<String, Object>) hostConfig.get("PortBindings")).get(port);
+        if (bindings instanceof List && !((List<?>) bindings).isEmpty()) {
+            final Object hostPort = ((Map<String, Object>) ((List<?>) bindings).get(0)).get("HostPort");
+            if (hostPort != null && !hostPort.toString().isEmpty()) {
+                return Integer.parseInt(hostPort.toString());
+            }
+        }
+        return 0;
+    }
+
+    private void accept(ServerSocket listener) {
+        while (!listener.isClosed()) {
+            try (Socket socket = listener.accept()) {
+                final String response = image.getPortResponse();
+                if (response != null) {
+                    final OutputStream out = socket.getOutputStream();
+                    out.write(response.getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                }
+            } catch (IOException e) {
+                log.trace("Fake container {} stopped accepting connections on {}", name, listener.getLocalPort(), e);
+            }
+        }
+    }
+
+    private void closeListeners() {
+        for (ServerSocket listener : listeners) {
+            try {
+                listener.close();
+            } catch (IOException e) {
+                log.trace("Could not close port of fake container {}", name, e);
+            }
+        }
+        listeners.clear();
+        hostPorts.clear();
+    }
+}
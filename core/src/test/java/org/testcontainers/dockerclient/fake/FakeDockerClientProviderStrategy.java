@@ -0,0 +1,118 @@
+package org.testcontainers.dockerclient.fake;
+
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.testcontainers.dockerclient.DockerClientProviderStrategy;
+import org.testcontainers.dockerclient.InvalidConfigurationException;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Connects to a {@link FakeDockerEngine}.
+ * <p>
+ * Construct it with an engine to use that engine directly, e.g. with
+ * {@link org.testcontainers.DockerClientFactory#addDaemon(DockerClientProviderStrategy)}. Alternatively, when the
+ * <code>testcontainers.docker.fake</code> system property is <code>true</code>, the usual discovery of the Docker
+ * environment prefers this strategy to all others, and connects to an engine shared by the JVM. The latencies of the
+ * shared engine are set with the <code>testcontainers.docker.fake.latency</code> system property: a number of
+ * milliseconds for all operations, and/or {@link FakeDockerEngine.Operation} names with a number of milliseconds, e.g.
+ * <code>10,START=200,PULL=1000</code>.
+ * <p>
+ * The fake engine is never recorded as the strategy to try first in the global configuration.
+ */
+public class FakeDockerClientProviderStrategy extends DockerClientProviderStrategy {
+
+    public static final String ENABLED_PROPERTY = "testcontainers.docker.fake";
+    public static final String LATENCY_PROPERTY = "testcontainers.docker.fake.latency";
+
+    @Getter(lazy = true)
+    private static final FakeDockerEngine sharedEngine = startSharedEngine();
+
+    private FakeDockerEngine engine;
+
+    /**
+     * Connect to the engine shared by the JVM, if the <code>testcontainers.docker.fake</code> system property is set.
+     */
+    public FakeDockerClientProviderStrategy() {
+    }
+
+    public FakeDockerClientProviderStrategy(FakeDockerEngine engine) {
+        this.engine = engine;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    @Override
+    public void test() throws InvalidConfigurationException {
+        if (engine == null) {
+            if (!isEnabled()) {
+                throw new InvalidConfigurationException("the " + ENABLED_PROPERTY + " system property is not set");
+            }
+            engine = getSharedEngine();
+        }
+
+        try {
+            config = DefaultDockerClientConfig.createDefaultConfigBuilder()
+                    .withDockerHost(engine.getDockerHost())
+                    .withDockerTlsVerify(false)
+                    .build();
+            client = getClientForConfig(config);
+            ping(client, 5);
+        } catch (Exception e) {
+            throw new InvalidConfigurationException("ping failed", e);
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return "fake Docker engine" + (engine != null ? " at " + engine.getDockerHost() : "");
+    }
+
+    @Override
+    public String getDockerHostIpAddress() {
+        return InetAddress.getLoopbackAddress().getHostAddress();
+    }
+
+    @Override
+    protected boolean isApplicable() {
+        return isEnabled();
+    }
+
+    @Override
+    protected int getPriority() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public boolean isPersistable() {
+        return false;
+    }
+
+    @SneakyThrows
+    private static FakeDockerEngine startSharedEngine() {
+        final FakeDockerEngine engine = new FakeDockerEngine();
+
+        for (String latency : System.getProperty(LATENCY_PROPERTY, "").split(",")) {
+            final String[] operationAndMillis = latency.trim().split("=");
+            if (operationAndMillis.length == 2) {
+                final FakeDockerEngine.Operation operation = FakeDockerEngine.Operation.valueOf(operationAndMillis[0].trim().toUpperCase(Locale.ROOT));
+                engine.withLatency(operation, Duration.ofMillis(Long.parseLong(operationAndMillis[1].trim())));
+            } else if (!operationAndMillis[0].isEmpty()) {
+                engine.withLatency(Duration.ofMillis(Long.parseLong(operationAndMillis[0])));
+            }
+        }
+
+        // answers the exposed port check of DockerClientFactory's checks of the Docker environment
+        engine.image(TestcontainersConfiguration.getInstance().getTinyImage()).withPortResponse("hello");
+
+        final Thread shutdownHook = new Thread(engine::close, "fake-docker-engine-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        return engine.start();
+    }
+}
@@ -0,0 +1,772 @@
+package org.testcontainers.dockerclient.fake;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.containers.Container.ExecResult;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * An in-process fake of the Docker Engine API, served over TCP on the loopback interface. It implements enough of the
+ * API for the container lifecycle as used by Testcontainers: images, containers, their logs, exec, networks and
+ * events. Containers do not run anything; see {@link FakeContainer}.
+ * <p>
+ * Each operation can be given a latency, so that the engine can stand in for a real daemon when benchmarking or
+ * regression testing code which talks to Docker, without the variance of a real daemon. Use it with
+ * {@link FakeDockerClientProviderStrategy}.
+ */
+@Slf4j
+public class FakeDockerEngine implements AutoCloseable {
+
+    /**
+     * The operations of the fake engine, which latencies can be configured for.
+     */
+    public enum Operation {
+        PING, VERSION, INFO,
+        LIST_IMAGES, INSPECT_IMAGE, PULL,
+        LIST_CONTAINERS, CREATE, START, INSPECT, LOGS, WAIT, STOP, KILL, REMOVE, ARCHIVE,
+        EXEC_CREATE, EXEC_START, EXEC_INSPECT,
+        LIST_NETWORKS, CREATE_NETWORK, REMOVE_NETWORK,
+        EVENTS,
+        UNSUPPORTED
+    }
+
+    /**
+     * Produces the result of a command executed in a container.
+     */
+    @FunctionalInterface
+    public interface ExecHandler {
+        ExecResult exec(FakeContainer container, List<String> command);
+    }
+
+    private static final String PORT_CHECK_METHOD_MARKER = "TESTCONTAINERS_METHOD";
+
+    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("fake-docker-engine-%d")
+            .setDaemon(true)
+            .build());
+
+    private final Map<Operation, Duration> latencies = new ConcurrentHashMap<>();
+    private final Map<Operation, AtomicInteger> requestCounts = new EnumMap<>(Operation.class);
+    private final Map<String, FakeImage> images = new ConcurrentHashMap<>();
+    private final Map<String, FakeContainer> containers = new ConcurrentHashMap<>();
+    private final Map<String, Exec> execs = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> networks = new ConcurrentHashMap<>();
+    private final List<Map<String, Object>> events = new CopyOnWriteArrayList<>();
+    private final AtomicInteger ipAddresses = new AtomicInteger(1);
+
+    private volatile Duration defaultLatency = Duration.ZERO;
+    private volatile ExecHandler execHandler = FakeDockerEngine::defaultExec;
+    private volatile ServerSocket serverSocket;
+
+    public FakeDockerEngine() {
+        for (Operation operation : Operation.values()) {
+            requestCounts.put(operation, new AtomicInteger());
+        }
+    }
+
+    /**
+     * Start serving the API on a free port.
+     *
+     * @return this
+     */
+    public FakeDockerEngine start() throws IOException {
+        serverSocket = new ServerSocket(0, 200, InetAddress.getLoopbackAddress());
+        executor.execute(this::acceptConnections);
+        log.debug("Fake Docker engine listening at {}", getDockerHost());
+        return this;
+    }
+
+    /**
+     * @return the address for a Docker client, e.g. <code>tcp://127.0.0.1:34567</code>
+     */
+    public String getDockerHost() {
+        return "tcp://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + serverSocket.getLocalPort();
+    }
+
+    /**
+     * @param latency the time taken by every operation without a latency of its own
+     * @return this
+     */
+    public FakeDockerEngine withLatency(Duration latency) {
+        this.defaultLatency = latency;
+        return this;
+    }
+
+    /**
+     * @param operation an operation
+     * @param latency   the time taken by each request for the operation, before it is handled
+     * @return this
+     */
+    public FakeDockerEngine withLatency(Operation operation, Duration latency) {
+        latencies.put(operation, latency);
+        return this;
+    }
+
+    /**
+     * @param execHandler produces the results of commands executed in containers. By default, commands succeed
+     *                    without output, except that checks for listening ports find all exposed ports listening.
+     * @return this
+     */
+    public FakeDockerEngine withExecHandler(ExecHandler execHandler) {
+        this.execHandler = execHandler;
+        return this;
+    }
+
+    /**
+     * Make an image available without pulling it, e.g. to configure how its containers behave. Images which are not
+     * available are pulled successfully on request.
+     *
+     * @param name the image name, e.g. <code>redis:3.0.2</code>
+     * @return the image
+     */
+    public FakeImage image(String name) {
+        return images.computeIfAbsent(normalizeImageName(name), FakeImage::new);
+    }
+
+    /**
+     * @return the containers which have been created and not removed
+     */
+    public Collection<FakeContainer> getContainers() {
+        return Collections.unmodifiableCollection(containers.values());
+    }
+
+    /**
+     * @return the networks which have been created and not removed, by name
+     */
+    public Set<String> getNetworkNames() {
+        return networks.values().stream().map(network -> (String) network.get("Name")).collect(Collectors.toSet());
+    }
+
+    /**
+     * @return how many requests there have been for the operation
+     */
+    public int getRequestCount(Operation operation) {
+        return requestCounts.get(operation).get();
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            log.debug("Could not close fake Docker engine socket", e);
+        }
+        containers.values().forEach(container -> container.stop(137));
+        synchronized (events) {
+            events.notifyAll();
+        }
+        executor.shutdownNow();
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                log.trace("Fake Docker engine stopped accepting connections", e);
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket ignored = socket) {
+            final FakeHttpExchange exchange = FakeHttpExchange.read(socket.getInputStream(), socket.getOutputStream());
+            if (exchange == null) {
+                return;
+            }
+
+            try {
+                handle(exchange);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("Fake Docker engine failed to handle {} {}", exchange.getMethod(), exchange.getPath(), e);
+                exchange.sendError(500, String.valueOf(e.getMessage()));
+            }
+        } catch (IOException e) {
+            log.trace("Fake Docker engine connection failed", e);
+        }
+    }
+
+    private void handle(FakeHttpExchange exchange) throws IOException, InterruptedException {
+        // clients configured with an API version prefix the path with it, e.g. /v1.30/containers/json
+        final String path = exchange.getPath().replaceFirst("^/v[0-9.]+/", "/");
+        final String method = exchange.getMethod();
+        final String[] segments = path.substring(1).split("/");
+
+        if (path.equals("/_ping")) {
+            await(Operation.PING);
+            exchange.send(200, "text/plain", "OK".getBytes(StandardCharsets.US_ASCII));
+        } else if (path.equals("/version")) {
+            await(Operation.VERSION);
+            exchange.sendJson(200, version());
+        } else if (path.equals("/info")) {
+            await(Operation.INFO);
+            exchange.sendJson(200, info());
+        } else if (path.equals("/events")) {
+            await(Operation.EVENTS);
+            streamEvents(exchange);
+        } else if (path.equals("/images/json")) {
+            await(Operation.LIST_IMAGES);
+            listImages(exchange);
+        } else if (path.equals("/images/create") && method.equals("POST")) {
+            await(Operation.PULL);
+            pull(exchange);
+        } else if (path.startsWith("/images/") && path.endsWith("/json")) {
+            await(Operation.INSPECT_IMAGE);
+            inspectImage(exchange, path.substring("/images/".length(), path.length() - "/json".length()));
+        } else if (path.equals("/containers/json")) {
+            await(Operation.LIST_CONTAINERS);
+            listContainers(exchange);
+        } else if (path.equals("/containers/create") && method.equals("POST")) {
+            await(Operation.CREATE);
+            createContainer(exchange);
+        } else if (segments[0].equals("containers") && segments.length == 2 && method.equals("DELETE")) {
+            await(Operation.REMOVE);
+            removeContainer(exchange, segments[1]);
+        } else if (segments[0].equals("containers") && segments.length == 3) {
+            handleContainer(exchange, method, segments[1], segments[2]);
+        } else if (segments[0].equals("exec") && segments.length == 3) {
+            handleExec(exchange, segments[1], segments[2]);
+        } else if (path.equals("/networks") || path.equals("/networks/")) {
+            await(Operation.LIST_NETWORKS);
+            listNetworks(exchange);
+        } else if (path.equals("/networks/create") && method.equals("POST")) {
+            await(Operation.CREATE_NETWORK);
+            createNetwork(exchange);
+        } else if (segments[0].equals("networks") && segments.length == 2 && method.equals("DELETE")) {
+            await(Operation.REMOVE_NETWORK);
+            removeNetwork(exchange, segments[1]);
+        } else {
+            await(Operation.UNSUPPORTED);
+            log.warn("Fake Docker engine does not support {} {}", method, path);
+            exchange.sendError(404, "page not found");
+        }
+    }
+
+    private void handleContainer(FakeHttpExchange exchange, String method, String idOrName, String action) throws IOException, InterruptedException {
+        final Operation operation;
+        switch (method + " " + action) {
+            case "POST start":
+                operation = Operation.START;
+                break;
+            case "GET json":
+                operation = Operation.INSPECT;
+                break;
+            case "GET logs":
+                operation = Operation.LOGS;
+                break;
+            case "POST wait":
+                operation = Operation.WAIT;
+                break;
+            case "POST stop":
+                operation = Operation.STOP;
+                break;
+            case "POST kill":
+                operation = Operation.KILL;
+                break;
+            case "GET archive":
+                operation = Operation.ARCHIVE;
+                break;
+            case "POST exec":
+                operation = Operation.EXEC_CREATE;
+                break;
+            default:
+                operation = Operation.UNSUPPORTED;
+        }
+        await(operation);
+
+        final FakeContainer container = findContainer(idOrName);
+        if (operation == Operation.UNSUPPORTED) {
+            log.warn("Fake Docker engine does not support {} {}", method, exchange.getPath());
+            exchange.sendError(404, "page not found");
+            return;
+        }
+        if (container == null) {
+            exchange.sendError(404, "No such container: " + idOrName);
+            return;
+        }
+
+        switch (operation) {
+            case START:
+                final boolean started;
+                try {
+                    started = container.start(executor);
+                } catch (IOException e) {
+                    exchange.sendError(500, "driver failed programming external connectivity: " + e.getMessage());
+                    return;
+                }
+                if (started) {
+                    event("container", "start", container.getId(), container.getImage().getName());
+                }
+                exchange.sendStatus(started ? 204 : 304);
+                break;
+            case INSPECT:
+                exchange.sendJson(200, container.inspect());
+                break;
+            case LOGS:
+                streamLogs(exchange, container);
+                break;
+            case WAIT:
+                exchange.sendJson(200, Collections.singletonMap("StatusCode", container.awaitStop()));
+                break;
+            case STOP:
+                if (container.stop(0)) {
+                    event("container", "die", container.getId(), container.getImage().getName());
+                    event("container", "stop", container.getId(), container.getImage().getName());
+                    exchange.sendStatus(204);
+                } else {
+                    exchange.sendStatus(304);
+                }
+                break;
+            case KILL:
+                if (container.stop(137)) {
+                    event("container", "kill", container.getId(), container.getImage().getName());
+                    event("container", "die", container.getId(), container.getImage().getName());
+                    exchange.sendStatus(204);
+                } else {
+                    exchange.sendError(409, "Container " + container.getId() + " is not running");
+                }
+                break;
+            case ARCHIVE:
+                // an empty tar archive
+                exchange.send(200, "application/x-tar", new byte[1024]);
+                break;
+            case EXEC_CREATE:
+                createExec(exchange, container);
+                break;
+            default:
+                throw new IllegalStateException("Unexpected operation " + operation);
+        }
+    }
+
+    private void handleExec(FakeHttpExchange exchange, String execId, String action) throws IOException, InterruptedException {
+        final Operation operation = action.equals("start") ? Operation.EXEC_START
+                : action.equals("json") ? Operation.EXEC_INSPECT
+                : Operation.UNSUPPORTED;
+        await(operation);
+
+        final Exec exec = execs.get(execId);
+        if (operation == Operation.UNSUPPORTED) {
+            exchange.sendError(404, "page not found");
+        } else if (exec == null) {
+            exchange.sendError(404, "No such exec instance: " + execId);
+        } else if (operation == Operation.EXEC_START) {
+            final ExecResult result = execHandler.exec(exec.container, exec.command);
+            exchange.upgrade();
+            writeOutput(exchange, exec.container.isTty(), result.getStdout(), result.getStderr());
+            exec.exitCode = result.getExitCode() != null ? result.getExitCode() : 0;
+        } else {
+            final Map<String, Object> inspection = new LinkedHashMap<>();
+            inspection.put("ID", execId);
+            inspection.put("Running", false);
+            inspection.put("ExitCode", exec.exitCode);
+            inspection.put("ContainerID", exec.container.getId());
+            exchange.sendJson(200, inspection);
+        }
+    }
+
+    private void createContainer(FakeHttpExchange exchange) throws IOException {
+        final Map<String, Object> config = exchange.readJsonBody();
+        final String imageName = normalizeImageName(String.valueOf(config.get("Image")));
+        final FakeImage image = images.get(imageName);
+        if (image == null) {
+            exchange.sendError(404, "No such image: " + imageName);
+            return;
+        }
+
+        final String id = randomId();
+        final String requestedName = exchange.getQueryParameter("name");
+        final String name = requestedName != null && !requestedName.isEmpty() ? requestedName : "fake_" + id.substring(0, 12);
+        if (findContainer(name) != null) {
+            exchange.sendError(409, "Conflict. The container name \"/" + name + "\" is already in use");
+            return;
+        }
+
+        final int address = ipAddresses.incrementAndGet();
+        final String ipAddress = "172.17." + (address / 256) + "." + (address % 256);
+        containers.put(id, new FakeContainer(id, name, image, ipAddress, config));
+        event("container", "create", id, imageName);
+
+        final Map<String, Object> response = new LinkedHashMap<>();
+        response.put("Id", id);
+        response.put("Warnings", null);
+        exchange.sendJson(201, response);
+    }
+
+    private void removeContainer(FakeHttpExchange exchange, String idOrName) throws IOException {
+        final FakeContainer container = findContainer(idOrName);
+        if (container == null) {
+            exchange.sendError(404, "No such container: " + idOrName);
+            return;
+        }
+        if (container.isRunning() && !exchange.isQueryParameterTrue("force")) {
+            exchange.sendError(409, "You cannot remove a running container " + container.getId() + ". Stop the container before attempting removal or force remove");
+            return;
+        }
+
+        if (container.stop(137)) {
+            event("container", "die", container.getId(), container.getImage().getName());
+        }
+        containers.remove(container.getId());
+        event("container", "destroy", container.getId(), container.getImage().getName());
+        exchange.sendStatus(204);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void listContainers(FakeHttpExchange exchange) throws IOException {
+        final boolean all = exchange.isQueryParameterTrue("all");
+        final Map<String, Object> filters = exchange.getFilters();
+        final List<String> labelFilters = (List<String>) filters.getOrDefault("label", Collections.emptyList());
+
+        final List<Map<String, Object>> summaries = containers.values().stream()
+                .filter(container -> all || container.isRunning())
+                .filter(container -> labelFilters.stream().allMatch(label -> {
+                    final String[] keyValue = label.split("=", 2);
+                    final String value = container.getLabels().get(keyValue[0]);
+                    return value != null && (keyValue.length == 1 || keyValue[1].equals(value));
+                }))
+                .map(FakeContainer::summary)
+                .collect(Collectors.toList());
+        exchange.sendJson(200, summaries);
+    }
+
+    private void streamLogs(FakeHttpExchange exchange, FakeContainer container) throws IOException, InterruptedException {
+        exchange.startStream(container.isTty() ? "application/vnd.docker.raw-stream" : "application/vnd.docker.multiplexed-stream");
+        if (exchange.isQueryParameterTrue("stdout")) {
+            final StringBuilder lines = new StringBuilder();
+            container.getImage().getLogLines().forEach(line -> lines.append(line).append('\n'));
+            writeOutput(exchange, container.isTty(), lines.toString(), "");
+        }
+        if (exchange.isQueryParameterTrue("follow")) {
+            container.awaitStop();
+        }
+        exchange.endStream();
+    }
+
+    private void createExec(FakeHttpExchange exchange, FakeContainer container) throws IOException {
+        if (!container.isRunning()) {
+            exchange.sendError(409, "Container " + container.getId() + " is not running");
+            return;
+        }
+
+        final Map<String, Object> config = exchange.readJsonBody();
+        final Exec exec = new Exec(container, toStringList(config.get("Cmd")));
+        final String id = randomId();
+        execs.put(id, exec);
+        exchange.sendJson(201, Collections.singletonMap("Id", id));
+    }
+
+    private void listImages(FakeHttpExchange exchange) throws IOException {
+        final String nameFilter = exchange.getQueryParameter("filter");
+        final List<Map<String, Object>> summaries = images.values().stream()
+                .filter(image -> nameFilter == null || image.getName().equals(normalizeImageName(nameFilter)))
+                .map(image -> {
+                    final Map<String, Object> summary = new LinkedHashMap<>();
+                    summary.put("Id", image.getId());
+                    summary.put("ParentId", "");
+                    summary.put("RepoTags", Collections.singletonList(image.getName()));
+                    summary.put("Created", 0);
+                    summary.put("Size", 1024);
+                    summary.put("VirtualSize", 1024);
+                    return summary;
+                })
+                .collect(Collectors.toList());
+        exchange.sendJson(200, summaries);
+    }
+
+    private void inspectImage(FakeHttpExchange exchange, String name) throws IOException {
+        final FakeImage image = images.get(normalizeImageName(name));
+        if (image == null) {
+            exchange.sendError(404, "No such image: " + name);
+            return;
+        }
+
+        final Map<String, Object> inspection = new LinkedHashMap<>();
+        inspection.put("Id", image.getId());
+        inspection.put("RepoTags", Collections.singletonList(image.getName()));
+        inspection.put("Size", 1024);
+        inspection.put("Config", Collections.emptyMap());
+        exchange.sendJson(200, inspection);
+    }
+
+    private void pull(FakeHttpExchange exchange) throws IOException {
+        final String fromImage = exchange.getQueryParameter("fromImage");
+        final String tag = exchange.getQueryParameter("tag");
+        final String name = normalizeImageName(tag == null || tag.isEmpty() ? fromImage : fromImage + ":" + tag);
+        final boolean present = images.containsKey(name);
+        image(name);
+
+        exchange.startStream("application/json");
+        exchange.writeJsonToStream(Collections.singletonMap("status", "Pulling from " + fromImage));
+        exchange.writeJsonToStream(Collections.singletonMap("status", present
+                ? "Status: Image is up to date for " + name
+                : "Status: Downloaded newer image for " + name));
+        exchange.endStream();
+        event("image", "pull", name, null);
+    }
+
+    private void listNetworks(FakeHttpExchange exchange) throws IOException {
+        final Map<String, Object> filters = exchange.getFilters();
+        final List<String> names = toStringList(filters.get("name"));
+        final List<String> ids = toStringList(filters.get("id"));
+
+        final List<Map<String, Object>> matching = networks.values().stream()
+                .filter(network -> names.isEmpty() || names.stream().anyMatch(name -> ((String) network.get("Name")).contains(name)))
+                .filter(network -> ids.isEmpty() || ids.stream().anyMatch(id -> ((String) network.get("Id")).startsWith(id)))
+                .collect(Collectors.toList());
+        exchange.sendJson(200, matching);
+    }
+
+    private void createNetwork(FakeHttpExchange exchange) throws IOException {
+        final Map<String, Object> config = exchange.readJsonBody();
+        final String name = String.valueOf(config.get("Name"));
+        if (Boolean.TRUE.equals(config.get("CheckDuplicate")) && getNetworkNames().contains(name)) {
+            exchange.sendError(409, "network with name " + name + " already exists");
+            return;
+        }
+
+        final String id = randomId();
+        final Map<String, Object> network = new LinkedHashMap<>();
+        network.put("Name", name);
+        network.put("Id", id);
+        network.put("Driver", config.getOrDefault("Driver", "bridge"));
+        network.put("Scope", "local");
+        network.put("Labels", config.get("Labels"));
+        networks.put(id, network);
+        event("network", "create", id, null);
+
+        final Map<String, Object> response = new LinkedHashMap<>();
+        response.put("Id", id);
+        response.put("Warning", "");
+        exchange.sendJson(201, response);
+    }
+
+    private void removeNetwork(FakeHttpExchange exchange, String idOrName) throws IOException {
+        final String id = networks.values().stream()
+                .filter(network -> network.get("Id").equals(idOrName) || network.get("Name").equals(idOrName))
+                .map(network -> (String) network.get("Id"))
+                .findFirst()
+                .orElse(null);
+        if (id == null) {
+            exchange.sendError(404, "network " + idOrName + " not found");
+            return;
+        }
+
+        networks.remove(id);
+        event("network", "destroy", id, null);
+        exchange.sendStatus(204);
+    }
+
+    /**
+     * Stream past events since the <code>since</code> parameter, then new events until the <code>until</code> parameter
+     * or, without it, until the engine is closed.
+     */
+    private void streamEvents(FakeHttpExchange exchange) throws IOException, InterruptedException {
+        final double since = parseTimestamp(exchange.getQueryParameter("since"), Double.NaN);
+        final double until = parseTimestamp(exchange.getQueryParameter("until"), Double.POSITIVE_INFINITY);
+
+        exchange.startStream("application/json");
+        int next = Double.isNaN(since) ? events.size() : 0;
+        while (!serverSocket.isClosed()) {
+            while (next < events.size()) {
+                final Map<String, Object> event = events.get(next++);
+                final double time = ((Number) event.get("timeNano")).doubleValue() / 1e9;
+                if (time > until) {
+                    break;
+                }
+                if (Double.isNaN(since) || time >= since) {
+                    exchange.writeJsonToStream(event);
+                }
+            }
+
+            final double now = Instant.now().toEpochMilli() / 1e3;
+            if (now > until) {
+                break;
+            }
+            synchronized (events) {
+                if (next >= events.size()) {
+                    events.wait(100);
+                }
+            }
+        }
+        exchange.endStream();
+    }
+
+    private void event(String type, String action, String id, String from) {
+        final Instant now = Instant.now();
+
+        final Map<String, Object> actor = new LinkedHashMap<>();
+        actor.put("ID", id);
+        actor.put("Attributes", from != null ? Collections.singletonMap("image", from) : Collections.emptyMap());
+
+        final Map<String, Object> event = new LinkedHashMap<>();
+        event.put("Type", type);
+        event.put("Action", action);
+        if (type.equals("container")) {
+            event.put("status", action);
+            event.put("id", id);
+            event.put("from", from);
+        }
+        event.put("Actor", actor);
+        event.put("time", now.getEpochSecond());
+        event.put("timeNano", now.getEpochSecond() * 1_000_000_000L + now.getNano());
+
+        synchronized (events) {
+            events.add(event);
+            events.notifyAll();
+        }
+    }
+
+    private Map<String, Object> version() {
+        final Map<String, Object> version = new LinkedHashMap<>();
+        version.put("Version", "17.06.0-ce");
+        version.put("ApiVersion", "1.30");
+        version.put("MinAPIVersion", "1.12");
+        version.put("GitCommit", "fake");
+        version.put("GoVersion", "go1.8.3");
+        version.put("Os", "linux");
+        version.put("Arch", "amd64");
+        version.put("KernelVersion", System.getProperty("os.version"));
+        return version;
+    }
+
+    private Map<String, Object> info() {
+        final long running = containers.values().stream().filter(FakeContainer::isRunning).count();
+
+        final Map<String, Object> info = new LinkedHashMap<>();
+        // a fixed ID, so that the result of DockerClientFactory's checks is cached once for all fake engines
+        info.put("ID", "FAKE:TESTCONTAINERS:ENGINE");
+        info.put("Containers", containers.size());
+        info.put("ContainersRunning", running);
+        info.put("ContainersPaused", 0);
+        info.put("ContainersStopped", containers.size() - running);
+        info.put("Images", images.size());
+        info.put("Driver", "fake");
+        info.put("ExecutionDriver", "native-0.2");
+        info.put("Name", "fake-docker-engine");
+        info.put("ServerVersion", "17.06.0-ce");
+        info.put("OperatingSystem", "Testcontainers fake Docker engine");
+        info.put("OSType", "linux");
+        info.put("Architecture", "x86_64");
+        info.put("NCPU", Runtime.getRuntime().availableProcessors());
+        info.put("MemTotal", 8L * 1024 * 1024 * 1024);
+        return info;
+    }
+
+    private void await(Operation operation) throws InterruptedException {
+        requestCounts.get(operation).incrementAndGet();
+        final Duration latency = latencies.getOrDefault(operation, defaultLatency);
+        if (!latency.isZero()) {
+            TimeUnit.NANOSECONDS.sleep(latency.toNanos());
+        }
+    }
+
+    private FakeContainer findContainer(String idOrName) {
+        final FakeContainer byId = containers.get(idOrName);
+        if (byId != null) {
+            return byId;
+        }
+        return containers.values().stream()
+                .filter(container -> container.getName().equals(idOrName) || container.getId().startsWith(idOrName))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static void writeOutput(FakeHttpExchange exchange, boolean tty, String stdout, String stderr) throws IOException {
+        if (stdout != null && !stdout.isEmpty()) {
+            final byte[] bytes = stdout.getBytes(StandardCharsets.UTF_8);
+            if (tty) {
+                exchange.write(bytes);
+            } else {
+                exchange.writeFrame(1, bytes);
+            }
+        }
+        if (stderr != null && !stderr.isEmpty()) {
+            final byte[] bytes = stderr.getBytes(StandardCharsets.UTF_8);
+            if (tty) {
+                exchange.write(bytes);
+            } else {
+                exchange.writeFrame(2, bytes);
+            }
+        }
+    }
+
+    /**
+     * Commands succeed without output, except for the port listening check of
+     * {@link org.testcontainers.containers.wait.internal.InternalCommandPortListeningCheck}, which finds the exposed
+     * ports listening.
+     */
+    private static ExecResult defaultExec(FakeContainer container, List<String> command) {
+        if (!String.join(" ", command).contains(PORT_CHECK_METHOD_MARKER)) {
+            return new ExecResult(0, "", "");
+        }
+
+        final StringBuilder stdout = new StringBuilder(PORT_CHECK_METHOD_MARKER + " NETCAT\n");
+        for (String port : container.getExposedPorts()) {
+            stdout.append("TESTCONTAINERS_OPEN ").append(port.split("/")[0]).append('\n');
+        }
+        return new ExecResult(0, stdout.toString(), "");
+    }
+
+    private static String normalizeImageName(String name) {
+        final String lastSegment = name.substring(name.lastIndexOf('/') + 1);
+        return lastSegment.contains(":") || lastSegment.contains("@") ? name : name + ":latest";
+    }
+
+    private static double parseTimestamp(String value, double defaultValue) {
+        return value == null || value.isEmpty() ? defaultValue : Double.parseDouble(value);
+    }
+
+    private static List<String> toStringList(Object value) {
+        if (!(value instanceof List)) {
+            return Collections.emptyList();
+        }
+        final List<String> strings = new ArrayList<>();
+        for (Object item : (List<?>) value) {
+            strings.add(String.valueOf(item));
+        }
+        return strings;
+    }
+
+    private static String randomId() {
+        return UUID.randomUUID().toString().replace("-", "") + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private static class Exec {
+        private final FakeContainer container;
+        private final List<String> command;
+        private volatile Integer exitCode;
+
+        Exec(FakeContainer container, List<String> command) {
+            this.container = container;
+            this.command = command;
+        }
+    }
+}
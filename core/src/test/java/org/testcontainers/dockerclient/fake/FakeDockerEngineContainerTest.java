@@ -0,0 +1,70 @@
+package org.testcontainers.dockerclient.fake;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.output.WaitingConsumer;
+import org.testcontainers.containers.wait.LogMessageWaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assume.assumeTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+/**
+ * Runs the container lifecycle against the fake engine. Only runs when the fake engine is the Docker environment,
+ * which the <code>fake-docker-engine</code> surefire execution of this module sets up.
+ */
+public class FakeDockerEngineContainerTest {
+
+    private FakeDockerEngine engine;
+
+    @Before
+    public void setUp() {
+        assumeTrue("the fake Docker engine is enabled", FakeDockerClientProviderStrategy.isEnabled());
+        engine = FakeDockerClientProviderStrategy.getSharedEngine();
+        engine.image("redis:3.0.2").withLogs("The server is now ready to accept connections on port 6379");
+    }
+
+    @Test
+    public void containerIsStartedAndRemoved() throws Exception {
+        final String containerId;
+        try (GenericContainer container = new GenericContainer("redis:3.0.2").withExposedPorts(6379)) {
+            container.start();
+            containerId = container.getContainerId();
+
+            assertTrue("the container is running", container.isRunning());
+            assertEquals("exec works", 0, container.execInContainer("redis-cli", "ping").getExitCode());
+
+            final WaitingConsumer logs = new WaitingConsumer();
+            container.followOutput(logs);
+            logs.waitUntil(frame -> frame.getUtf8String().contains("ready to accept connections"), 10, TimeUnit.SECONDS);
+        }
+
+        assertFalse("the container is removed when stopped",
+                engine.getContainers().stream().anyMatch(it -> it.getId().equals(containerId)));
+    }
+
+    @Test
+    public void logMessageWaitStrategyFollowsTheLogs() {
+        try (GenericContainer container = new GenericContainer("redis:3.0.2")
+                .waitingFor(new LogMessageWaitStrategy().withRegEx(".*ready to accept connections.*\\s"))) {
+            container.start();
+            assertTrue("the container is running", container.isRunning());
+        }
+    }
+
+    @Test
+    public void networkIsCreatedAndRemoved() throws Exception {
+        try (Network network = Network.newNetwork();
+             GenericContainer container = new GenericContainer("redis:3.0.2").withNetwork(network).withNetworkAliases("redis")) {
+            container.start();
+            assertEquals("the network is created", 1, engine.getNetworkNames().size());
+        }
+
+        assertTrue("the network is removed", engine.getNetworkNames().isEmpty());
+    }
+}
@@ -0,0 +1,153 @@
+package org.testcontainers.dockerclient.fake;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.dockerclient.DockerDaemon;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.Assume.assumeTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertNotEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertSame;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+/**
+ * Places containers on a second fake engine alongside the primary one. Only runs when the fake engine is the Docker
+ * environment, which the <code>fake-docker-engine</code> surefire execution of this module sets up.
+ */
+public class FakeDockerEngineMultiDaemonTest {
+
+    private static final String IMAGE = "nginx:1.13";
+
+    private FakeDockerEngine primaryEngine;
+    private FakeDockerEngine secondaryEngine;
+    private DockerDaemon primary;
+    private DockerDaemon secondary;
+
+    // the daemon the placement policy chooses for each new container
+    private final AtomicReference<DockerDaemon> placement = new AtomicReference<>();
+
+    @Before
+    public void setUp() throws Exception {
+        assumeTrue("the fake Docker engine is enabled", FakeDockerClientProviderStrategy.isEnabled());
+        primaryEngine = FakeDockerClientProviderStrategy.getSharedEngine();
+        secondaryEngine = new FakeDockerEngine().start();
+
+        final DockerClientFactory factory = DockerClientFactory.instance();
+        primary = factory.primaryDaemon();
+        secondary = factory.addDaemon(new FakeDockerClientProviderStrategy(secondaryEngine));
+        factory.setPlacementPolicy((daemons, testClass) -> placement.get());
+    }
+
+    @After
+    public void tearDown() {
+        if (secondaryEngine != null) {
+            // the secondary daemon stays in the pool, so place everything else on the primary daemon again
+            DockerClientFactory.instance().setPlacementPolicy((daemons, testClass) -> primary);
+            secondaryEngine.close();
+        }
+    }
+
+    @Test
+    public void containerIsPulledCreatedAndRemovedOnItsDaemon() {
+        final int primaryPulls = primaryEngine.getRequestCount(FakeDockerEngine.Operation.PULL);
+        placement.set(secondary);
+
+        final GenericContainer container = new GenericContainer(IMAGE);
+        try {
+            assertEquals("a container is not counted until it is created", 0, secondary.getPlacedContainerCount());
+
+            container.start();
+
+            assertTrue("the container is created on its daemon", secondaryEngine.getContainers().stream()
+                    .anyMatch(it -> it.getId().equals(container.getContainerId())));
+            assertEquals("the image is pulled on the container's daemon", 1,
+                    secondaryEngine.getRequestCount(FakeDockerEngine.Operation.PULL));
+            assertEquals("the image is not pulled on the primary daemon", primaryPulls,
+                    primaryEngine.getRequestCount(FakeDockerEngine.Operation.PULL));
+            assertEquals("the container is counted once created", 1, secondary.getPlacedContainerCount());
+        } finally {
+            container.stop();
+            container.stop();
+        }
+
+        assertTrue("the container is removed with the client of its daemon", secondaryEngine.getContainers().isEmpty());
+        assertEquals("a container stopped twice is only uncounted once", 0, secondary.getPlacedContainerCount());
+    }
+
+    @Test
+    public void containersBuiltTogetherAreSpreadWhenStarted() {
+        // least loaded, among the two daemons of this test
+        DockerClientFactory.instance().setPlacementPolicy((daemons, testClass) -> Stream.of(primary, secondary)
+                .min(Comparator.comparingInt(DockerDaemon::getPlacedContainerCount))
+                .orElseThrow(IllegalStateException::new));
+
+        try (GenericContainer first = new GenericContainer(IMAGE);
+             GenericContainer second = new GenericContainer(IMAGE)) {
+            assertEquals("building containers does not count them", 0, primary.getPlacedContainerCount() + secondary.getPlacedContainerCount());
+
+            first.start();
+            second.start();
+
+            assertNotEquals("the second container sees the first when it is placed", first.getDockerDaemon(), second.getDockerDaemon());
+            assertEquals("each daemon counts one container", 1, primary.getPlacedContainerCount());
+            assertEquals("each daemon counts one container", 1, secondary.getPlacedContainerCount());
+        }
+
+        assertEquals("stopped containers are no longer counted", 0, primary.getPlacedContainerCount() + secondary.getPlacedContainerCount());
+    }
+
+    @Test
+    public void containersAreColocatedWithTheirNetwork() throws Exception {
+        try (Network network = Network.newNetwork()) {
+            placement.set(secondary);
+            try (GenericContainer first = new GenericContainer(IMAGE).withNetwork(network)) {
+                first.start();
+
+                placement.set(primary);
+                try (GenericContainer second = new GenericContainer(IMAGE).withNetwork(network)) {
+                    second.start();
+
+                    assertSame("the network is created on the daemon of its first container", secondary, ((Network.NetworkImpl) network).getDaemon());
+                    assertEquals("the network is created on the secondary engine", 1, secondaryEngine.getNetworkNames().size());
+                    assertEquals("both containers are on the network's daemon", 2, secondaryEngine.getContainers().size());
+                    assertFalse("no container is created on the primary daemon", primaryEngine.getContainers().stream()
+                            .anyMatch(it -> it.getId().equals(second.getContainerId())));
+                }
+            }
+        }
+
+        assertTrue("the network is removed with the client of its daemon", secondaryEngine.getNetworkNames().isEmpty());
+        assertTrue("the containers are removed with the client of their daemon", secondaryEngine.getContainers().isEmpty());
+    }
+
+    @Test
+    public void containersAreColocatedWithLinkedContainers() {
+        placement.set(secondary);
+        try (GenericContainer linked = new GenericContainer(IMAGE)) {
+            linked.start();
+
+            placement.set(primary);
+            final int primaryContainers = primary.getPlacedContainerCount();
+            try (GenericContainer container = new GenericContainer(IMAGE)) {
+                container.addLink(linked, "linked");
+                container.start();
+
+                assertTrue("the container is created on the daemon of the linked container", secondaryEngine.getContainers().stream()
+                        .anyMatch(it -> it.getId().equals(container.getContainerId())));
+                assertEquals("the moved container is counted on the daemon it was created on", 2, secondary.getPlacedContainerCount());
+                assertEquals("the moved container is not counted on the daemon it was first placed on", primaryContainers, primary.getPlacedContainerCount());
+            }
+        }
+
+        assertTrue("the containers are removed with the client of their daemon", secondaryEngine.getContainers().isEmpty());
+    }
+}
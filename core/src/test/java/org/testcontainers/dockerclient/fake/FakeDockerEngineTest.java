@@ -0,0 +1,166 @@
+package org.testcontainers.dockerclient.fake;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.ExposedPort;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.Network;
+import com.github.dockerjava.api.model.Ports;
+import com.github.dockerjava.core.command.EventsResultCallback;
+import com.github.dockerjava.core.command.ExecStartResultCallback;
+import com.github.dockerjava.core.command.LogContainerResultCallback;
+import com.github.dockerjava.core.command.PullImageResultCallback;
+import com.github.dockerjava.core.command.WaitContainerResultCallback;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.testcontainers.containers.Container.ExecResult;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertThrows;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class FakeDockerEngineTest {
+
+    private FakeDockerEngine engine;
+    private DockerClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        engine = new FakeDockerEngine().start();
+        final FakeDockerClientProviderStrategy strategy = new FakeDockerClientProviderStrategy(engine);
+        strategy.test();
+        client = strategy.getClient();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        client.close();
+        engine.close();
+    }
+
+    @Test
+    public void containerLifecycle() throws Exception {
+        engine.image("redis:3.0.2").withLogs("Ready to accept connections");
+
+        final String id = client.createContainerCmd("redis:3.0.2")
+                .withExposedPorts(ExposedPort.tcp(6379))
+                .exec()
+                .getId();
+        client.startContainerCmd(id).exec();
+
+        final InspectContainerResponse inspection = client.inspectContainerCmd(id).exec();
+        assertTrue("the container is running", inspection.getState().getRunning());
+        final Ports.Binding binding = inspection.getNetworkSettings().getPorts().getBindings().get(ExposedPort.tcp(6379))[0];
+        try (Socket ignored = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(binding.getHostPortSpec()))) {
+            assertTrue("the exposed port accepts connections", ignored.isConnected());
+        }
+
+        final ByteArrayOutputStream logs = new ByteArrayOutputStream();
+        client.logContainerCmd(id).withStdOut(true).withStdErr(true)
+                .exec(new LogContainerResultCallback() {
+                    @Override
+                    public void onNext(Frame frame) {
+                        logs.write(frame.getPayload(), 0, frame.getPayload().length);
+                    }
+                })
+                .awaitCompletion(10, TimeUnit.SECONDS);
+        assertEquals("the image's log lines are returned", "Ready to accept connections\n", logs.toString());
+
+        client.stopContainerCmd(id).exec();
+        assertEquals("a stopped container has exited", 0,
+                client.waitContainerCmd(id).exec(new WaitContainerResultCallback()).awaitStatusCode(10, TimeUnit.SECONDS));
+
+        client.removeContainerCmd(id).exec();
+        assertTrue("the container is removed", engine.getContainers().isEmpty());
+    }
+
+    @Test
+    public void execUsesTheHandler() throws Exception {
+        engine.image("alpine:3.5");
+        engine.withExecHandler((container, command) -> new ExecResult(3, String.join(" ", command), "oops"));
+
+        final String id = client.createContainerCmd("alpine:3.5").exec().getId();
+        client.startContainerCmd(id).exec();
+
+        final String execId = client.execCreateCmd(id).withAttachStdout(true).withAttachStderr(true).withCmd("echo", "hi").exec().getId();
+        final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+        client.execStartCmd(execId).exec(new ExecStartResultCallback(stdout, stderr)).awaitCompletion(10, TimeUnit.SECONDS);
+
+        assertEquals("stdout is returned", "echo hi", stdout.toString());
+        assertEquals("stderr is returned", "oops", stderr.toString());
+        assertEquals("the exit code is returned", 3, client.inspectExecCmd(execId).exec().getExitCode());
+    }
+
+    @Test
+    public void imagesArePulledOnRequest() throws Exception {
+        assertThrows("a container cannot be created from a missing image", NotFoundException.class,
+                () -> client.createContainerCmd("nginx:1.13").exec());
+
+        client.pullImageCmd("nginx:1.13").exec(new PullImageResultCallback()).awaitSuccess();
+
+        assertEquals("the pulled image is listed", 1, client.listImagesCmd().withImageNameFilter("nginx:1.13").exec().size());
+        client.createContainerCmd("nginx:1.13").exec();
+    }
+
+    @Test
+    public void operationsTakeTheirLatency() throws Exception {
+        engine.image("alpine:3.5");
+        engine.withLatency(FakeDockerEngine.Operation.START, Duration.ofMillis(300));
+        final String id = client.createContainerCmd("alpine:3.5").exec().getId();
+
+        final long startTime = System.nanoTime();
+        client.startContainerCmd(id).exec();
+
+        assertTrue("starting the container takes the latency", System.nanoTime() - startTime >= TimeUnit.MILLISECONDS.toNanos(300));
+        assertEquals("the request is counted", 1, engine.getRequestCount(FakeDockerEngine.Operation.START));
+    }
+
+    @Test
+    public void eventsAreStreamed() throws Exception {
+        engine.image("alpine:3.5");
+        final long since = System.currentTimeMillis() / 1000 - 1;
+        final String id = client.createContainerCmd("alpine:3.5").exec().getId();
+        client.startContainerCmd(id).exec();
+        client.killContainerCmd(id).exec();
+        final long until = System.currentTimeMillis() / 1000 + 1;
+
+        final List<Event> events = new CopyOnWriteArrayList<>();
+        client.eventsCmd()
+                .withSince(String.valueOf(since))
+                .withUntil(String.valueOf(until))
+                .exec(new EventsResultCallback() {
+                    @Override
+                    public void onNext(Event event) {
+                        events.add(event);
+                    }
+                })
+                .awaitCompletion(10, TimeUnit.SECONDS);
+
+        assertEquals("the container's events are streamed in order", "create start kill die",
+                events.stream().map(Event::getStatus).reduce((a, b) -> a + " " + b).orElse(""));
+    }
+
+    @Test
+    public void networksAreCreatedAndRemoved() {
+        final String id = client.createNetworkCmd().withName("test-network").exec().getId();
+
+        final List<Network> networks = client.listNetworksCmd().withNameFilter("test-network").exec();
+        assertEquals("the network is listed", id, networks.get(0).getId());
+
+        client.removeNetworkCmd(id).exec();
+        assertFalse("the network is removed", engine.getNetworkNames().contains("test-network"));
+    }
+}
@@ -0,0 +1,277 @@
+package org.testcontainers.dockerclient.fake;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A single HTTP/1.1 request to the fake engine, and the means to answer it. The Docker client opens a connection for
+ * each command, so every response closes the connection.
+ */
+class FakeHttpExchange {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Getter
+    private final String method;
+
+    @Getter
+    private final String path;
+
+    private final Map<String, String> query = new HashMap<>();
+    private final Map<String, String> headers = new HashMap<>();
+    private final byte[] body;
+    private final OutputStream out;
+
+    private boolean chunked;
+
+    private FakeHttpExchange(String method, String target, InputStream in, OutputStream out) throws IOException {
+        this.method = method;
+        this.out = out;
+
+        final int queryStart = target.indexOf('?');
+        this.path = decode(queryStart < 0 ? target : target.substring(0, queryStart));
+        if (queryStart >= 0) {
+            for (String parameter : target.substring(queryStart + 1).split("&")) {
+                final int separator = parameter.indexOf('=');
+                if (separator > 0) {
+                    query.put(decode(parameter.substring(0, separator)), decode(parameter.substring(separator + 1)));
+                } else if (!parameter.isEmpty()) {
+                    query.put(decode(parameter), "");
+                }
+            }
+        }
+
+        String line;
+        while (!(line = readLine(in)).isEmpty()) {
+            final int separator = line.indexOf(':');
+            if (separator > 0) {
+                headers.put(line.substring(0, separator).trim().toLowerCase(Locale.ROOT), line.substring(separator + 1).trim());
+            }
+        }
+
+        this.body = readBody(in);
+    }
+
+    /**
+     * @return the next request on the connection, or null if the client closed it
+     */
+    static FakeHttpExchange read(InputStream in, OutputStream out) throws IOException {
+        final String requestLine;
+        try {
+            requestLine = readLine(in);
+        } catch (EOFException e) {
+            return null;
+        }
+
+        final String[] parts = requestLine.split(" ");
+        if (parts.length < 2) {
+            throw new IOException("Malformed request line: " + requestLine);
+        }
+        return new FakeHttpExchange(parts[0], parts[1], in, out);
+    }
+
+    String getQueryParameter(String name) {
+        return query.get(name);
+    }
+
+    boolean isQueryParameterTrue(String name) {
+        final String value = query.get(name);
+        return "1".equals(value) || "true".equalsIgnoreCase(value);
+    }
+
+    /**
+     * @return the <code>filters</code> query parameter, e.g. <code>{"name":["foo"]}</code>
+     */
+    @SuppressWarnings("unchecked")
+    Map<String, Object> getFilters() throws IOException {
+        final String filters = query.get("filters");
+        return filters == null || filters.isEmpty() ? new HashMap<>() : MAPPER.readValue(filters, Map.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    Map<String, Object> readJsonBody() throws IOException {
+        return body.length == 0 ? new HashMap<>() : MAPPER.readValue(body, Map.class);
+    }
+
+    void sendJson(int status, Object content) throws IOException {
+        send(status, "application/json", MAPPER.writeValueAsBytes(content));
+    }
+
+    void send(int status, String contentType, byte[] content) throws IOException {
+        writeHead(status, "Content-Type: " + contentType + "\r\nContent-Length: " + content.length + "\r\n");
+        out.write(content);
+        out.flush();
+    }
+
+    void sendStatus(int status) throws IOException {
+        writeHead(status, "Content-Length: 0\r\n");
+        out.flush();
+    }
+
+    void sendError(int status, String message) throws IOException {
+        sendJson(status, singletonMap("message", message));
+    }
+
+    /**
+     * Start a streamed response, which is sent with chunked transfer encoding. Responses which the Docker client reads
+     * as a plain input stream, rather than with a callback, must be sent whole instead.
+     */
+    void startStream(String contentType) throws IOException {
+        writeHead(200, "Content-Type: " + contentType + "\r\nTransfer-Encoding: chunked\r\n");
+        out.flush();
+        chunked = true;
+    }
+
+    void writeJsonToStream(Object content) throws IOException {
+        write(MAPPER.writeValueAsBytes(content));
+    }
+
+    /**
+     * Switch the connection to a raw stream, as for attaching to an exec.
+     */
+    void upgrade() throws IOException {
+        out.write(("HTTP/1.1 101 UPGRADED\r\n" +
+                "Content-Type: application/vnd.docker.raw-stream\r\n" +
+                "Connection: Upgrade\r\n" +
+                "Upgrade: tcp\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    /**
+     * Write to a streamed response, or to an upgraded connection.
+     */
+    void write(byte[] bytes) throws IOException {
+        if (chunked) {
+            out.write((Integer.toHexString(bytes.length) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(bytes);
+            out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+        } else {
+            out.write(bytes);
+        }
+        out.flush();
+    }
+
+    /**
+     * Write a frame of a multiplexed stdout/stderr stream, as used for the output of containers without a TTY.
+     *
+     * @param streamType 1 for stdout, 2 for stderr
+     */
+    void writeFrame(int streamType, byte[] payload) throws IOException {
+        final byte[] frame = new byte[8 + payload.length];
+        frame[0] = (byte) streamType;
+        frame[4] = (byte) (payload.length >>> 24);
+        frame[5] = (byte) (payload.length >>> 16);
+        frame[6] = (byte) (payload.length >>> 8);
+        frame[7] = (byte) payload.length;
+        System.arraycopy(payload, 0, frame, 8, payload.length);
+        write(frame);
+    }
+
+    void endStream() throws IOException {
+        if (chunked) {
+            out.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            chunked = false;
+        }
+    }
+
+    private void writeHead(int status, String headerLines) throws IOException {
+        out.write(("HTTP/1.1 " + status + " " + reason(status) + "\r\n" +
+                "Server: Testcontainers-Fake-Docker\r\n" +
+                "Connection: close\r\n" +
+                headerLines + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private byte[] readBody(InputStream in) throws IOException {
+        final String contentLength = headers.get("content-length");
+        if (contentLength != null) {
+            final byte[] bytes = new byte[Integer.parseInt(contentLength)];
+            readFully(in, bytes);
+            return bytes;
+        }
+
+        if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            int size;
+            while ((size = Integer.parseInt(readLine(in).split(";")[0].trim(), 16)) > 0) {
+                final byte[] chunk = new byte[size];
+                readFully(in, chunk);
+                bytes.write(chunk);
+                readLine(in);
+            }
+            String trailer;
+            do {
+                trailer = readLine(in);
+            } while (!trailer.isEmpty());
+            return bytes.toByteArray();
+        }
+
+        return new byte[0];
+    }
+
+    private static void readFully(InputStream in, byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            final int read = in.read(bytes, offset, bytes.length - offset);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            offset += read;
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                throw new EOFException();
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return new String(line.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    private static String decode(String value) throws UnsupportedEncodingException {
+        return URLDecoder.decode(value, "UTF-8");
+    }
+
+    private static Map<String, Object> singletonMap(String key, Object value) {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(key, value);
+        return map;
+    }
+
+    private static String reason(int status) {
+        switch (status) {
+            case 200:
+                return "OK";
+            case 201:
+                return "Created";
+            case 204:
+                return "No Content";
+            case 304:
+                return "Not Modified";
+            case 404:
+                return "Not Found";
+            case 409:
+                return "Conflict";
+            default:
+                return status >= 500 ? "Internal Server Error" : "Bad Request";
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.testcontainers.dockerclient.fake;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An image known to a {@link FakeDockerEngine}, and how containers created from it behave.
+ */
+public class FakeImage {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final String id = "sha256:" + UUID.randomUUID().toString().replace("-", "") + UUID.randomUUID().toString().replace("-", "");
+
+    private volatile List<String> logLines = Collections.emptyList();
+    private volatile String portResponse;
+
+    FakeImage(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param lines lines which containers of this image write to stdout when started
+     * @return this
+     */
+    public FakeImage withLogs(String... lines) {
+        this.logLines = Arrays.asList(lines);
+        return this;
+    }
+
+    /**
+     * @param response text which containers of this image send to each connection to an exposed port, before closing it
+     * @return this
+     */
+    public FakeImage withPortResponse(String response) {
+        this.portResponse = response;
+        return this;
+    }
+
+    List<String> getLogLines() {
+        return logLines;
+    }
+
+    String getPortResponse() {
+        return portResponse;
+    }
+}
@@ -14,12 +14,15 @@ import org.junit.*;
 import org.rnorth.ducttape.RetryCountExceededException;
 import org.rnorth.ducttape.unreliables.Unreliables;
 import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.exec.ExecCommand;
+import org.testcontainers.containers.output.ToStringConsumer;
 import org.testcontainers.utility.Base58;
 import org.testcontainers.utility.MountableFile;
 import org.testcontainers.utility.TestEnvironment;
 
 import java.io.*;
 import java.net.Socket;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
@@ -296,6 +299,49 @@ public class GenericContainerRuleTest {
         // We expect to reach this point for modern Docker versions.
     }
 
+    @Test
+    public void testExecInContainerAsyncReportsExitCode() throws Exception {
+        Assume.assumeTrue(TestEnvironment.dockerExecutionDriverSupportsExec());
+
+        try (final GenericContainer<?> alpineExec = new GenericContainer("alpine:3.2")
+                    .withCommand("top")) {
+
+            alpineExec.start();
+
+            final ToStringConsumer stdout = new ToStringConsumer();
+            final int exitCode = alpineExec.execInContainerAsync(new ExecCommand("sh", "-c", "echo failing; exit 3")
+                    .withStdout(stdout))
+                    .get(30, TimeUnit.SECONDS);
+
+            assertEquals("The exit code of the command is reported", 3, exitCode);
+            assertEquals("The output of the command is streamed", "failing\n", stdout.toUtf8String());
+
+            final GenericContainer.ExecResult result = alpineExec.execInContainer("sh", "-c", "exit 3");
+            assertEquals("execInContainer reports the exit code of the command", 3, (int) result.getExitCode());
+        }
+    }
+
+    @Test
+    public void testExecInContainerAsyncPipesStdin() throws Exception {
+        Assume.assumeTrue(TestEnvironment.dockerExecutionDriverSupportsExec());
+
+        try (final GenericContainer<?> alpineExec = new GenericContainer("alpine:3.2")
+                    .withCommand("top")) {
+
+            alpineExec.start();
+
+            final String input = "first line\nsecond line\n";
+            final ToStringConsumer stdout = new ToStringConsumer();
+            final int exitCode = alpineExec.execInContainerAsync(new ExecCommand("cat")
+                    .withStdin(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)))
+                    .withStdout(stdout))
+                    .get(30, TimeUnit.SECONDS);
+
+            assertEquals("cat exits once its input is exhausted", 0, exitCode);
+            assertEquals("cat echoes its input", input, stdout.toUtf8String());
+        }
+    }
+
 
     @Test
     public void extraHostTest() throws IOException {
@@ -0,0 +1,184 @@
+package org.testcontainers.utility;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.core.command.PullImageResultCallback;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.testcontainers.dockerclient.fake.FakeDockerClientProviderStrategy;
+import org.testcontainers.dockerclient.fake.FakeDockerEngine;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.Assume.assumeTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.fail;
+import static org.testcontainers.utility.FlightRecorderEventType.CONTAINER_START;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.CONTAINER_ID;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.EXIT_CODE;
+import static org.testcontainers.utility.FlightRecorderEventType.Field.IMAGE;
+
+/**
+ * Java Flight Recorder events are only available from Java 8u262, so recordings are made and read reflectively.
+ */
+public class FlightRecorderEventTest {
+
+    private Object recording;
+    private Path file;
+
+    @Before
+    public void startRecording() throws Exception {
+        assumeTrue("the JVM has a flight recorder", FlightRecorderEvent.isAvailable());
+
+        recording = Class.forName("jdk.jfr.Recording").newInstance();
+        for (FlightRecorderEventType type : FlightRecorderEventType.values()) {
+            recording.getClass().getMethod("enable", String.class).invoke(recording, type.getName());
+        }
+        recording.getClass().getMethod("start").invoke(recording);
+        file = Files.createTempFile("testcontainers", ".jfr");
+    }
+
+    @After
+    public void closeRecording() throws Exception {
+        if (recording != null) {
+            recording.getClass().getMethod("close").invoke(recording);
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void eventsAreRecordedWithTheirFields() throws Exception {
+        FlightRecorderEvent.begin(CONTAINER_START)
+                .with(IMAGE, "redis:3.0.2")
+                .with(CONTAINER_ID, "abc123")
+                .with(EXIT_CODE, 1)
+                .succeeded();
+        FlightRecorderEvent.begin(CONTAINER_START).failed(new IllegalStateException("no such image"));
+
+        final List<Map<String, Object>> events = stopAndRead(CONTAINER_START);
+
+        assertEquals("both events are recorded", 2, events.size());
+        assertEquals("the image is recorded", "redis:3.0.2", events.get(0).get("image"));
+        assertEquals("the container ID is recorded", "abc123", events.get(0).get("containerId"));
+        assertFalse("fields which the event does not have are ignored", events.get(0).containsKey("exitCode"));
+        assertEquals("the outcome is recorded", "success", events.get(0).get("outcome"));
+        assertEquals("a failure is recorded", "failure", events.get(1).get("outcome"));
+        assertEquals("the error is recorded", "java.lang.IllegalStateException: no such image", events.get(1).get("error"));
+    }
+
+    @Test
+    public void recordedActionsEndTheEventWithTheirOutcome() throws Exception {
+        assertEquals("the action's result is returned", "abc123",
+                FlightRecorderEvent.begin(CONTAINER_START).record(() -> "abc123"));
+        try {
+            FlightRecorderEvent.begin(CONTAINER_START).record(() -> {
+                throw new AssertionError("not started");
+            });
+            fail("the action's error is rethrown");
+        } catch (AssertionError expected) {
+            // expected
+        }
+
+        final List<Map<String, Object>> events = stopAndRead(CONTAINER_START);
+
+        assertEquals("both events are recorded", 2, events.size());
+        assertEquals("a successful action is recorded", "success", events.get(0).get("outcome"));
+        assertEquals("an error is recorded as a failure", "java.lang.AssertionError: not started", events.get(1).get("error"));
+    }
+
+    @Test
+    public void eventsAreNotRecordedWhenDisabled() throws Exception {
+        recording.getClass().getMethod("disable", String.class).invoke(recording, CONTAINER_START.getName());
+
+        assertFalse("the event type is disabled", FlightRecorderEvent.isEnabled(CONTAINER_START));
+        FlightRecorderEvent.begin(CONTAINER_START).with(IMAGE, "redis:3.0.2").succeeded();
+
+        assertTrue("no event is recorded", stopAndRead(CONTAINER_START).isEmpty());
+    }
+
+    @Test
+    public void dockerApiRequestsAndPullsAreRecorded() throws Exception {
+        try (FakeDockerEngine engine = new FakeDockerEngine().withLatency(FakeDockerEngine.Operation.START, Duration.ofMillis(100)).start()) {
+            final FakeDockerClientProviderStrategy strategy = new FakeDockerClientProviderStrategy(engine);
+            strategy.test();
+            final DockerClient client = strategy.getClient();
+
+            client.pullImageCmd("nginx:1.13").exec(new PullImageResultCallback()).awaitSuccess();
+            final String containerId = client.createContainerCmd("nginx:1.13").exec().getId();
+            client.startContainerCmd(containerId).exec();
+            client.close();
+
+            final List<Map<String, Object>> requests = stopAndRead(FlightRecorderEventType.DOCKER_API_REQUEST).stream()
+                    .filter(it -> !"PingCmd".equals(it.get("command")))
+                    .collect(Collectors.toList());
+            final List<Map<String, Object>> pulls = read(FlightRecorderEventType.IMAGE_PULL);
+
+            assertEquals("the commands are recorded in order", "PullImageCmd CreateContainerCmd StartContainerCmd",
+                    requests.stream().map(it -> (String) it.get("command")).collect(Collectors.joining(" ")));
+            assertEquals("the created container's ID is recorded", containerId, requests.get(1).get("containerId"));
+            assertEquals("the started container's ID is recorded", containerId, requests.get(2).get("containerId"));
+            assertTrue("the request's duration is recorded",
+                    ((Duration) requests.get(2).get("duration")).compareTo(Duration.ofMillis(100)) >= 0);
+            assertEquals("the pull is recorded", "nginx:1.13", pulls.get(0).get("image"));
+            assertEquals("the pull succeeded", "success", pulls.get(0).get("outcome"));
+        }
+    }
+
+    private List<Map<String, Object>> stopAndRead(FlightRecorderEventType type) throws Exception {
+        recording.getClass().getMethod("stop").invoke(recording);
+        recording.getClass().getMethod("dump", Path.class).invoke(recording, file);
+        return read(type);
+    }
+
+    /**
+     * @return the fields of each recorded event of the given type, in order
+     */
+    private List<Map<String, Object>> read(FlightRecorderEventType type) throws ReflectiveOperationException, IOException {
+        final Class<?> recordingFile = Class.forName("jdk.jfr.consumer.RecordingFile");
+        final Class<?> recordedEvent = Class.forName("jdk.jfr.consumer.RecordedEvent");
+        final Method getEventType = recordedEvent.getMethod("getEventType");
+        final Method getStartTime = recordedEvent.getMethod("getStartTime");
+        final Method getValue = recordedEvent.getMethod("getValue", String.class);
+        final Method hasField = recordedEvent.getMethod("hasField", String.class);
+
+        final List<?> events = (List<?>) recordingFile.getMethod("readAllEvents", Path.class).invoke(null, file);
+        final List<Object> matching = new ArrayList<>();
+        for (Object event : events) {
+            final Object eventType = getEventType.invoke(event);
+            if (type.getName().equals(eventType.getClass().getMethod("getName").invoke(eventType))) {
+                matching.add(event);
+            }
+        }
+        matching.sort((a, b) -> {
+            try {
+                return ((Comparable) getStartTime.invoke(a)).compareTo(getStartTime.invoke(b));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        final List<Map<String, Object>> result = new ArrayList<>();
+        for (Object event : matching) {
+            final Map<String, Object> fields = new TreeMap<>();
+            for (FlightRecorderEventType.Field field : FlightRecorderEventType.Field.values()) {
+                if ((boolean) hasField.invoke(event, field.getName())) {
+                    fields.put(field.getName(), getValue.invoke(event, field.getName()));
+                }
+            }
+            fields.put("duration", recordedEvent.getMethod("getDuration").invoke(event));
+            result.add(fields);
+        }
+        return result;
+    }
+}
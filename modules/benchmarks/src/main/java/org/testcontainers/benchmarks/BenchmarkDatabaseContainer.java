@@ -0,0 +1,46 @@
+package org.testcontainers.benchmarks;
+
+import org.testcontainers.containers.JdbcDatabaseContainer;
+
+/**
+ * A database container which runs the tiny image and connects with {@link StubDriver}, for benchmarking
+ * {@link org.testcontainers.jdbc.ContainerDatabaseDriver} without the cost of a real database.
+ */
+public class BenchmarkDatabaseContainer extends JdbcDatabaseContainer<BenchmarkDatabaseContainer> {
+
+    static final String NAME = "benchmark";
+
+    public BenchmarkDatabaseContainer(String dockerImageName) {
+        super(dockerImageName);
+    }
+
+    @Override
+    protected void configure() {
+        setCommand("top");
+    }
+
+    @Override
+    protected String getDriverClassName() {
+        return StubDriver.class.getName();
+    }
+
+    @Override
+    public String getJdbcUrl() {
+        return StubDriver.URL_PREFIX + getContainerId();
+    }
+
+    @Override
+    public String getUsername() {
+        return NAME;
+    }
+
+    @Override
+    public String getPassword() {
+        return NAME;
+    }
+
+    @Override
+    protected String getTestQueryString() {
+        return "SELECT 1";
+    }
+}
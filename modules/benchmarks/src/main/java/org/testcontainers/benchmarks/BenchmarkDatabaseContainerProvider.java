@@ -0,0 +1,22 @@
+package org.testcontainers.benchmarks;
+
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.JdbcDatabaseContainerProvider;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+/**
+ * Factory for {@link BenchmarkDatabaseContainer}s, used with <code>jdbc:tc:benchmark://...</code> URLs. The tag is
+ * ignored: the container always runs the configured tiny image.
+ */
+public class BenchmarkDatabaseContainerProvider extends JdbcDatabaseContainerProvider {
+
+    @Override
+    public boolean supports(String databaseType) {
+        return databaseType.equals(BenchmarkDatabaseContainer.NAME);
+    }
+
+    @Override
+    public JdbcDatabaseContainer newInstance(String tag) {
+        return new BenchmarkDatabaseContainer(TestcontainersConfiguration.getInstance().getTinyImage());
+    }
+}
@@ -0,0 +1,54 @@
+package org.testcontainers.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.testcontainers.jdbc.ContainerDatabaseDriver;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * Connecting through {@link ContainerDatabaseDriver} to a container which is already running, as a connection pool
+ * does once its first connection has been made. Connections come from {@link StubDriver}, so this measures the
+ * driver's own work (container lookup, locking and connection wrapping) under contention.
+ * <p>
+ * The container is started once per fork, so a Docker environment is needed to run this benchmark.
+ */
+@State(Scope.Benchmark)
+public class ContainerDatabaseDriverBenchmark {
+
+    // daemon mode, so that the container is kept for the whole run rather than stopped when its connections close
+    private static final String URL = "jdbc:tc:benchmark://hostname/benchmark?TC_DAEMON=true";
+
+    private ContainerDatabaseDriver driver;
+    private Properties info;
+
+    @Setup
+    public void startContainer() throws SQLException {
+        driver = new ContainerDatabaseDriver();
+        info = new Properties();
+        driver.connect(URL, info).close();
+    }
+
+    @TearDown
+    public void stopContainer() {
+        ContainerDatabaseDriver.killContainer(URL);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Connection connectUncontended() throws SQLException {
+        return driver.connect(URL, info);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Connection connectContended() throws SQLException {
+        return driver.connect(URL, info);
+    }
+}
@@ -0,0 +1,53 @@
+package org.testcontainers.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.testcontainers.images.builder.dockerfile.DockerfileBuilder;
+
+/**
+ * Rendering of Dockerfiles built with {@link DockerfileBuilder}.
+ */
+@State(Scope.Thread)
+public class DockerfileBuilderBenchmark {
+
+    private DockerfileBuilder builder;
+
+    @Setup
+    public void setUp() {
+        builder = populate(new DockerfileBuilder());
+    }
+
+    @Benchmark
+    public String build() {
+        return builder.build();
+    }
+
+    /**
+     * Building a Dockerfile from scratch, as an {@link org.testcontainers.images.builder.ImageFromDockerfile} does
+     * each time it is resolved.
+     */
+    @Benchmark
+    public String populateAndBuild() {
+        return populate(new DockerfileBuilder()).build();
+    }
+
+    private static DockerfileBuilder populate(DockerfileBuilder builder) {
+        builder.from("alpine:3.5")
+                .label("maintainer", "benchmarks@testcontainers.org")
+                .env("JAVA_HOME", "/usr/lib/jvm/default-jvm")
+                .env("PATH", "/usr/lib/jvm/default-jvm/bin:/usr/local/bin:/usr/bin:/bin")
+                .workDir("/app")
+                .user("root");
+        for (int i = 0; i < 20; i++) {
+            builder.run("apk add --no-cache package-" + i + " && rm -rf /var/cache/apk/*")
+                    .copy("config/file-" + i + ".properties", "/app/config/")
+                    .add("lib/library-" + i + ".jar", "/app/lib/");
+        }
+        return builder.expose(8080, 8443, 9090)
+                .volume("/data", "/logs")
+                .entryPoint("/sbin/tini", "--")
+                .cmd("java", "-jar", "/app/application.jar", "--spring.profiles.active=docker");
+    }
+}
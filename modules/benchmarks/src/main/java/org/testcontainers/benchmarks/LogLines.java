@@ -0,0 +1,28 @@
+package org.testcontainers.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Generates container output resembling a database's startup logs.
+ */
+final class LogLines {
+
+    private LogLines() {
+    }
+
+    /**
+     * @param count    number of lines
+     * @param lastLine the final line, e.g. the line a wait strategy is waiting for
+     * @return lines of output, each with a trailing newline
+     */
+    static byte[][] generate(int count, String lastLine) {
+        final byte[][] lines = new byte[count][];
+        for (int i = 0; i < count - 1; i++) {
+            lines[i] = String.format("2018-01-%02d 12:00:%02d.%03d UTC [%d] LOG:  checkpoint starting: buffers written %d (%d.%d%%)\n",
+                    i % 28 + 1, i % 60, i % 1000, 1000 + i, i * 7, i % 100, i % 10)
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+        lines[count - 1] = ("2018-01-28 12:00:00.000 UTC [1] LOG:  " + lastLine + "\n").getBytes(StandardCharsets.UTF_8);
+        return lines;
+    }
+}
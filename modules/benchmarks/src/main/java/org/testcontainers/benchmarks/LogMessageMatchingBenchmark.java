@@ -0,0 +1,59 @@
+package org.testcontainers.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.output.WaitingConsumer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Matching of container output in the way {@link org.testcontainers.containers.wait.LogMessageWaitStrategy} does:
+ * frames are delivered to a {@link WaitingConsumer}, which waits until a frame matches the strategy's regular
+ * expression. Each operation consumes the whole of a container's startup output, with the matching line last.
+ */
+@State(Scope.Thread)
+public class LogMessageMatchingBenchmark {
+
+    private static final String REGEX = ".*database system is ready to accept connections.*\\s";
+
+    @Param({"100", "1000"})
+    public int lines;
+
+    private byte[][] output;
+    private Pattern pattern;
+
+    @Setup
+    public void setUp() {
+        output = LogLines.generate(lines, "database system is ready to accept connections");
+        pattern = Pattern.compile(REGEX);
+    }
+
+    @Benchmark
+    public WaitingConsumer compiledPattern() throws TimeoutException {
+        return waitFor(frame -> pattern.matcher(frame.getUtf8String()).matches());
+    }
+
+    /**
+     * Baseline: compiling the expression for every frame, as {@link String#matches(String)} does.
+     */
+    @Benchmark
+    public WaitingConsumer stringMatches() throws TimeoutException {
+        return waitFor(frame -> frame.getUtf8String().matches(REGEX));
+    }
+
+    private WaitingConsumer waitFor(Predicate<OutputFrame> predicate) throws TimeoutException {
+        final WaitingConsumer consumer = new WaitingConsumer();
+        for (byte[] line : output) {
+            consumer.accept(new OutputFrame(OutputFrame.OutputType.STDOUT, line));
+        }
+        consumer.waitUntil(predicate, 1, TimeUnit.SECONDS, 1);
+        return consumer;
+    }
+}
@@ -0,0 +1,65 @@
+package org.testcontainers.benchmarks;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.io.output.NullOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Archiving of a directory tree by {@link MountableFile}, as done when copying files to a container or building an
+ * image. The archive is written to a stream which discards it, so that only the walk of the tree and the tar encoding
+ * are measured.
+ */
+@State(Scope.Benchmark)
+public class MountableFileTarBenchmark {
+
+    private static final int FILES_PER_DIRECTORY = 10;
+    private static final int FILE_SIZE = 4 * 1024;
+
+    @Param({"100", "1000"})
+    public int files;
+
+    private Path root;
+
+    @Setup
+    public void createTree() throws IOException {
+        root = Files.createTempDirectory("testcontainers-benchmark");
+        final byte[] content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+
+        for (int i = 0; i < files; i++) {
+            final Path directory = root.resolve("module-" + i / (FILES_PER_DIRECTORY * FILES_PER_DIRECTORY))
+                    .resolve("package-" + i / FILES_PER_DIRECTORY);
+            Files.createDirectories(directory);
+            Files.write(directory.resolve("file-" + i + ".txt"), content);
+        }
+    }
+
+    @TearDown
+    public void deleteTree() throws IOException {
+        FileUtils.deleteDirectory(root.toFile());
+    }
+
+    @Benchmark
+    public long transferTo() throws IOException {
+        final CountingOutputStream out = new CountingOutputStream(NullOutputStream.NULL_OUTPUT_STREAM);
+        try (TarArchiveOutputStream tarArchive = new TarArchiveOutputStream(out)) {
+            tarArchive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            MountableFile.forHostPath(root).transferTo(tarArchive, "/tmp/tree");
+            tarArchive.finish();
+        }
+        return out.getByteCount();
+    }
+}
@@ -0,0 +1,70 @@
+package org.testcontainers.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.output.Slf4jLogConsumer;
+import org.testcontainers.containers.output.WaitingConsumer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Handling of container output frames by the built-in consumers. Each operation is one frame, i.e. roughly one line of
+ * container output.
+ */
+@State(Scope.Thread)
+public class OutputFrameBenchmark {
+
+    static final int FRAMES = 1_000;
+
+    private static final byte[] NEEDLE = "ready to accept connections".getBytes(StandardCharsets.UTF_8);
+
+    private byte[][] lines;
+    private Slf4jLogConsumer slf4jLogConsumer;
+
+    @Setup
+    public void setUp() {
+        lines = LogLines.generate(FRAMES, "database system is ready to accept connections");
+        // logger is configured in logback.xml to discard its output, so that only the consumer is measured
+        slf4jLogConsumer = new Slf4jLogConsumer(LoggerFactory.getLogger("benchmark.container")).withPrefix("benchmark");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void decodeUtf8String(Blackhole blackhole) {
+        for (byte[] line : lines) {
+            blackhole.consume(new OutputFrame(OutputFrame.OutputType.STDOUT, line).getUtf8String());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void containsBytes(Blackhole blackhole) {
+        for (byte[] line : lines) {
+            blackhole.consume(new OutputFrame(OutputFrame.OutputType.STDOUT, line).contains(NEEDLE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void slf4jLogConsumer() {
+        for (byte[] line : lines) {
+            slf4jLogConsumer.accept(new OutputFrame(OutputFrame.OutputType.STDOUT, line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public WaitingConsumer waitingConsumer() {
+        final WaitingConsumer consumer = new WaitingConsumer();
+        for (byte[] line : lines) {
+            consumer.accept(new OutputFrame(OutputFrame.OutputType.STDOUT, line));
+        }
+        return consumer;
+    }
+}
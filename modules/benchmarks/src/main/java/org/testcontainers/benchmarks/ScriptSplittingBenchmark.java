@@ -0,0 +1,48 @@
+package org.testcontainers.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.testcontainers.ext.ScriptUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splitting of init scripts into statements, as done before running a script against a database.
+ */
+@State(Scope.Benchmark)
+public class ScriptSplittingBenchmark {
+
+    @Param({"1000", "10000"})
+    public int statements;
+
+    private String script;
+
+    @Setup
+    public void generateScript() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("/*\n * Generated schema\n */\n");
+        builder.append("CREATE TABLE bar (id INT NOT NULL, foo VARCHAR(255), description TEXT);\n");
+        for (int i = 0; i < statements; i++) {
+            builder.append("-- row ").append(i).append('\n');
+            builder.append("INSERT INTO bar (id, foo, description) VALUES (")
+                    .append(i)
+                    .append(", 'value; with a separator ")
+                    .append(i)
+                    .append("', 'a \"quoted\" description which is long enough to be typical of seed data /* not a comment */');\n");
+        }
+        script = builder.toString();
+    }
+
+    @Benchmark
+    public List<String> splitSqlScript() {
+        final List<String> result = new ArrayList<>();
+        ScriptUtils.splitSqlScript("benchmark.sql", script, ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+                ScriptUtils.DEFAULT_COMMENT_PREFIX, ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+                ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER, result);
+        return result;
+    }
+}
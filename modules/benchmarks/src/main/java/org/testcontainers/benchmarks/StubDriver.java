@@ -0,0 +1,85 @@
+package org.testcontainers.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * A JDBC driver whose connections do nothing, so that benchmarks of {@link org.testcontainers.jdbc.ContainerDatabaseDriver}
+ * measure Testcontainers rather than a database. Every call to {@link #connect(String, Properties)} returns the same
+ * connection, whose statements report success.
+ */
+public class StubDriver implements Driver {
+
+    static final String URL_PREFIX = "jdbc:benchmark:";
+
+    private static final Connection CONNECTION = stub(Connection.class);
+
+    @Override
+    public Connection connect(String url, Properties info) {
+        return acceptsURL(url) ? CONNECTION : null;
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        return url.startsWith(URL_PREFIX);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    private static <T> T stub(Class<T> type) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "stub " + type.getSimpleName();
+                case "createStatement":
+                    return stub(Statement.class);
+                default:
+                    final Class<?> returnType = method.getReturnType();
+                    if (returnType == boolean.class) {
+                        // e.g. Statement.execute, Connection.isValid
+                        return !method.getName().equals("isClosed");
+                    } else if (returnType == int.class) {
+                        return 0;
+                    } else if (returnType == long.class) {
+                        return 0L;
+                    }
+                    return null;
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(StubDriver.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
@@ -0,0 +1,72 @@
+package org.testcontainers.containers.wait;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Checks that Cassandra's native transport is accepting connections, without authenticating.
+ * <p>
+ * An OPTIONS request is sent using version 3 of the native protocol, which a ready server answers with SUPPORTED.
+ * Servers which only support older protocol versions answer with a protocol error instead, which also shows that the
+ * native transport is up.
+ */
+public class CassandraProtocolProbe extends WireProtocolProbe {
+
+    private static final int PROTOCOL_VERSION_3 = 0x03;
+    private static final int RESPONSE_FLAG = 0x80;
+
+    private static final int OPCODE_ERROR = 0x00;
+    private static final int OPCODE_OPTIONS = 0x05;
+    private static final int OPCODE_SUPPORTED = 0x06;
+
+    private static final int PROTOCOL_ERROR_CODE = 0x000A;
+
+    public CassandraProtocolProbe(String host, int port) {
+        super(host, port);
+    }
+
+    @Override
+    protected boolean handshake(DataInputStream in, DataOutputStream out) throws IOException {
+        // header: version, flags, stream id (2 bytes), opcode, body length (4 bytes)
+        out.writeByte(PROTOCOL_VERSION_3);
+        out.writeByte(0);
+        out.writeShort(0);
+        out.writeByte(OPCODE_OPTIONS);
+        out.writeInt(0);
+        out.flush();
+
+        final int version = in.readUnsignedByte();
+        if ((version & RESPONSE_FLAG) == 0) {
+            return false;
+        }
+
+        in.readUnsignedByte();
+        if ((version & ~RESPONSE_FLAG) >= PROTOCOL_VERSION_3) {
+            in.readShort();
+        } else {
+            // protocol versions 1 and 2 have a single byte stream id
+            in.readUnsignedByte();
+        }
+        final int opcode = in.readUnsignedByte();
+        in.readInt();
+
+        if (opcode == OPCODE_SUPPORTED) {
+            return true;
+        }
+        if (opcode == OPCODE_ERROR) {
+            final int errorCode = in.readInt();
+            if (errorCode == PROTOCOL_ERROR_CODE) {
+                // an older server, which has rejected our protocol version
+                return true;
+            }
+
+            final byte[] message = new byte[in.readUnsignedShort()];
+            in.readFully(message);
+            throw new IllegalStateException("Cassandra is not accepting connections yet: " +
+                    new String(message, StandardCharsets.UTF_8));
+        }
+        return false;
+    }
+}
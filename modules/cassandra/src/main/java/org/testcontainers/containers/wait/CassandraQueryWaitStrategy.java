@@ -8,13 +8,15 @@ import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.delegate.CassandraDatabaseDelegate;
 import org.testcontainers.delegate.DatabaseDelegate;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import static org.rnorth.ducttape.unreliables.Unreliables.retryUntilSuccess;
 
 /**
- * Waits until Cassandra returns its version
+ * Waits until Cassandra's native transport answers a protocol-level probe, then until Cassandra returns its version
  *
  * @author Eugeny Karpov
  */
@@ -23,13 +25,20 @@ public class CassandraQueryWaitStrategy extends GenericContainer.AbstractWaitStr
     private static final String SELECT_VERSION_QUERY = "SELECT release_version FROM system.local";
     private static final String TIMEOUT_ERROR = "Timed out waiting for Cassandra to be accessible for query execution";
 
+    private static final Duration PROBE_INITIAL_INTERVAL = Duration.ofMillis(25);
+    private static final Duration PROBE_MAX_INTERVAL = Duration.ofSeconds(1);
+
     @Override
     protected void waitUntilReady() {
         CassandraContainer cassandraContainer = getCassandraContainer();
+        final long deadline = System.nanoTime() + startupTimeout.toNanos();
+
+        waitForNativeTransport(cassandraContainer);
 
         // execute select version query until success or timeout
+        final long remainingMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()), 1);
         try {
-            retryUntilSuccess((int) startupTimeout.getSeconds(), TimeUnit.SECONDS, () -> {
+            retryUntilSuccess((int) remainingMillis, TimeUnit.MILLISECONDS, () -> {
                 getRateLimiter().doWhenReady(() -> {
                     try (DatabaseDelegate databaseDelegate = getDatabaseDelegate(cassandraContainer)) {
                         databaseDelegate.execute(SELECT_VERSION_QUERY, "", 1, false, false);
@@ -42,6 +51,23 @@ public class CassandraQueryWaitStrategy extends GenericContainer.AbstractWaitStr
         }
     }
 
+    private void waitForNativeTransport(CassandraContainer cassandraContainer) {
+        final CassandraProtocolProbe probe = new CassandraProtocolProbe(
+                cassandraContainer.getContainerIpAddress(), cassandraContainer.getMappedPort(CassandraContainer.CQL_PORT));
+
+        final Future<Void> future = ProbeScheduler.getInstance()
+                .schedule(probe, startupTimeout, getPollingSchedule(PROBE_INITIAL_INTERVAL, PROBE_MAX_INTERVAL));
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            throw new ContainerLaunchException(TIMEOUT_ERROR, e);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for Cassandra", e);
+        }
+    }
+
     /**
      * Cast generic container to Cassandra container or throw exception
      *
@@ -0,0 +1,137 @@
+package org.testcontainers.containers.wait;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.fail;
+
+public class CassandraProtocolProbeTest {
+
+    private static final int OPCODE_OPTIONS = 0x05;
+
+    private ServerSocket server;
+    private Thread acceptor;
+    private volatile byte[] reply;
+    private volatile int requestOpcode = -1;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        acceptor = new Thread(() -> {
+            while (!server.isClosed()) {
+                try (Socket socket = server.accept()) {
+                    // read the request header, then replay the canned response
+                    final InputStream in = socket.getInputStream();
+                    final byte[] header = new byte[9];
+                    int read = 0;
+                    while (read < header.length) {
+                        final int count = in.read(header, read, header.length - read);
+                        if (count < 0) {
+                            break;
+                        }
+                        read += count;
+                    }
+                    requestOpcode = header[4];
+
+                    final OutputStream out = socket.getOutputStream();
+                    out.write(reply);
+                    out.flush();
+                    socket.shutdownOutput();
+                    // wait for the client to hang up
+                    in.read();
+                } catch (IOException ignored) {
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+        acceptor.join(1000);
+    }
+
+    @Test
+    public void passesOnSupported() throws Exception {
+        // SUPPORTED, with an empty string multimap as the body
+        reply = frame(0x83, 0x06, new byte[]{0, 0});
+
+        assertTrue("the probe passes when the server answers SUPPORTED", probe().isReady());
+        assertEquals("an OPTIONS request is sent", OPCODE_OPTIONS, requestOpcode);
+    }
+
+    @Test
+    public void passesOnProtocolErrorFromOlderServer() throws Exception {
+        reply = frame(0x82, 0x00, errorBody(0x000A, "Invalid or unsupported protocol version: 3"));
+
+        assertTrue("the probe passes when an older server rejects the protocol version", probe().isReady());
+    }
+
+    @Test
+    public void reportsServerWhichIsBootstrapping() throws Exception {
+        reply = frame(0x83, 0x00, errorBody(0x1002, "Cannot accept requests while bootstrapping"));
+
+        try {
+            probe().isReady();
+            fail("the probe should not pass while the server is bootstrapping");
+        } catch (IllegalStateException e) {
+            assertTrue("the server's error message is reported", e.getMessage().contains("bootstrapping"));
+        }
+    }
+
+    @Test
+    public void failsOnGarbage() throws Exception {
+        reply = "HTTP/1.1 400 Bad Request\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
+        assertFalse("the probe fails when the server does not speak the native protocol", probe().isReady());
+    }
+
+    private CassandraProtocolProbe probe() {
+        return new CassandraProtocolProbe("127.0.0.1", server.getLocalPort());
+    }
+
+    /**
+     * @return a response frame; protocol versions 1 and 2 have a single byte stream id, later versions two bytes
+     */
+    private static byte[] frame(int version, int opcode, byte[] body) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(version);
+        out.writeByte(0);
+        if ((version & 0x7f) >= 3) {
+            out.writeShort(0);
+        } else {
+            out.writeByte(0);
+        }
+        out.writeByte(opcode);
+        out.writeInt(body.length);
+        out.write(body);
+        return bytes.toByteArray();
+    }
+
+    private static byte[] errorBody(int errorCode, String message) throws IOException {
+        final byte[] messageBytes = message.getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(errorCode);
+        out.writeShort(messageBytes.length);
+        out.write(messageBytes);
+        return bytes.toByteArray();
+    }
+}
@@ -5,12 +5,15 @@ import com.zaxxer.hikari.HikariDataSource;
 import org.junit.Rule;
 import org.junit.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.LogMessageWaitStrategy;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
 
 /**
  * @author richardnorth
@@ -36,4 +39,23 @@ public class SimplePostgreSQLTest {
         int resultSetInt = resultSet.getInt(1);
         assertEquals("A basic SELECT query succeeds", 1, resultSetInt);
     }
+
+    @Test
+    public void testCustomWaitStrategyIsUsed() {
+        final AtomicBoolean waited = new AtomicBoolean();
+        final LogMessageWaitStrategy waitStrategy = new LogMessageWaitStrategy() {
+            @Override
+            protected void waitUntilReady() {
+                waited.set(true);
+                super.waitUntilReady();
+            }
+        };
+
+        try (PostgreSQLContainer container = new PostgreSQLContainer()) {
+            container.waitingFor(waitStrategy.withRegEx(".*database system is ready to accept connections.*\\s").withTimes(2));
+            container.start();
+
+            assertTrue("the wait strategy given to waitingFor is used", waited.get());
+        }
+    }
 }
@@ -6,6 +6,7 @@ import org.rnorth.ducttape.ratelimits.RateLimiter;
 import org.rnorth.ducttape.ratelimits.RateLimiterBuilder;
 import org.rnorth.ducttape.unreliables.Unreliables;
 import org.testcontainers.containers.traits.LinkableContainer;
+import org.testcontainers.containers.wait.ProbeScheduler;
 import org.testcontainers.delegate.DatabaseDelegate;
 import org.testcontainers.ext.ScriptUtils;
 import org.testcontainers.jdbc.JdbcDatabaseDelegate;
@@ -14,9 +15,12 @@ import org.testcontainers.utility.MountableFile;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -36,6 +40,10 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
             .withConstantThroughput()
             .build();
 
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final Duration PROBE_INITIAL_INTERVAL = Duration.ofMillis(25);
+    private static final Duration PROBE_MAX_INTERVAL = Duration.ofSeconds(1);
+
     public JdbcDatabaseContainer(String dockerImageName) {
         super(dockerImageName);
     }
@@ -72,6 +80,15 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
      */
     protected abstract String getTestQueryString();
 
+    /**
+     * @return a lightweight probe, typically speaking the database's wire protocol, which passes once the database is
+     * accepting connections; or null to rely on opening JDBC connections alone. When a probe is provided, a JDBC
+     * connection is only opened (to run the test query) after the probe has passed.
+     */
+    protected ProbeScheduler.Probe getReadinessProbe() {
+        return null;
+    }
+
     public SELF withUsername(String username) {
         throw new UnsupportedOperationException();
     }
@@ -92,10 +109,18 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
 
     @Override
     protected void waitUntilContainerStarted() {
+        final long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+        final ProbeScheduler.Probe readinessProbe = getReadinessProbe();
+        if (readinessProbe != null) {
+            waitForReadinessProbe(readinessProbe);
+        }
+
         // Repeatedly try and open a connection to the DB and execute a test query
 
         logger().info("Waiting for database connection to become available at {} using query '{}'", getJdbcUrl(), getTestQueryString());
-        Unreliables.retryUntilSuccess(120, TimeUnit.SECONDS, () -> {
+        final long remainingMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()), 1);
+        Unreliables.retryUntilSuccess((int) remainingMillis, TimeUnit.MILLISECONDS, () -> {
 
             if (!isRunning()) {
                 throw new ContainerLaunchException("Container failed to start");
@@ -114,6 +139,25 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
         });
     }
 
+    private void waitForReadinessProbe(ProbeScheduler.Probe readinessProbe) {
+        logger().info("Waiting for database to accept connections at {}", getJdbcUrl());
+
+        final Future<Void> probe = ProbeScheduler.getInstance()
+                .schedule(readinessProbe, STARTUP_TIMEOUT, PROBE_INITIAL_INTERVAL, PROBE_MAX_INTERVAL);
+        try {
+            probe.get();
+        } catch (ExecutionException e) {
+            if (!isRunning()) {
+                throw new ContainerLaunchException("Container failed to start");
+            }
+            throw new ContainerLaunchException("Timed out waiting for database to accept connections at " + getJdbcUrl(), e);
+        } catch (InterruptedException e) {
+            probe.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for database to accept connections", e);
+        }
+    }
+
     @Override
     protected void containerIsStarted(InspectContainerResponse containerInfo) {
         runInitScriptIfRequired();
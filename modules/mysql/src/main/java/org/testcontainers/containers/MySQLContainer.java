@@ -1,6 +1,8 @@
 package org.testcontainers.containers;
 
 import org.jetbrains.annotations.NotNull;
+import org.testcontainers.containers.wait.MySQLProtocolProbe;
+import org.testcontainers.containers.wait.ProbeScheduler;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -75,6 +77,11 @@ public class MySQLContainer<SELF extends MySQLContainer<SELF>> extends JdbcDatab
         return "SELECT 1";
     }
 
+    @Override
+    protected ProbeScheduler.Probe getReadinessProbe() {
+        return new MySQLProtocolProbe(getContainerIpAddress(), getMappedPort(MYSQL_PORT));
+    }
+
     public SELF withConfigurationOverride(String s) {
         parameters.put(MY_CNF_CONFIG_OVERRIDE_PARAM_NAME, s);
         return self();
@@ -0,0 +1,49 @@
+package org.testcontainers.containers.wait;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Checks that a MySQL server is accepting connections, without authenticating.
+ * <p>
+ * A MySQL server greets each new connection with an initial handshake packet. A ready server sends a protocol 10
+ * handshake, while a server which cannot accept the connection sends an error packet instead.
+ */
+public class MySQLProtocolProbe extends WireProtocolProbe {
+
+    private static final int PROTOCOL_VERSION_10 = 0x0a;
+    private static final int ERROR_PACKET = 0xff;
+
+    private static final int MAX_PACKET_READ = 8192;
+
+    public MySQLProtocolProbe(String host, int port) {
+        super(host, port);
+    }
+
+    @Override
+    protected boolean handshake(DataInputStream in, DataOutputStream out) throws IOException {
+        // packet header: 3 byte little-endian payload length, then a sequence number
+        final int length = in.readUnsignedByte() | in.readUnsignedByte() << 8 | in.readUnsignedByte() << 16;
+        in.readUnsignedByte();
+
+        final byte[] payload = new byte[Math.min(length, MAX_PACKET_READ)];
+        in.readFully(payload);
+        if (payload.length == 0) {
+            return false;
+        }
+
+        final int packetType = payload[0] & 0xff;
+        if (packetType == PROTOCOL_VERSION_10) {
+            return true;
+        }
+        if (packetType == ERROR_PACKET) {
+            // error code (2 bytes), then the message
+            final int messageStart = Math.min(3, payload.length);
+            throw new IllegalStateException("MySQL is not accepting connections yet: " +
+                    new String(payload, messageStart, payload.length - messageStart, StandardCharsets.UTF_8));
+        }
+        return false;
+    }
+}
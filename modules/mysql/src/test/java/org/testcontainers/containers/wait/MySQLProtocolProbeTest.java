@@ -0,0 +1,108 @@
+package org.testcontainers.containers.wait;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertThrows;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.fail;
+
+public class MySQLProtocolProbeTest {
+
+    private ServerSocket server;
+    private Thread acceptor;
+    private volatile byte[] reply;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        acceptor = new Thread(() -> {
+            while (!server.isClosed()) {
+                try (Socket socket = server.accept()) {
+                    final OutputStream out = socket.getOutputStream();
+                    out.write(reply);
+                    out.flush();
+                    socket.shutdownOutput();
+                    // wait for the client to hang up
+                    socket.getInputStream().read();
+                } catch (IOException ignored) {
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+        acceptor.join(1000);
+    }
+
+    @Test
+    public void passesOnInitialHandshake() throws Exception {
+        final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        payload.write(0x0a);
+        writeString(payload, "5.7.20");
+        payload.write(0);
+        // connection id, then the first part of the auth plugin data
+        payload.write(new byte[]{1, 0, 0, 0, 'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 0});
+        reply = packet(payload.toByteArray());
+
+        assertTrue("the probe passes when the server sends a protocol 10 handshake", new MySQLProtocolProbe("127.0.0.1", server.getLocalPort()).isReady());
+    }
+
+    @Test
+    public void reportsErrorPacket() throws Exception {
+        final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        payload.write(0xff);
+        // ER_CON_COUNT_ERROR, little-endian
+        payload.write(0x10);
+        payload.write(0x04);
+        writeString(payload, "Too many connections");
+        reply = packet(payload.toByteArray());
+
+        try {
+            new MySQLProtocolProbe("127.0.0.1", server.getLocalPort()).isReady();
+            fail("the probe should not pass when the server refuses the connection");
+        } catch (IllegalStateException e) {
+            assertTrue("the server's error message is reported", e.getMessage().contains("Too many connections"));
+        }
+    }
+
+    @Test
+    public void failsOnGarbage() {
+        reply = "HTTP/1.1 400 Bad Request\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
+        assertThrows("the probe fails when the server does not speak the MySQL protocol", EOFException.class,
+                () -> new MySQLProtocolProbe("127.0.0.1", server.getLocalPort()).isReady());
+    }
+
+    /**
+     * @return the payload with a packet header: a 3 byte little-endian length, then sequence number 0
+     */
+    private static byte[] packet(byte[] payload) {
+        final ByteArrayOutputStream packet = new ByteArrayOutputStream();
+        packet.write(payload.length & 0xff);
+        packet.write((payload.length >> 8) & 0xff);
+        packet.write((payload.length >> 16) & 0xff);
+        packet.write(0);
+        packet.write(payload, 0, payload.length);
+        return packet.toByteArray();
+    }
+
+    private static void writeString(ByteArrayOutputStream stream, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        stream.write(bytes, 0, bytes.length);
+    }
+}
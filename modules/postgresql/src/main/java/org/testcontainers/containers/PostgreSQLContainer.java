@@ -1,14 +1,13 @@
 package org.testcontainers.containers;
 
 import org.jetbrains.annotations.NotNull;
-import org.testcontainers.containers.wait.LogMessageWaitStrategy;
+import org.testcontainers.containers.wait.PostgreSQLProtocolProbe;
+import org.testcontainers.containers.wait.ProbeScheduler;
+import org.testcontainers.containers.wait.WaitStrategy;
 
-import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
 
-import static java.time.temporal.ChronoUnit.SECONDS;
-
 /**
  * @author richardnorth
  */
@@ -19,6 +18,7 @@ public class PostgreSQLContainer<SELF extends PostgreSQLContainer<SELF>> extends
     private String databaseName = "test";
     private String username = "test";
     private String password = "test";
+    private final WaitStrategy defaultWaitStrategy;
 
     public PostgreSQLContainer() {
         this(IMAGE + ":latest");
@@ -26,10 +26,7 @@ public class PostgreSQLContainer<SELF extends PostgreSQLContainer<SELF>> extends
 
     public PostgreSQLContainer(final String dockerImageName) {
         super(dockerImageName);
-        this.waitStrategy = new LogMessageWaitStrategy()
-                .withRegEx(".*database system is ready to accept connections.*\\s")
-                .withTimes(2)
-                .withStartupTimeout(Duration.of(60, SECONDS));
+        this.defaultWaitStrategy = this.waitStrategy;
     }
 
     @NotNull
@@ -96,8 +93,20 @@ public class PostgreSQLContainer<SELF extends PostgreSQLContainer<SELF>> extends
         return self();
     }
 
+    /**
+     * Wait with the strategy given to {@link #waitingFor}, if any; otherwise probe the server and run the test query.
+     */
     @Override
     protected void waitUntilContainerStarted() {
-        getWaitStrategy().waitUntilReady(this);
+        if (getWaitStrategy() != defaultWaitStrategy) {
+            getWaitStrategy().waitUntilReady(this);
+        } else {
+            super.waitUntilContainerStarted();
+        }
+    }
+
+    @Override
+    protected ProbeScheduler.Probe getReadinessProbe() {
+        return new PostgreSQLProtocolProbe(getContainerIpAddress(), getMappedPort(POSTGRESQL_PORT), username, databaseName);
     }
 }
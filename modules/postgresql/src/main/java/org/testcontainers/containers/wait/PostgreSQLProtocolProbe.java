@@ -0,0 +1,96 @@
+package org.testcontainers.containers.wait;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Checks that a PostgreSQL server is accepting connections, without authenticating.
+ * <p>
+ * An SSLRequest is sent first; if the server declines SSL, a StartupMessage follows. A ready server answers the
+ * StartupMessage with an authentication request, while a server which is still starting up (or shutting down)
+ * answers with an error.
+ */
+public class PostgreSQLProtocolProbe extends WireProtocolProbe {
+
+    private static final int SSL_REQUEST_CODE = 80877103;
+    private static final int PROTOCOL_VERSION_3 = 196608;
+
+    private final String username;
+    private final String databaseName;
+
+    public PostgreSQLProtocolProbe(String host, int port, String username, String databaseName) {
+        super(host, port);
+        this.username = username;
+        this.databaseName = databaseName;
+    }
+
+    @Override
+    protected boolean handshake(DataInputStream in, DataOutputStream out) throws IOException {
+        out.writeInt(8);
+        out.writeInt(SSL_REQUEST_CODE);
+        out.flush();
+
+        final int sslResponse = in.read();
+        if (sslResponse == 'S') {
+            // the server wants to negotiate SSL; having got this far, leave the rest to a real client
+            return true;
+        }
+        if (sslResponse != 'N') {
+            return false;
+        }
+
+        final ByteArrayOutputStream parameters = new ByteArrayOutputStream();
+        writeCString(parameters, "user");
+        writeCString(parameters, username);
+        writeCString(parameters, "database");
+        writeCString(parameters, databaseName);
+        parameters.write(0);
+
+        out.writeInt(8 + parameters.size());
+        out.writeInt(PROTOCOL_VERSION_3);
+        parameters.writeTo(out);
+        out.flush();
+
+        final int messageType = in.read();
+        if (messageType == 'R') {
+            // an authentication request: the server is ready to accept this connection
+            return true;
+        }
+        if (messageType == 'E') {
+            throw new IllegalStateException("PostgreSQL is not accepting connections yet: " + readErrorMessage(in));
+        }
+        return false;
+    }
+
+    private static void writeCString(ByteArrayOutputStream stream, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        stream.write(bytes, 0, bytes.length);
+        stream.write(0);
+    }
+
+    /**
+     * Read the message field of an ErrorResponse.
+     */
+    private static String readErrorMessage(DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        final byte[] body = new byte[Math.min(Math.max(length - 4, 0), 8192)];
+        in.readFully(body);
+
+        int position = 0;
+        while (position < body.length && body[position] != 0) {
+            final byte fieldType = body[position++];
+            int end = position;
+            while (end < body.length && body[end] != 0) {
+                end++;
+            }
+            if (fieldType == 'M') {
+                return new String(body, position, end - position, StandardCharsets.UTF_8);
+            }
+            position = end + 1;
+        }
+        return "(no message)";
+    }
+}
@@ -0,0 +1,143 @@
+package org.testcontainers.containers.wait;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.fail;
+
+public class PostgreSQLProtocolProbeTest {
+
+    private ServerSocket server;
+    private Thread acceptor;
+    private volatile byte[] reply;
+    private final ByteArrayOutputStream request = new ByteArrayOutputStream();
+
+    @Before
+    public void setUp() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        acceptor = new Thread(() -> {
+            while (!server.isClosed()) {
+                try (Socket socket = server.accept()) {
+                    // replay the whole conversation up front, then record what the probe sent until it hangs up
+                    final OutputStream out = socket.getOutputStream();
+                    out.write(reply);
+                    out.flush();
+                    socket.shutdownOutput();
+
+                    final InputStream in = socket.getInputStream();
+                    int b;
+                    while ((b = in.read()) >= 0) {
+                        synchronized (request) {
+                            request.write(b);
+                        }
+                    }
+                } catch (IOException ignored) {
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+        acceptor.join(1000);
+    }
+
+    @Test
+    public void passesOnAuthenticationRequest() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        // SSL declined, then AuthenticationMD5Password
+        out.writeByte('N');
+        out.writeByte('R');
+        out.writeInt(12);
+        out.writeInt(5);
+        out.write(new byte[]{1, 2, 3, 4});
+        reply = bytes.toByteArray();
+
+        assertTrue("the probe passes when the server asks the client to authenticate", probe().isReady());
+
+        final DataInputStream sent = new DataInputStream(new ByteArrayInputStream(awaitRequest(8)));
+        assertEquals("an SSLRequest is sent first", 8, sent.readInt());
+        assertEquals("an SSLRequest is sent first", 80877103, sent.readInt());
+    }
+
+    @Test
+    public void passesWhenServerOffersSsl() throws Exception {
+        reply = new byte[]{'S'};
+
+        assertTrue("the probe passes when the server is ready to negotiate SSL", probe().isReady());
+    }
+
+    @Test
+    public void reportsServerWhichIsStartingUp() throws Exception {
+        final ByteArrayOutputStream fields = new ByteArrayOutputStream();
+        writeField(fields, 'S', "FATAL");
+        writeField(fields, 'C', "57P03");
+        writeField(fields, 'M', "the database system is starting up");
+        fields.write(0);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('N');
+        out.writeByte('E');
+        out.writeInt(4 + fields.size());
+        fields.writeTo(out);
+        reply = bytes.toByteArray();
+
+        try {
+            probe().isReady();
+            fail("the probe should not pass while the server is starting up");
+        } catch (IllegalStateException e) {
+            assertTrue("the server's error message is reported", e.getMessage().contains("the database system is starting up"));
+        }
+    }
+
+    @Test
+    public void failsOnGarbage() throws Exception {
+        reply = "HTTP/1.1 400 Bad Request\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
+        assertFalse("the probe fails when the server does not speak the PostgreSQL protocol", probe().isReady());
+    }
+
+    private PostgreSQLProtocolProbe probe() {
+        return new PostgreSQLProtocolProbe("127.0.0.1", server.getLocalPort(), "test", "test");
+    }
+
+    private byte[] awaitRequest(int length) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            synchronized (request) {
+                if (request.size() >= length) {
+                    return request.toByteArray();
+                }
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("the probe sent fewer than " + length + " bytes");
+    }
+
+    private static void writeField(ByteArrayOutputStream stream, char type, String value) {
+        stream.write(type);
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        stream.write(bytes, 0, bytes.length);
+        stream.write(0);
+    }
+}
@@ -193,6 +193,8 @@ public class BrowserWebDriverContainer<SELF extends BrowserWebDriverContainer<SE
 
     @Override
     protected void failed(Throwable e, Description description) {
+        super.failed(e, description);
+
         switch (recordingMode) {
             case RECORD_FAILING:
             case RECORD_ALL: